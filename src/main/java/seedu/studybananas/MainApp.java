@@ -3,6 +3,9 @@ package seedu.studybananas;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
@@ -10,9 +13,12 @@ import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.studybananas.commons.core.Config;
 import seedu.studybananas.commons.core.LogsCenter;
+import seedu.studybananas.commons.core.StorageFormat;
 import seedu.studybananas.commons.core.Version;
 import seedu.studybananas.commons.exceptions.DataConversionException;
 import seedu.studybananas.commons.util.ConfigUtil;
+import seedu.studybananas.commons.util.FileUtil;
+import seedu.studybananas.commons.util.JsonUtil;
 import seedu.studybananas.commons.util.StringUtil;
 import seedu.studybananas.logic.Logic;
 import seedu.studybananas.logic.LogicManager;
@@ -29,16 +35,22 @@ import seedu.studybananas.model.systemlevelmodel.UserPrefs;
 import seedu.studybananas.model.util.SampleDataUtil;
 import seedu.studybananas.storage.JsonUserPrefsStorage;
 import seedu.studybananas.storage.Storage;
+import seedu.studybananas.storage.StorageFormatConverter;
 import seedu.studybananas.storage.StorageManager;
 import seedu.studybananas.storage.UserPrefsStorage;
+import seedu.studybananas.storage.WriteBehindStorageManager;
+import seedu.studybananas.storage.flashcardstorage.BinaryFlashcardBankStorage;
 import seedu.studybananas.storage.flashcardstorage.FlashcardBankStorage;
 import seedu.studybananas.storage.flashcardstorage.JsonFlashcardBankStorage;
+import seedu.studybananas.storage.flashcardstorage.PagedFlashcardBankStorage;
+import seedu.studybananas.storage.quizstorage.BinaryQuizRecordsStorage;
 import seedu.studybananas.storage.quizstorage.JsonQuizRecordsStorage;
 import seedu.studybananas.storage.quizstorage.QuizRecordsStorage;
-import seedu.studybananas.storage.schedulestorage.JsonScheduleStorage;
+import seedu.studybananas.storage.schedulestorage.JournalScheduleStorage;
 import seedu.studybananas.storage.schedulestorage.ScheduleStorage;
 import seedu.studybananas.ui.Ui;
 import seedu.studybananas.ui.UiManager;
+import seedu.studybananas.ui.util.UiClock;
 
 /**
  * Runs the application.
@@ -62,18 +74,21 @@ public class MainApp extends Application {
 
         AppParameters appParameters = AppParameters.parse(getParameters());
         config = initConfig(appParameters.getConfigPath());
+        JsonUtil.setCompactOutput(config.isCompactJsonEnabled());
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        ScheduleStorage scheduleStorage = new JsonScheduleStorage(userPrefs.getScheduleFilePath());
-        FlashcardBankStorage flashcardBankStorage = new JsonFlashcardBankStorage(userPrefs.getFlashcardBankFilePath());
-        QuizRecordsStorage quizRecordsStorage = new JsonQuizRecordsStorage(userPrefs.getQuizRecordsFilePath());
-
-        storage = new StorageManager(scheduleStorage, flashcardBankStorage,
-                quizRecordsStorage, userPrefsStorage);
+        int backupCount = config.getBackupCount();
+        ScheduleStorage scheduleStorage = new JournalScheduleStorage(userPrefs.getScheduleFilePath(),
+                JournalScheduleStorage.DEFAULT_COMPACTION_THRESHOLD, backupCount);
 
         initLogging(config);
 
+        FlashcardBankStorage flashcardBankStorage = initFlashcardBankStorage(userPrefs, backupCount);
+        QuizRecordsStorage quizRecordsStorage = initQuizRecordsStorage(userPrefs, backupCount);
+
+        storage = initStorage(config, scheduleStorage, flashcardBankStorage, quizRecordsStorage, userPrefsStorage);
+
         model = initModelManager(storage, userPrefs);
 
         logic = new LogicManager(model, storage);
@@ -81,71 +96,199 @@ public class MainApp extends Application {
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the {@code FlashcardBankStorage} for the storage format in {@code userPrefs}.
+     * If the data file of the other format is newer, e.g. after the format was changed, its data is converted first.
+     */
+    private FlashcardBankStorage initFlashcardBankStorage(ReadOnlyUserPrefs userPrefs, int backupCount) {
+        Path filePath = userPrefs.getFlashcardBankFilePath();
+        FlashcardBankStorage jsonStorage = new JsonFlashcardBankStorage(filePath, backupCount);
+        Path binaryFilePath = StorageFormat.BINARY.toFilePath(filePath);
+        FlashcardBankStorage binaryStorage = userPrefs.getStorageFormat() == StorageFormat.PAGED
+                ? new PagedFlashcardBankStorage(binaryFilePath, backupCount)
+                : new BinaryFlashcardBankStorage(binaryFilePath, backupCount);
+
+        boolean isBinary = userPrefs.getStorageFormat() != StorageFormat.JSON;
+        FlashcardBankStorage selected = isBinary ? binaryStorage : jsonStorage;
+        FlashcardBankStorage other = isBinary ? jsonStorage : binaryStorage;
+        convertIfNewer(other.getFlashcardBankFilePath(), selected.getFlashcardBankFilePath(), () ->
+                StorageFormatConverter.convertFlashcardBank(other, selected));
+        return selected;
+    }
+
+    /**
+     * Returns the {@code QuizRecordsStorage} for the storage format in {@code userPrefs}.
+     * If the data file of the other format is newer, e.g. after the format was changed, its data is converted first.
+     */
+    private QuizRecordsStorage initQuizRecordsStorage(ReadOnlyUserPrefs userPrefs, int backupCount) {
+        Path filePath = userPrefs.getQuizRecordsFilePath();
+        QuizRecordsStorage jsonStorage = new JsonQuizRecordsStorage(filePath, backupCount);
+        QuizRecordsStorage binaryStorage =
+                new BinaryQuizRecordsStorage(StorageFormat.BINARY.toFilePath(filePath), backupCount);
+
+        boolean isBinary = userPrefs.getStorageFormat() != StorageFormat.JSON;
+        QuizRecordsStorage selected = isBinary ? binaryStorage : jsonStorage;
+        QuizRecordsStorage other = isBinary ? jsonStorage : binaryStorage;
+        convertIfNewer(other.getQuizRecordsFilePath(), selected.getQuizRecordsFilePath(), () ->
+                StorageFormatConverter.convertQuizRecords(other, selected));
+        return selected;
+    }
+
+    /**
+     * Runs {@code conversion} if {@code sourceFilePath} is newer than {@code targetFilePath}.
+     * The target data file is left as it is if the conversion fails.
+     */
+    private void convertIfNewer(Path sourceFilePath, Path targetFilePath, DataFileConversion conversion) {
+        try {
+            if (!sourceFilePath.equals(targetFilePath) && FileUtil.isNewerThan(sourceFilePath, targetFilePath)) {
+                logger.info("Converting " + sourceFilePath + " to " + targetFilePath);
+                conversion.convert();
+            }
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Could not convert " + sourceFilePath + " to " + targetFilePath + ": " + e);
+        }
+    }
+
+    /**
+     * Returns a {@code StorageManager} over the given storages, which saves in the background
+     * if write-behind saving is enabled in {@code config}.
+     */
+    private Storage initStorage(Config config, ScheduleStorage scheduleStorage,
+                                FlashcardBankStorage flashcardBankStorage, QuizRecordsStorage quizRecordsStorage,
+                                UserPrefsStorage userPrefsStorage) {
+        if (config.isWriteBehindEnabled()) {
+            logger.info("Using write-behind saving");
+            return new WriteBehindStorageManager(scheduleStorage, flashcardBankStorage,
+                    quizRecordsStorage, userPrefsStorage);
+        }
+        return new StorageManager(scheduleStorage, flashcardBankStorage, quizRecordsStorage, userPrefsStorage);
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s and {@code userPrefs}. <br>
-     * The data from the sample storages will be used instead if {@code storage}'s is not found,
-     * or an empty storages will be used instead if errors occur when reading {@code storage}'s.
+     * The data from the sample storages will be used instead if {@code storage}'s is not found.
+     * If {@code storage}'s is corrupted, its most recent readable backup will be used instead,
+     * or an empty storage if there is none. Empty storages will be used if errors occur when reading.
+     * The schedule, flashcard bank and quiz records are loaded concurrently.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        CompletableFuture<ReadOnlyFlashcardBank> flashcardBankLoad = CompletableFuture.supplyAsync(() ->
+                timeLoad("FlashcardBank", () -> initFlashcardBank(storage)));
+        CompletableFuture<ReadOnlyQuizRecords> quizRecordsLoad = CompletableFuture.supplyAsync(() ->
+                timeLoad("Quiz Records", () -> initQuizRecords(storage)));
+        ReadOnlySchedule initialScheduleData = timeLoad("Schedule", () -> initSchedule(storage));
 
-        Optional<ReadOnlySchedule> scheduleOptional;
-        Optional<ReadOnlyFlashcardBank> flashcardBankOptional;
-        Optional<ReadOnlyQuizRecords> quizRecordsOptional;
+        return new ModelManager(userPrefs, initialScheduleData,
+                flashcardBankLoad.join(), quizRecordsLoad.join());
+    }
 
-        ReadOnlySchedule initialScheduleData;
-        ReadOnlyFlashcardBank initialFlashcardBankData;
-        ReadOnlyQuizRecords initialQuizRecordsData;
+    /**
+     * Returns the data loaded by {@code loader}, logging how long it took to load.
+     */
+    private static <T> T timeLoad(String storeName, Supplier<T> loader) {
+        long startTime = System.nanoTime();
+        T data = loader.get();
+        logger.info(String.format("Loaded %s in %d ms", storeName,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime)));
+        return data;
+    }
 
+    private ReadOnlySchedule initSchedule(Storage storage) {
         try {
-            scheduleOptional = storage.readSchedule();
+            Optional<ReadOnlySchedule> scheduleOptional = storage.readSchedule();
 
             if (scheduleOptional.isEmpty()) {
                 logger.info("Schedule data file not found. Will be starting with a sample Schedule");
             }
 
-            initialScheduleData = scheduleOptional.orElseGet(SampleDataUtil::getSampleSchedule);
+            return scheduleOptional.orElseGet(SampleDataUtil::getSampleSchedule);
         } catch (DataConversionException e) {
-            logger.warning("Data file not in the correct format. Will be starting with an empty Schedule");
-            initialScheduleData = new Schedule();
+            logger.warning("Data file not in the correct format. Will be starting with the data up to the "
+                    + "corrupted part, a backup or an empty Schedule");
+            return readScheduleUpToCorruption(storage)
+                    .or(() -> readLatestBackup(storage.getScheduleFilePath(), storage::readSchedule))
+                    .orElseGet(Schedule::new);
         } catch (IOException e) {
             logger.warning("Problem while reading from the file. Will be starting with an empty Schedule");
-            initialScheduleData = new Schedule();
+            return new Schedule();
         }
+    }
 
+    private ReadOnlyFlashcardBank initFlashcardBank(Storage storage) {
         try {
-            flashcardBankOptional = storage.readFlashcardBank();
+            Optional<ReadOnlyFlashcardBank> flashcardBankOptional = storage.readFlashcardBank();
 
             if (flashcardBankOptional.isEmpty()) {
                 logger.info("FlashcardBank data file not found. Will be starting with a sample FlashcardBank");
             }
 
-            initialFlashcardBankData = flashcardBankOptional.orElseGet(SampleDataUtil::getSampleFlashcardBank);
+            return flashcardBankOptional.orElseGet(SampleDataUtil::getSampleFlashcardBank);
         } catch (DataConversionException e) {
-            logger.warning("Data file not in the correct format. Will be starting with an empty FlashcardBank");
-            initialFlashcardBankData = new FlashcardBank();
+            logger.warning("Data file not in the correct format. "
+                    + "Will be starting with a backup or an empty FlashcardBank");
+            return readLatestBackup(storage.getFlashcardBankFilePath(), storage::readFlashcardBank)
+                    .orElseGet(FlashcardBank::new);
         } catch (IOException e) {
             logger.warning("Problem while reading from the file. Will be starting with an empty FlashcardBank");
-            initialFlashcardBankData = new FlashcardBank();
+            return new FlashcardBank();
         }
+    }
 
+    private ReadOnlyQuizRecords initQuizRecords(Storage storage) {
         try {
-            quizRecordsOptional = storage.readQuizRecords();
+            Optional<ReadOnlyQuizRecords> quizRecordsOptional = storage.readQuizRecords();
 
             if (quizRecordsOptional.isEmpty()) {
                 logger.info("Quiz Records data file not found. Will be starting with a sample FlashcardBank");
             }
 
-            initialQuizRecordsData = quizRecordsOptional.orElseGet(SampleDataUtil::getSampleQuizRecords);
+            return quizRecordsOptional.orElseGet(SampleDataUtil::getSampleQuizRecords);
         } catch (DataConversionException e) {
-            logger.warning("Data file not in the correct format. Will be starting with an empty Quiz Record");
-            initialQuizRecordsData = new QuizRecords();
+            logger.warning("Data file not in the correct format. "
+                    + "Will be starting with a backup or an empty Quiz Record");
+            return readLatestBackup(storage.getQuizRecordsFilePath(), storage::readQuizRecords)
+                    .orElseGet(QuizRecords::new);
         } catch (IOException e) {
             logger.warning("Problem while reading from the file. Will be starting with an empty Quiz Record");
-            initialQuizRecordsData = new QuizRecords();
+            return new QuizRecords();
         }
+    }
 
-        return new ModelManager(userPrefs, initialScheduleData,
-                initialFlashcardBankData, initialQuizRecordsData);
+    /**
+     * Returns the schedule in {@code storage} up to its corrupted part, e.g. the snapshot and the journal up to
+     * its first corrupted record, or {@code Optional.empty()} if none of it can be read.
+     */
+    private Optional<ReadOnlySchedule> readScheduleUpToCorruption(Storage storage) {
+        try {
+            Optional<ReadOnlySchedule> schedule = storage.readScheduleUpToCorruption();
+            if (schedule.isPresent()) {
+                logger.warning("Restored schedule up to the corrupted data in " + storage.getScheduleFilePath());
+            }
+            return schedule;
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Schedule could not be read up to the corrupted data: " + e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the data in the most recent readable backup of {@code filePath}, read with {@code reader},
+     * or {@code Optional.empty()} if there is no such backup.
+     */
+    private <T> Optional<T> readLatestBackup(Path filePath, DataFileReader<T> reader) {
+        for (int generation = 1; generation <= config.getBackupCount(); generation++) {
+            Path backupFilePath = FileUtil.getBackupFilePath(filePath, generation);
+            try {
+                Optional<T> backup = reader.read(backupFilePath);
+                if (backup.isPresent()) {
+                    logger.info("Restored data from backup " + backupFilePath);
+                    return backup;
+                }
+            } catch (DataConversionException | IOException e) {
+                logger.warning("Backup " + backupFilePath + " could not be read: " + e);
+            }
+        }
+        return Optional.empty();
     }
 
     private void initLogging(Config config) {
@@ -224,11 +367,18 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting Study Bananas " + MainApp.VERSION);
         ui.start(primaryStage);
+        UiClock.getInstance().start();
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Study Bananas ] =============================");
+        UiClock.getInstance().stop();
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
             Platform.exit();
@@ -237,4 +387,20 @@ public class MainApp extends Application {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
     }
+
+    /**
+     * Reads a data file of the app from a given path.
+     */
+    @FunctionalInterface
+    private interface DataFileReader<T> {
+        Optional<T> read(Path filePath) throws DataConversionException, IOException;
+    }
+
+    /**
+     * Converts a data file of the app to another storage format.
+     */
+    @FunctionalInterface
+    private interface DataFileConversion {
+        boolean convert() throws DataConversionException, IOException;
+    }
 }
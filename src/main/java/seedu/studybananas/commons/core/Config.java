@@ -15,6 +15,9 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean isWriteBehindEnabled = true;
+    private int backupCount = 1;
+    private boolean isCompactJsonEnabled = false;
 
     public Level getLogLevel() {
         return logLevel;
@@ -32,6 +35,39 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns true if data should be saved by a background thread rather than on the UI thread.
+     */
+    public boolean isWriteBehindEnabled() {
+        return isWriteBehindEnabled;
+    }
+
+    public void setWriteBehindEnabled(boolean isWriteBehindEnabled) {
+        this.isWriteBehindEnabled = isWriteBehindEnabled;
+    }
+
+    /**
+     * Returns the number of backup generations to keep of each data file.
+     */
+    public int getBackupCount() {
+        return backupCount;
+    }
+
+    public void setBackupCount(int backupCount) {
+        this.backupCount = backupCount;
+    }
+
+    /**
+     * Returns true if JSON files should be written without indentation and line breaks.
+     */
+    public boolean isCompactJsonEnabled() {
+        return isCompactJsonEnabled;
+    }
+
+    public void setCompactJsonEnabled(boolean isCompactJsonEnabled) {
+        this.isCompactJsonEnabled = isCompactJsonEnabled;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +80,15 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && isWriteBehindEnabled == o.isWriteBehindEnabled
+                && backupCount == o.backupCount
+                && isCompactJsonEnabled == o.isCompactJsonEnabled;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, isWriteBehindEnabled, backupCount, isCompactJsonEnabled);
     }
 
     @Override
@@ -57,6 +96,9 @@ public class Config {
         StringBuilder sb = new StringBuilder();
         sb.append("Current log level : " + logLevel);
         sb.append("\nPreference file Location : " + userPrefsFilePath);
+        sb.append("\nWrite-behind saving : " + isWriteBehindEnabled);
+        sb.append("\nBackup generations : " + backupCount);
+        sb.append("\nCompact JSON : " + isCompactJsonEnabled);
         return sb.toString();
     }
 
@@ -0,0 +1,38 @@
+package seedu.studybananas.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+
+/**
+ * The on-disk formats that the flashcard bank and quiz records can be saved in.
+ * {@code PAGED} uses the binary format, but pages the flashcards of each set in from the snapshot's bytes
+ * as they are needed instead of decoding the whole flashcard bank on startup.
+ */
+public enum StorageFormat {
+    JSON(".json"),
+    BINARY(".bin"),
+    PAGED(".bin");
+
+    private final String fileExtension;
+
+    StorageFormat(String fileExtension) {
+        this.fileExtension = fileExtension;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    /**
+     * Returns {@code dataFilePath} with its extension replaced by this format's, e.g. {@code data/quizrecords.bin}
+     * for {@code data/quizrecords.json} in the {@code BINARY} format.
+     */
+    public Path toFilePath(Path dataFilePath) {
+        requireNonNull(dataFilePath);
+        String fileName = dataFilePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return dataFilePath.resolveSibling(baseName + fileExtension);
+    }
+}
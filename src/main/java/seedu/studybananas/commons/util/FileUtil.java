@@ -1,10 +1,17 @@
 package seedu.studybananas.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
@@ -12,6 +19,17 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final String BACKUP_FILE_SUFFIX = ".bak";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Writes the contents of a file to a stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -80,4 +98,106 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Replaces the contents of a file with the given string, such that the file holds either its old or
+     * its new contents even if the app or the system crashes midway.
+     * The string is written to a temporary file in the same directory and synced to disk,
+     * which is then moved over the file atomically. The directory is synced too where the platform allows it,
+     * so that the move itself survives a crash.
+     * Will create the file if it does not exist yet.
+     */
+    public static void writeToFileAtomically(Path file, String content) throws IOException {
+        writeToFileAtomically(file, out -> out.write(content.getBytes(CHARSET)));
+    }
+
+    /**
+     * Similar to {@link #writeToFileAtomically(Path, String)}, but the contents are streamed by
+     * {@code contentWriter} into a buffered stream instead of being built in memory first.
+     * {@code contentWriter} must not close the stream.
+     */
+    public static void writeToFileAtomically(Path file, ContentWriter contentWriter) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path tempFile = Files.createTempFile(directory, file.getFileName().toString(), TEMP_FILE_SUFFIX);
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE);
+                contentWriter.writeTo(out);
+                out.flush();
+                channel.force(true);
+            }
+            moveReplacing(tempFile, file);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        syncDirectory(directory);
+    }
+
+    /**
+     * Flushes the entries of {@code directory} to disk. Does nothing on platforms that cannot open a directory
+     * for syncing, such as Windows, where a completed move is durable already.
+     */
+    private static void syncDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // The file is replaced either way, only a crash right after the move could still undo it
+        }
+    }
+
+    private static void moveReplacing(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Returns the path of backup generation {@code generation} of {@code file}, 1 being the most recent.
+     */
+    public static Path getBackupFilePath(Path file, int generation) {
+        assert generation > 0;
+        return file.resolveSibling(file.getFileName() + "." + generation + BACKUP_FILE_SUFFIX);
+    }
+
+    /**
+     * Copies {@code file} to its most recent backup, shifting older backups back by one generation
+     * and dropping the ones beyond {@code backupCount}.
+     * Does nothing if {@code backupCount} is not positive or if the file is missing or empty.
+     */
+    public static void rotateBackups(Path file, int backupCount) throws IOException {
+        if (backupCount <= 0 || !isFileExists(file) || Files.size(file) == 0) {
+            return;
+        }
+
+        Files.deleteIfExists(getBackupFilePath(file, backupCount));
+        for (int generation = backupCount - 1; generation > 0; generation--) {
+            Path backup = getBackupFilePath(file, generation);
+            if (Files.exists(backup)) {
+                moveReplacing(backup, getBackupFilePath(file, generation + 1));
+            }
+        }
+        Files.copy(file, getBackupFilePath(file, 1), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Returns true if {@code file} exists and was modified after {@code other}, or {@code other} does not exist.
+     */
+    public static boolean isNewerThan(Path file, Path other) throws IOException {
+        if (!isFileExists(file)) {
+            return false;
+        }
+        return !isFileExists(other)
+                || Files.getLastModifiedTime(file).compareTo(Files.getLastModifiedTime(other)) > 0;
+    }
+
+    /**
+     * Appends given string to a file.
+     * Will create the file if it does not exist yet.
+     */
+    public static void appendToFile(Path file, String content) throws IOException {
+        Files.write(file, content.getBytes(CHARSET), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
 }
@@ -6,6 +6,9 @@ import static seedu.studybananas.commons.util.AppUtil.checkArgument;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
 
 /**
  * Helper functions for handling strings.
@@ -48,6 +51,30 @@ public class StringUtil {
         return t.getMessage() + "\n" + sw.toString();
     }
 
+    /**
+     * Returns the distinct runs of letters and digits in {@code text}, in lower case.
+     *   <br>examples:<pre>
+     *       getLowerCaseWords("Newton's 2nd law") == {"newton", "s", "2nd", "law"}
+     *       getLowerCaseWords(" ?! ") == {}
+     *       </pre>
+     * @param text cannot be null
+     */
+    public static Set<String> getLowerCaseWords(String text) {
+        requireNonNull(text);
+        Set<String> words = new HashSet<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isWordCharacter = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (isWordCharacter && start < 0) {
+                start = i;
+            } else if (!isWordCharacter && start >= 0) {
+                words.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return words;
+    }
+
     public static String getStringNoPunctuation(String sentence) {
         String punctuationRegex = "[\\p{Punct}&&[^-:]]+";
         String stringNoPunctuation = sentence.replaceAll(punctuationRegex, " ");
@@ -1,6 +1,7 @@
 package seedu.studybananas.logic;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 
 import javafx.collections.ObservableList;
 import seedu.studybananas.commons.core.GuiSettings;
@@ -58,6 +59,13 @@ public interface Logic {
      */
     FlashcardSet getFlashcardSetFromName(FlashcardSetName flsetName);
 
+    /**
+     * Returns a counter that changes whenever the flashcard bank is modified.
+     *
+     * @see Model#getFlashcardBankVersion()
+     */
+    long getFlashcardBankVersion();
+
 
     /**
      * Returns the Schedule.
@@ -72,6 +80,12 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of tasks */
     ObservableList<Task> getUpcomingTaskList();
 
+    /**
+     * Refills the list of upcoming tasks with the tasks that happen on {@code today}.
+     * @see Model#updateUpcomingTaskList(LocalDate)
+     */
+    void updateUpcomingTaskList(LocalDate today);
+
     /**
      * Returns the user prefs' schedule file path.
      */
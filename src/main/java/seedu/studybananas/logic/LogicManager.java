@@ -2,12 +2,14 @@ package seedu.studybananas.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.studybananas.commons.core.GuiSettings;
 import seedu.studybananas.commons.core.LogsCenter;
 import seedu.studybananas.commons.core.index.Index;
+import seedu.studybananas.logic.PersistenceMetrics.Store;
 import seedu.studybananas.logic.commands.Command;
 import seedu.studybananas.logic.commands.commandresults.CommandResult;
 import seedu.studybananas.logic.commands.exceptions.CommandException;
@@ -17,6 +19,7 @@ import seedu.studybananas.model.Model;
 import seedu.studybananas.model.flashcard.Flashcard;
 import seedu.studybananas.model.flashcard.FlashcardSet;
 import seedu.studybananas.model.flashcard.FlashcardSetName;
+import seedu.studybananas.model.flashcard.exceptions.CorruptedFlashcardException;
 import seedu.studybananas.model.quiz.Quiz;
 import seedu.studybananas.model.systemlevelmodel.ReadOnlyFlashcardBank;
 import seedu.studybananas.model.systemlevelmodel.ReadOnlySchedule;
@@ -33,13 +36,28 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final StudyBananasParser studyBananasParser;
+    private final PersistenceMetrics persistenceMetrics;
+
+    // Versions of the model's stores as of their last successful save, -1 if never saved.
+    private long savedScheduleVersion = -1;
+    private long savedFlashcardBankVersion = -1;
+    private long savedQuizRecordsVersion = -1;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, new PersistenceMetrics());
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage},
+     * reporting the saves it performs and skips to {@code persistenceMetrics}.
+     */
+    public LogicManager(Model model, Storage storage, PersistenceMetrics persistenceMetrics) {
         this.model = model;
         this.storage = storage;
+        this.persistenceMetrics = persistenceMetrics;
         studyBananasParser = new StudyBananasParser();
     }
 
@@ -49,15 +67,9 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command<? super Model> command = studyBananasParser.parseCommand(commandText, model.hasStarted());
-        commandResult = command.execute(model);
+        commandResult = executeOnModel(command);
 
-        try {
-            storage.saveSchedule(model.getSchedule());
-            storage.saveFlashcardBank(model.getFlashcardBank());
-            storage.saveQuizRecords(model.getAllQuizRecords());
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
-        }
+        saveChangedStores();
 
         return commandResult;
     }
@@ -67,17 +79,64 @@ public class LogicManager implements Logic {
         logger.info("----------------[USER COMMAND][" + command + "]");
 
         CommandResult commandResult;
-        commandResult = command.execute(model);
+        commandResult = executeOnModel(command);
+
+        saveChangedStores();
+
+        return commandResult;
+    }
 
+    /**
+     * Executes {@code command} on the model, reporting flashcards found corrupted in storage as a command error.
+     */
+    private CommandResult executeOnModel(Command<? super Model> command) throws CommandException {
         try {
-            storage.saveSchedule(model.getSchedule());
-            storage.saveFlashcardBank(model.getFlashcardBank());
-            storage.saveQuizRecords(model.getAllQuizRecords());
+            return command.execute(model);
+        } catch (CorruptedFlashcardException e) {
+            throw new CommandException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Saves the stores of the model that have changed since they were last saved.
+     * Stores without unsaved changes are not written.
+     *
+     * @throws CommandException if a store could not be saved, or an earlier background save failed.
+     */
+    private void saveChangedStores() throws CommandException {
+        try {
+            long scheduleVersion = model.getScheduleVersion();
+            if (scheduleVersion != savedScheduleVersion) {
+                storage.saveSchedule(model.getSchedule());
+                savedScheduleVersion = scheduleVersion;
+                persistenceMetrics.recordSavePerformed(Store.SCHEDULE);
+            } else {
+                persistenceMetrics.recordSaveSkipped(Store.SCHEDULE);
+            }
+
+            long flashcardBankVersion = model.getFlashcardBankVersion();
+            if (flashcardBankVersion != savedFlashcardBankVersion) {
+                storage.saveFlashcardBank(model.getFlashcardBank());
+                savedFlashcardBankVersion = flashcardBankVersion;
+                persistenceMetrics.recordSavePerformed(Store.FLASHCARD_BANK);
+            } else {
+                persistenceMetrics.recordSaveSkipped(Store.FLASHCARD_BANK);
+            }
+
+            long quizRecordsVersion = model.getQuizRecordsVersion();
+            if (quizRecordsVersion != savedQuizRecordsVersion) {
+                storage.saveQuizRecords(model.getAllQuizRecords());
+                savedQuizRecordsVersion = quizRecordsVersion;
+                persistenceMetrics.recordSavePerformed(Store.QUIZ_RECORDS);
+            } else {
+                persistenceMetrics.recordSaveSkipped(Store.QUIZ_RECORDS);
+            }
+
+            // Only reported once the changes of this command are queued, so that they are not lost
+            storage.checkBackgroundSaveFailure();
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
-
-        return commandResult;
     }
 
     @Override
@@ -90,6 +149,11 @@ public class LogicManager implements Logic {
         return model.getFlashcardSet(name);
     }
 
+    @Override
+    public long getFlashcardBankVersion() {
+        return model.getFlashcardBankVersion();
+    }
+
 
     @Override
     public Command parse(String commandText) throws ParseException {
@@ -111,6 +175,11 @@ public class LogicManager implements Logic {
         return model.getUpcomingTaskList();
     }
 
+    @Override
+    public void updateUpcomingTaskList(LocalDate today) {
+        model.updateUpcomingTaskList(today);
+    }
+
     @Override
     public Path getScheduleFilePath() {
         return model.getScheduleFilePath();
@@ -138,7 +207,11 @@ public class LogicManager implements Logic {
 
     @Override
     public void setFlashcardSetToView(FlashcardSet flashcardSet) {
-        model.setFlashcardSetToView(flashcardSet);
+        try {
+            model.setFlashcardSetToView(flashcardSet);
+        } catch (CorruptedFlashcardException e) {
+            logger.warning(e.getMessage());
+        }
     }
 
     @Override
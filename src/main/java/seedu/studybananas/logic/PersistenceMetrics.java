@@ -0,0 +1,59 @@
+package seedu.studybananas.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import seedu.studybananas.commons.core.LogsCenter;
+
+/**
+ * Counts the saves that {@code LogicManager} performs or skips for each data store.
+ * A save is skipped when the store has not been modified since it was last saved.
+ */
+public class PersistenceMetrics {
+
+    /**
+     * The data stores persisted after each command.
+     */
+    public enum Store {
+        SCHEDULE, FLASHCARD_BANK, QUIZ_RECORDS
+    }
+
+    private static final Logger logger = LogsCenter.getLogger(PersistenceMetrics.class);
+
+    private final Map<Store, Integer> performedSaves = new EnumMap<>(Store.class);
+    private final Map<Store, Integer> skippedSaves = new EnumMap<>(Store.class);
+
+    /**
+     * Records that {@code store} was written to disk.
+     */
+    public void recordSavePerformed(Store store) {
+        requireNonNull(store);
+        performedSaves.merge(store, 1, Integer::sum);
+        logger.fine("Saved " + store);
+    }
+
+    /**
+     * Records that saving {@code store} was skipped as it had no unsaved changes.
+     */
+    public void recordSaveSkipped(Store store) {
+        requireNonNull(store);
+        skippedSaves.merge(store, 1, Integer::sum);
+        logger.fine("Skipped saving unchanged " + store);
+    }
+
+    public int getPerformedSaveCount(Store store) {
+        return performedSaves.getOrDefault(store, 0);
+    }
+
+    public int getSkippedSaveCount(Store store) {
+        return skippedSaves.getOrDefault(store, 0);
+    }
+
+    @Override
+    public String toString() {
+        return "Saves performed: " + performedSaves + ", saves skipped: " + skippedSaves;
+    }
+}
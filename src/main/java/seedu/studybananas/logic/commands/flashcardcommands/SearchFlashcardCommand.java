@@ -0,0 +1,61 @@
+package seedu.studybananas.logic.commands.flashcardcommands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.studybananas.logic.commands.Command;
+import seedu.studybananas.logic.commands.commandresults.CommandResult;
+import seedu.studybananas.logic.commands.commandresults.FlashcardCommandResult;
+import seedu.studybananas.model.FlashcardModel;
+import seedu.studybananas.model.flashcard.FlashcardSearchResult;
+
+/**
+ * Searches the questions and answers of the {@code Flashcard}s in every {@code FlashcardSet}
+ * and lists the best matches, with the set and index of each.
+ */
+public class SearchFlashcardCommand extends Command<FlashcardModel> {
+
+    public static final String COMMAND_WORD = "search fl";
+    public static final int MAX_RESULTS = 20;
+    public static final String MESSAGE_SUCCESS = "Found %1$d flashcard(s), best matches first:";
+    public static final String MESSAGE_NO_RESULTS = "No flashcard contains any of the keywords.";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds flashcards whose question or answer "
+            + "contains any of the keywords (case-insensitive), in all flashcard sets.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " force spring";
+
+    private final List<String> keywords;
+
+    /**
+     * Creates a {@code Command} to search for {@code Flashcard}s containing any of the {@code keywords}.
+     */
+    public SearchFlashcardCommand(List<String> keywords) {
+        requireNonNull(keywords);
+        this.keywords = keywords;
+    }
+
+    @Override
+    public CommandResult execute(FlashcardModel model) {
+        requireNonNull(model);
+        List<FlashcardSearchResult> results = model.searchFlashcards(keywords, MAX_RESULTS);
+        if (results.isEmpty()) {
+            return new FlashcardCommandResult(MESSAGE_NO_RESULTS);
+        }
+
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_SUCCESS, results.size()));
+        for (int i = 0; i < results.size(); i++) {
+            FlashcardSearchResult result = results.get(i);
+            message.append(String.format("\n%d. %s #%d: %s", i + 1, result.getFlashcardSet().getName().name,
+                    result.getFlashcardIndex().getOneBased(), result.getFlashcard().getQuestion()));
+        }
+        return new FlashcardCommandResult(message.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SearchFlashcardCommand // instanceof handles nulls
+                && keywords.equals(((SearchFlashcardCommand) other).keywords)); // state check
+    }
+}
@@ -3,25 +3,58 @@ package seedu.studybananas.logic.commands.schedulecommands;
 import static java.util.Objects.requireNonNull;
 import static seedu.studybananas.model.Model.PREDICATE_SHOW_ALL_TASKS;
 
+import java.time.LocalDate;
+import java.util.Objects;
+
 import seedu.studybananas.logic.commands.Command;
 import seedu.studybananas.logic.commands.commandresults.CommandResult;
 import seedu.studybananas.logic.commands.commandresults.ScheduleCommandResult;
 import seedu.studybananas.model.ScheduleModel;
 
 /**
- * Lists all tasks in the Schedule to the user.
+ * Lists all tasks in the Schedule to the user, or only those taking place within a range of dates.
  */
 public class ScheduleListCommand extends Command<ScheduleModel> {
     public static final String COMMAND_WORD = "list task";
 
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all tasks, or the tasks taking place "
+            + "today, this week, or from one date to another (both inclusive).\n"
+            + "Parameters: [today | week | from:START_DATE to:END_DATE]\n"
+            + "Example: " + COMMAND_WORD + " from:2020-11-02 to:2020-11-04";
+
     public static final String MESSAGE_SUCCESS = "Listed all tasks.";
+    public static final String MESSAGE_RANGE_SUCCESS = "Listed tasks from %1$s to %2$s.";
 
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+
+    /**
+     * Creates a ScheduleListCommand to list all tasks.
+     */
+    public ScheduleListCommand() {
+        this.startDate = null;
+        this.endDate = null;
+    }
+
+    /**
+     * Creates a ScheduleListCommand to list the tasks taking place from {@code startDate} to {@code endDate}.
+     */
+    public ScheduleListCommand(LocalDate startDate, LocalDate endDate) {
+        requireNonNull(startDate);
+        requireNonNull(endDate);
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
 
     @Override
     public CommandResult execute(ScheduleModel model) {
         requireNonNull(model);
-        model.updateFilteredTaskList(PREDICATE_SHOW_ALL_TASKS);
-        return new ScheduleCommandResult(MESSAGE_SUCCESS);
+        if (startDate == null) {
+            model.updateFilteredTaskList(PREDICATE_SHOW_ALL_TASKS);
+            return new ScheduleCommandResult(MESSAGE_SUCCESS);
+        }
+        model.updateFilteredTaskList(startDate, endDate);
+        return new ScheduleCommandResult(String.format(MESSAGE_RANGE_SUCCESS, startDate, endDate));
     }
 
     @Override
@@ -30,6 +63,8 @@ public class ScheduleListCommand extends Command<ScheduleModel> {
             return true;
         }
 
-        return obj instanceof ScheduleListCommand;
+        return obj instanceof ScheduleListCommand
+                && Objects.equals(startDate, ((ScheduleListCommand) obj).startDate)
+                && Objects.equals(endDate, ((ScheduleListCommand) obj).endDate);
     }
 }
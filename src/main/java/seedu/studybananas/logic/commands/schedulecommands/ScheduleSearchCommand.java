@@ -1,6 +1,7 @@
 package seedu.studybananas.logic.commands.schedulecommands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.studybananas.logic.parser.CliSyntax.PREFIX_FUZZY;
 
 import seedu.studybananas.commons.core.Messages;
 import seedu.studybananas.logic.commands.Command;
@@ -14,19 +15,36 @@ public class ScheduleSearchCommand extends Command<ScheduleModel> {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all tasks whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " CS2100";
+            + "With " + PREFIX_FUZZY + ", also finds tasks whose title or description contains words starting "
+            + "with the keywords, or close to them, listing the best matches first.\n"
+            + "Parameters: [" + PREFIX_FUZZY + "] KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " CS2100\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_FUZZY + " algo";
 
     private final InfoContainsKeywordsPredicate predicate;
+    private final boolean isFuzzy;
 
     public ScheduleSearchCommand(InfoContainsKeywordsPredicate predicate) {
+        this(predicate, false);
+    }
+
+    /**
+     * Creates a {@code ScheduleSearchCommand} searching for the keywords of {@code predicate},
+     * tolerating incomplete and misspelt keywords if {@code isFuzzy} is true.
+     */
+    public ScheduleSearchCommand(InfoContainsKeywordsPredicate predicate, boolean isFuzzy) {
         this.predicate = predicate;
+        this.isFuzzy = isFuzzy;
     }
 
     @Override
     public CommandResult execute(ScheduleModel model) {
         requireNonNull(model);
-        model.updateFilteredTaskList(predicate);
+        if (isFuzzy) {
+            model.updateFilteredTaskListByRelevance(predicate.getKeywords());
+        } else {
+            model.searchTasks(predicate.getKeywords());
+        }
         return new ScheduleCommandResult(
                 String.format(Messages.MESSAGE_TASKS_LISTED_OVERVIEW, model.getFilteredTaskList().size()));
     }
@@ -35,6 +53,7 @@ public class ScheduleSearchCommand extends Command<ScheduleModel> {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof ScheduleSearchCommand // instanceof handles nulls
-                && predicate.equals(((ScheduleSearchCommand) other).predicate)); // state check
+                && predicate.equals(((ScheduleSearchCommand) other).predicate) // state check
+                && isFuzzy == ((ScheduleSearchCommand) other).isFuzzy);
     }
 }
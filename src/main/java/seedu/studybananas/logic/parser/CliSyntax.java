@@ -10,6 +10,9 @@ public class CliSyntax {
     public static final Prefix PREFIX_DESCRIPTION = new Prefix("d:");
     public static final Prefix PREFIX_TIME = new Prefix("t:");
     public static final Prefix PREFIX_DURATION = new Prefix("dur:");
+    public static final Prefix PREFIX_FROM = new Prefix("from:");
+    public static final Prefix PREFIX_TO = new Prefix("to:");
+    public static final Prefix PREFIX_FUZZY = new Prefix("fuzzy:");
 
 
     /* StudyBananas Prefix definitions */
@@ -13,6 +13,7 @@ import seedu.studybananas.logic.commands.flashcardcommands.AddFlashcardSetComman
 import seedu.studybananas.logic.commands.flashcardcommands.DeleteFlashcardCommand;
 import seedu.studybananas.logic.commands.flashcardcommands.DeleteFlashcardSetCommand;
 import seedu.studybananas.logic.commands.flashcardcommands.ListFlashcardCommand;
+import seedu.studybananas.logic.commands.flashcardcommands.SearchFlashcardCommand;
 import seedu.studybananas.logic.parser.Parser;
 import seedu.studybananas.logic.parser.exceptions.ParseException;
 import seedu.studybananas.model.FlashcardModel;
@@ -48,6 +49,8 @@ public class FlashcardParser implements Parser<Command> {
             return new DeleteFlashcardSetCommandParser().parse(argument);
         case ListFlashcardCommand.COMMAND_WORD:
             return new ListFlashcardCommandParser().parse(argument);
+        case SearchFlashcardCommand.COMMAND_WORD:
+            return new SearchFlashcardCommandParser().parse(argument);
         default:
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
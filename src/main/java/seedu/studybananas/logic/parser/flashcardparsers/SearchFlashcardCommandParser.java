@@ -0,0 +1,29 @@
+package seedu.studybananas.logic.parser.flashcardparsers;
+
+import static seedu.studybananas.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.Arrays;
+
+import seedu.studybananas.logic.commands.flashcardcommands.SearchFlashcardCommand;
+import seedu.studybananas.logic.parser.Parser;
+import seedu.studybananas.logic.parser.exceptions.ParseException;
+
+
+public class SearchFlashcardCommandParser implements Parser<SearchFlashcardCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SearchFlashcardCommand
+     * and returns a SearchFlashcardCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public SearchFlashcardCommand parse(String userInput) throws ParseException {
+        String trimmedArgs = userInput.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchFlashcardCommand.MESSAGE_USAGE));
+        }
+
+        return new SearchFlashcardCommand(Arrays.asList(trimmedArgs.split("\\s+")));
+    }
+}
@@ -90,10 +90,7 @@ public class ParserUtil {
         }
 
         String trimmedTime = time.trim();
-        if (!DateTime.isValidDateTime(trimmedTime)) {
-            throw new ParseException(DateTime.MESSAGE_CONSTRAINTS);
-        }
-        return new DateTime(time);
+        return DateTime.parse(trimmedTime).orElseThrow(() -> new ParseException(DateTime.MESSAGE_CONSTRAINTS));
     }
 
     /**
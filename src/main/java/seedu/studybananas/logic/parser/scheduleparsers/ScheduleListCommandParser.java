@@ -0,0 +1,55 @@
+package seedu.studybananas.logic.parser.scheduleparsers;
+
+import static seedu.studybananas.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.studybananas.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.studybananas.logic.parser.CliSyntax.PREFIX_TO;
+import static seedu.studybananas.logic.parser.parserutils.ParserUtil.arePrefixesPresent;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+import seedu.studybananas.logic.commands.schedulecommands.ScheduleListCommand;
+import seedu.studybananas.logic.parser.ArgumentMultimap;
+import seedu.studybananas.logic.parser.ArgumentTokenizer;
+import seedu.studybananas.logic.parser.Parser;
+import seedu.studybananas.logic.parser.exceptions.ParseException;
+import seedu.studybananas.logic.parser.parserutils.ParserUtil;
+
+public class ScheduleListCommandParser implements Parser<ScheduleListCommand> {
+    public static final String OPTION_TODAY = "today";
+    public static final String OPTION_WEEK = "week";
+    public static final String MESSAGE_END_BEFORE_START = "The end date must not be before the start date.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ScheduleListCommand
+     * and returns a ScheduleListCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ScheduleListCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new ScheduleListCommand();
+        }
+
+        LocalDate today = LocalDate.now();
+        if (trimmedArgs.equalsIgnoreCase(OPTION_TODAY)) {
+            return new ScheduleListCommand(today, today);
+        }
+        if (trimmedArgs.equalsIgnoreCase(OPTION_WEEK)) {
+            return new ScheduleListCommand(today.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)),
+                    today.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY)));
+        }
+
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FROM, PREFIX_TO);
+        if (!arePrefixesPresent(argMultimap, PREFIX_FROM, PREFIX_TO) || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ScheduleListCommand.MESSAGE_USAGE));
+        }
+        LocalDate startDate = ParserUtil.parseTime(argMultimap.getValue(PREFIX_FROM).get()).dateTime.toLocalDate();
+        LocalDate endDate = ParserUtil.parseTime(argMultimap.getValue(PREFIX_TO).get()).dateTime.toLocalDate();
+        if (endDate.isBefore(startDate)) {
+            throw new ParseException(MESSAGE_END_BEFORE_START);
+        }
+        return new ScheduleListCommand(startDate, endDate);
+    }
+}
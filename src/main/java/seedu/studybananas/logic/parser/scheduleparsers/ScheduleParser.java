@@ -38,7 +38,7 @@ public class ScheduleParser implements Parser<Command> {
 
         switch (commandWord) {
         case ScheduleListCommand.COMMAND_WORD:
-            return new ScheduleListCommand();
+            return new ScheduleListCommandParser().parse(arguments);
         case ScheduleAddCommand.COMMAND_WORD:
             return new ScheduleAddCommandParser().parse(arguments);
         case ScheduleDeleteCommand.COMMAND_WORD:
@@ -1,6 +1,7 @@
 package seedu.studybananas.logic.parser.scheduleparsers;
 
 import static seedu.studybananas.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.studybananas.logic.parser.CliSyntax.PREFIX_FUZZY;
 
 import java.util.Arrays;
 
@@ -17,6 +18,10 @@ public class ScheduleSearchCommandParser implements Parser<ScheduleSearchCommand
      */
     public ScheduleSearchCommand parse(String args) throws ParseException {
         String trimmedArgs = args.trim();
+        boolean isFuzzy = trimmedArgs.startsWith(PREFIX_FUZZY.getPrefix());
+        if (isFuzzy) {
+            trimmedArgs = trimmedArgs.substring(PREFIX_FUZZY.getPrefix().length()).trim();
+        }
         if (trimmedArgs.isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, ScheduleSearchCommand.MESSAGE_USAGE));
@@ -24,6 +29,6 @@ public class ScheduleSearchCommandParser implements Parser<ScheduleSearchCommand
 
         String[] titleKeywords = trimmedArgs.split("\\s+");
 
-        return new ScheduleSearchCommand(new InfoContainsKeywordsPredicate(Arrays.asList(titleKeywords)));
+        return new ScheduleSearchCommand(new InfoContainsKeywordsPredicate(Arrays.asList(titleKeywords)), isFuzzy);
     }
 }
@@ -1,10 +1,12 @@
 package seedu.studybananas.model;
 
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.studybananas.commons.core.index.Index;
 import seedu.studybananas.model.flashcard.Flashcard;
+import seedu.studybananas.model.flashcard.FlashcardSearchResult;
 import seedu.studybananas.model.flashcard.FlashcardSet;
 import seedu.studybananas.model.flashcard.FlashcardSetName;
 import seedu.studybananas.model.systemlevelmodel.ReadOnlyFlashcardBank;
@@ -66,6 +68,15 @@ public interface FlashcardModel {
      */
     void deleteFlashcard(FlashcardSet flashcardSet, Index flashcardIndex);
 
+    /**
+     * Searches the questions and answers of the flashcards in all sets of the {@code FlashcardBank}.
+     *
+     * @param keywords the words to search for
+     * @param limit the maximum number of results
+     * @return the flashcards containing any of the {@code keywords}, best matches first
+     */
+    List<FlashcardSearchResult> searchFlashcards(List<String> keywords, int limit);
+
     //=========== Flashcard Set ==================================================================================
 
     /**
@@ -82,7 +93,8 @@ public interface FlashcardModel {
      * Used for {@code Quiz}.
      *
      * @param flsetName the reference {@code FlashcardSetName}
-     * @return the {@code FlashcardSet} in the high-level {@code FlashcardBank} with that {@code FlashcardSetName}
+     * @return the {@code FlashcardSet} in the high-level {@code FlashcardBank} with that {@code FlashcardSetName},
+     *         or null if there is none
      */
     FlashcardSet getFlashcardSet(FlashcardSetName flsetName);
 
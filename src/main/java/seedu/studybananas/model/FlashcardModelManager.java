@@ -2,6 +2,9 @@ package seedu.studybananas.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
@@ -9,15 +12,22 @@ import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.studybananas.commons.core.index.Index;
 import seedu.studybananas.model.flashcard.Flashcard;
+import seedu.studybananas.model.flashcard.FlashcardSearchResult;
 import seedu.studybananas.model.flashcard.FlashcardSet;
 import seedu.studybananas.model.flashcard.FlashcardSetName;
 import seedu.studybananas.model.systemlevelmodel.FlashcardBank;
 import seedu.studybananas.model.systemlevelmodel.ReadOnlyFlashcardBank;
 
 public class FlashcardModelManager implements FlashcardModel {
+    /** Number of opened flashcard sets whose flashcards are kept decoded in memory. */
+    public static final int DECODED_FLASHCARD_SET_CAPACITY = 8;
+
     private final FlashcardBank flashcardBank;
     private final FilteredList<FlashcardSet> filteredFlashcardSets;
     private final ObservableList<Flashcard> flashcardSetToDisplay = FXCollections.observableArrayList();
+    // Recently opened flashcard sets in access order, the least recently opened is evicted first
+    private final Map<FlashcardSetName, FlashcardSet> decodedFlashcardSets =
+            new LinkedHashMap<>(DECODED_FLASHCARD_SET_CAPACITY, 0.75f, true);
 
     /**
      * Creates FlashcardModelManager from {@code flashcardBank}
@@ -38,7 +48,7 @@ public class FlashcardModelManager implements FlashcardModel {
 
     @Override
     public void setFlashcard(FlashcardSet flashcardSet, Flashcard target, Flashcard editedFlashcard) {
-        flashcardSet.setFlashcard(target, editedFlashcard);
+        flashcardBank.setFlashcard(flashcardSet, target, editedFlashcard);
     }
 
     @Override
@@ -48,12 +58,17 @@ public class FlashcardModelManager implements FlashcardModel {
 
     @Override
     public void addFlashcard(FlashcardSet flashcardSet, Flashcard flashcard) {
-        flashcardSet.addFlashcard(flashcard);
+        flashcardBank.addFlashcard(flashcardSet, flashcard);
     }
 
     @Override
     public void deleteFlashcard(FlashcardSet flashcardSet, Index flashcardIndex) {
-        flashcardSet.deleteFlashcard(flashcardIndex);
+        flashcardBank.deleteFlashcard(flashcardSet, flashcardIndex);
+    }
+
+    @Override
+    public List<FlashcardSearchResult> searchFlashcards(List<String> keywords, int limit) {
+        return flashcardBank.searchFlashcards(keywords, limit);
     }
 
     //=========== Flashcard Set =============================================================
@@ -65,12 +80,7 @@ public class FlashcardModelManager implements FlashcardModel {
 
     @Override
     public FlashcardSet getFlashcardSet(FlashcardSetName flsetName) {
-        for (FlashcardSet flset : filteredFlashcardSets) {
-            if (flset.getName().equals(flsetName)) {
-                return flset;
-            }
-        }
-        return null;
+        return flashcardBank.getFlashcardSet(flsetName).orElse(null);
     }
 
     @Override
@@ -118,14 +128,34 @@ public class FlashcardModelManager implements FlashcardModel {
 
     @Override
     public void setFlashcardSetToView(Index index) {
-        flashcardSetToDisplay.setAll(getFlashcardSet(index).getFlashcards());
+        setFlashcardSetToView(getFlashcardSet(index));
     }
 
     @Override
     public void setFlashcardSetToView(FlashcardSet flashcardSet) {
+        openFlashcardSet(flashcardSet);
         flashcardSetToDisplay.setAll(flashcardSet.getFlashcards());
     }
 
+    /**
+     * Decodes the flashcards of {@code flashcardSet}, which is about to be viewed or quizzed on.
+     * Only the {@link #DECODED_FLASHCARD_SET_CAPACITY} most recently opened sets are kept decoded.
+     */
+    public void openFlashcardSet(FlashcardSet flashcardSet) {
+        requireNonNull(flashcardSet);
+        flashcardSet.decode();
+        FlashcardSet previous = decodedFlashcardSets.put(flashcardSet.getName(), flashcardSet);
+        if (previous != null && previous != flashcardSet) {
+            previous.evict();
+        }
+        if (decodedFlashcardSets.size() > DECODED_FLASHCARD_SET_CAPACITY) {
+            Map.Entry<FlashcardSetName, FlashcardSet> leastRecentlyOpened =
+                    decodedFlashcardSets.entrySet().iterator().next();
+            leastRecentlyOpened.getValue().evict();
+            decodedFlashcardSets.remove(leastRecentlyOpened.getKey());
+        }
+    }
+
     //=========== Flashcard Bank =============================================================
 
     @Override
@@ -138,6 +168,13 @@ public class FlashcardModelManager implements FlashcardModel {
         return flashcardBank;
     }
 
+    /**
+     * Returns the modification counter of the flashcard bank.
+     */
+    public long getFlashcardBankVersion() {
+        return flashcardBank.getVersion();
+    }
+
     @Override
     public boolean equals(Object obj) {
         // short circuit if same object
@@ -1,11 +1,13 @@
 package seedu.studybananas.model;
 
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.studybananas.commons.core.index.Index;
 import seedu.studybananas.model.flashcard.Answer;
 import seedu.studybananas.model.flashcard.Flashcard;
+import seedu.studybananas.model.flashcard.FlashcardSearchResult;
 import seedu.studybananas.model.flashcard.FlashcardSet;
 import seedu.studybananas.model.flashcard.FlashcardSetName;
 import seedu.studybananas.model.flashcard.Question;
@@ -54,6 +56,11 @@ public class FlashcardQuizModelManager implements FlashcardQuizModel {
         flashcardModelManager.deleteFlashcard(flashcardSet, flashcardIndex);
     }
 
+    @Override
+    public List<FlashcardSearchResult> searchFlashcards(List<String> keywords, int limit) {
+        return flashcardModelManager.searchFlashcards(keywords, limit);
+    }
+
     @Override
     public FlashcardSet getFlashcardSet(Index index) {
         return flashcardModelManager.getFlashcardSet(index);
@@ -95,6 +102,20 @@ public class FlashcardQuizModelManager implements FlashcardQuizModel {
         return flashcardModelManager.getFlashcardBank();
     }
 
+    /**
+     * Returns the modification counter of the flashcard bank.
+     */
+    public long getFlashcardBankVersion() {
+        return flashcardModelManager.getFlashcardBankVersion();
+    }
+
+    /**
+     * Returns the modification counter of the quiz records.
+     */
+    public long getQuizRecordsVersion() {
+        return quizModelManager.getQuizRecordsVersion();
+    }
+
     @Override
     public ObservableList<FlashcardSet> getFilteredFlashcardSetList() {
         return flashcardModelManager.getFilteredFlashcardSetList();
@@ -123,6 +144,7 @@ public class FlashcardQuizModelManager implements FlashcardQuizModel {
 
     @Override
     public Question start(Quiz quiz) {
+        flashcardModelManager.openFlashcardSet(quiz.getFlashcardSet());
         return quizModelManager.start(quiz);
     }
 
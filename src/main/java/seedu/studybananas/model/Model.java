@@ -55,4 +55,19 @@ public interface Model extends ScheduleModel, FlashcardQuizModel {
      */
     void setFlashcardBankFilePath(Path flashcardBankFilePath);
 
+    /**
+     * Returns a counter that changes whenever the schedule is modified.
+     */
+    long getScheduleVersion();
+
+    /**
+     * Returns a counter that changes whenever the flashcard bank is modified.
+     */
+    long getFlashcardBankVersion();
+
+    /**
+     * Returns a counter that changes whenever the quiz records are modified.
+     */
+    long getQuizRecordsVersion();
+
 }
@@ -4,6 +4,8 @@ import static java.util.Objects.requireNonNull;
 import static seedu.studybananas.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -13,6 +15,7 @@ import seedu.studybananas.commons.core.LogsCenter;
 import seedu.studybananas.commons.core.index.Index;
 import seedu.studybananas.model.flashcard.Answer;
 import seedu.studybananas.model.flashcard.Flashcard;
+import seedu.studybananas.model.flashcard.FlashcardSearchResult;
 import seedu.studybananas.model.flashcard.FlashcardSet;
 import seedu.studybananas.model.flashcard.FlashcardSetName;
 import seedu.studybananas.model.flashcard.Question;
@@ -104,6 +107,21 @@ public class ModelManager implements Model {
         userPrefs.setFlashcardBankFilePath(flashcardBankFilePath);
     }
 
+    @Override
+    public long getScheduleVersion() {
+        return scheduleModelManager.getScheduleVersion();
+    }
+
+    @Override
+    public long getFlashcardBankVersion() {
+        return flashcardQuizModelManager.getFlashcardBankVersion();
+    }
+
+    @Override
+    public long getQuizRecordsVersion() {
+        return flashcardQuizModelManager.getQuizRecordsVersion();
+    }
+
     //=========== Schedule =================================================================================
 
     @Override
@@ -153,11 +171,31 @@ public class ModelManager implements Model {
         return scheduleModelManager.getUpcomingTaskList();
     }
 
+    @Override
+    public void updateUpcomingTaskList(LocalDate today) {
+        scheduleModelManager.updateUpcomingTaskList(today);
+    }
+
     @Override
     public void updateFilteredTaskList(Predicate<Task> predicate) {
         this.scheduleModelManager.updateFilteredTaskList(predicate);
     }
 
+    @Override
+    public void updateFilteredTaskList(LocalDate startDate, LocalDate endDate) {
+        this.scheduleModelManager.updateFilteredTaskList(startDate, endDate);
+    }
+
+    @Override
+    public void updateFilteredTaskListByRelevance(List<String> keywords) {
+        this.scheduleModelManager.updateFilteredTaskListByRelevance(keywords);
+    }
+
+    @Override
+    public void searchTasks(List<String> keywords) {
+        this.scheduleModelManager.searchTasks(keywords);
+    }
+
     @Override
     public boolean equals(Object obj) {
         // short circuit if same object
@@ -302,6 +340,11 @@ public class ModelManager implements Model {
         flashcardQuizModelManager.deleteFlashcard(flashcardSet, flashcardIndex);
     }
 
+    @Override
+    public List<FlashcardSearchResult> searchFlashcards(List<String> keywords, int limit) {
+        return flashcardQuizModelManager.searchFlashcards(keywords, limit);
+    }
+
     @Override
     public void addFlashcardSet(FlashcardSet flashcardSet) {
         flashcardQuizModelManager.addFlashcardSet(flashcardSet);
@@ -90,6 +90,13 @@ public class QuizModelManager implements QuizModel {
         return quizRecords;
     }
 
+    /**
+     * Returns the modification counter of the quiz records.
+     */
+    public long getQuizRecordsVersion() {
+        return quizRecords.getVersion();
+    }
+
     @Override
     public void saveAnswer(String answer) {
         this.quiz.saveAnswer(answer);
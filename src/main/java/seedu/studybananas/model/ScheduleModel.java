@@ -1,9 +1,12 @@
 package seedu.studybananas.model;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.studybananas.model.systemlevelmodel.ReadOnlySchedule;
+import seedu.studybananas.model.task.InfoContainsKeywordsPredicate;
 import seedu.studybananas.model.task.Task;
 
 public interface ScheduleModel {
@@ -54,6 +57,12 @@ public interface ScheduleModel {
     /** Returns an unmodifiable view of tasks that happen today */
     ObservableList<Task> getUpcomingTaskList();
 
+    /**
+     * Refills the list of tasks that happen today with the tasks that happen on {@code today}, e.g. when the
+     * day changes at midnight.
+     */
+    void updateUpcomingTaskList(LocalDate today);
+
 
     /**
      * Updates the filter of the filtered task list to filter by the given {@code predicate}.
@@ -61,4 +70,26 @@ public interface ScheduleModel {
      */
     void updateFilteredTaskList(Predicate<Task> predicate);
 
+    /**
+     * Updates the filter of the filtered task list to show the tasks taking place on any date
+     * from {@code startDate} to {@code endDate} inclusive.
+     * @throws NullPointerException if {@code startDate} or {@code endDate} is null.
+     */
+    void updateFilteredTaskList(LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Updates the filtered task list to show the tasks whose title or description resembles any of the
+     * {@code keywords}, best matches first. Keywords may be incomplete or misspelt.
+     * @throws NullPointerException if {@code keywords} is null.
+     */
+    void updateFilteredTaskListByRelevance(List<String> keywords);
+
+    /**
+     * Updates the filtered task list to show the tasks whose title or description contains any of the
+     * {@code keywords}, as {@link InfoContainsKeywordsPredicate} does.
+     * The tasks are looked up in the schedule's keyword index instead of testing every task.
+     * @throws NullPointerException if {@code keywords} is null.
+     */
+    void searchTasks(List<String> keywords);
+
 }
@@ -2,19 +2,37 @@ package seedu.studybananas.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.studybananas.model.systemlevelmodel.ReadOnlySchedule;
 import seedu.studybananas.model.systemlevelmodel.Schedule;
 import seedu.studybananas.model.task.Task;
-import seedu.studybananas.model.task.TaskHappensTodayPredicate;
 
 public class ScheduleModelManager implements ScheduleModel {
     private final Schedule schedule;
     private final FilteredList<Task> filteredTasks;
-    private FilteredList<Task> todayTasks;
+    // In schedule order, unless the tasks are ranked by a search
+    private final SortedList<Task> shownTasks;
+    // Filled from the schedule's date index, so only the tasks of today are looked at.
+    private final ObservableList<Task> todayTasks = FXCollections.observableArrayList();
+    private final ObservableList<Task> unmodifiableTodayTasks = FXCollections.unmodifiableObservableList(todayTasks);
+    private Predicate<? super Task> todayTasksFilter = PREDICATE_SHOW_ALL_TASKS;
+    // The date todayTasks is filled for, moved on by the UI clock at midnight
+    private LocalDate today = LocalDate.now();
+    // Looks up the tasks shown from the schedule's indexes again, or null if the shown tasks are not looked up
+    private Runnable taskLookup;
 
     /**
      * Create ScheduleModelManager from {@schedule}
@@ -23,11 +41,14 @@ public class ScheduleModelManager implements ScheduleModel {
     public ScheduleModelManager(ReadOnlySchedule schedule) {
         this.schedule = new Schedule(schedule);
         filteredTasks = new FilteredList<>(this.schedule.getTaskList());
-        todayTasks = new FilteredList<>(this.schedule.getTaskList());
+        shownTasks = new SortedList<>(filteredTasks);
+        refreshTodaysTasks();
     }
     @Override
     public void setSchedule(ReadOnlySchedule schedule) {
         this.schedule.resetData(schedule);
+        refreshTaskLookup();
+        refreshTodaysTasks();
     }
 
     @Override
@@ -35,6 +56,13 @@ public class ScheduleModelManager implements ScheduleModel {
         return schedule;
     }
 
+    /**
+     * Returns the modification counter of the schedule.
+     */
+    public long getScheduleVersion() {
+        return schedule.getVersion();
+    }
+
     @Override
     public boolean hasTask(Task task) {
         requireNonNull(task);
@@ -62,6 +90,7 @@ public class ScheduleModelManager implements ScheduleModel {
     @Override
     public void setTask(Task target, Task editedTask) {
         schedule.setTask(target, editedTask);
+        refreshTaskLookup();
         updateTodaysTask(PREDICATE_SHOW_ALL_TASKS);
     }
 
@@ -69,24 +98,120 @@ public class ScheduleModelManager implements ScheduleModel {
 
     @Override
     public ObservableList<Task> getFilteredTaskList() {
-        return filteredTasks;
+        return shownTasks;
     }
 
     @Override
     public ObservableList<Task> getUpcomingTaskList() {
-        todayTasks.setPredicate(new TaskHappensTodayPredicate());
-        return todayTasks;
+        return unmodifiableTodayTasks;
+    }
+
+    @Override
+    public void updateUpcomingTaskList(LocalDate today) {
+        requireNonNull(today);
+        this.today = today;
+        refreshTodaysTasks();
     }
 
     @Override
     public void updateFilteredTaskList(Predicate<Task> predicate) {
         requireNonNull(predicate);
+        taskLookup = null;
         filteredTasks.setPredicate(predicate);
+        shownTasks.setComparator(null);
         updateTodaysTask(predicate);
     }
 
-    private void updateTodaysTask(Predicate<Task> predicate) {
-        todayTasks.setPredicate(task -> predicate.test(task) && new TaskHappensTodayPredicate().test(task));
+    @Override
+    public void updateFilteredTaskList(LocalDate startDate, LocalDate endDate) {
+        requireNonNull(startDate);
+        requireNonNull(endDate);
+        showLookedUpTasks(() -> {
+            filterTo(schedule.getTasksBetween(startDate, endDate));
+            shownTasks.setComparator(null);
+        });
+    }
+
+    @Override
+    public void updateFilteredTaskListByRelevance(List<String> keywords) {
+        requireNonNull(keywords);
+        showLookedUpTasks(() -> {
+            Map<Task, Integer> scores = schedule.searchTasksByRelevance(keywords);
+            filterTo(scores.keySet());
+            // The sort is stable, so tasks with the same score stay in schedule order
+            shownTasks.setComparator((first, second) ->
+                    Integer.compare(scores.getOrDefault(second, 0), scores.getOrDefault(first, 0)));
+        });
+    }
+
+    @Override
+    public void searchTasks(List<String> keywords) {
+        requireNonNull(keywords);
+        showLookedUpTasks(() -> {
+            filterTo(schedule.searchTasks(keywords));
+            shownTasks.setComparator(null);
+        });
+    }
+
+    /**
+     * Shows the tasks found by {@code lookup}, which filters the task list down to tasks looked up from the
+     * schedule's indexes. The lookup is run again whenever tasks of the schedule are replaced, so that edited
+     * tasks are shown if they still match.
+     */
+    private void showLookedUpTasks(Runnable lookup) {
+        taskLookup = lookup;
+        lookup.run();
+        updateTodaysTask(filteredTasks.getPredicate());
+    }
+
+    private void refreshTaskLookup() {
+        if (taskLookup != null) {
+            taskLookup.run();
+        }
+    }
+
+    /**
+     * Filters the task list down to {@code tasks}, which must be tasks of the schedule, leaving today's tasks as
+     * they are.
+     */
+    private void filterTo(Collection<Task> tasks) {
+        // Compared by reference, as the filter is tested on every task of the schedule
+        Set<Task> tasksToShow = Collections.newSetFromMap(new IdentityHashMap<>());
+        tasksToShow.addAll(tasks);
+        filteredTasks.setPredicate(tasksToShow::contains);
+    }
+
+    private void updateTodaysTask(Predicate<? super Task> predicate) {
+        todayTasksFilter = predicate;
+        refreshTodaysTasks();
+    }
+
+    /**
+     * Fills the list of today's tasks from the tasks the schedule has on {@code today}.
+     * The list is left untouched if its tasks are unchanged, so that listeners are not notified needlessly.
+     */
+    private void refreshTodaysTasks() {
+        List<Task> tasks = new ArrayList<>();
+        for (Task task : schedule.getTasksOn(today)) {
+            if (task.happensOn(today) && todayTasksFilter.test(task)) {
+                tasks.add(task);
+            }
+        }
+        if (!hasSameTasks(todayTasks, tasks)) {
+            todayTasks.setAll(tasks);
+        }
+    }
+
+    private static boolean hasSameTasks(List<Task> first, List<Task> second) {
+        if (first.size() != second.size()) {
+            return false;
+        }
+        for (int i = 0; i < first.size(); i++) {
+            if (first.get(i) != second.get(i)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
@@ -0,0 +1,234 @@
+package seedu.studybananas.model.flashcard;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.studybananas.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.studybananas.commons.util.StringUtil.getLowerCaseWords;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import seedu.studybananas.commons.core.index.Index;
+
+/**
+ * An inverted index from the words in the questions and answers of flashcards to the positions of the flashcards
+ * containing them, across all flashcard sets of a flashcard bank.
+ *
+ * Words are the runs of letters and digits in the text, compared ignoring case. A flashcard scores
+ * {@link #QUESTION_WORD_SCORE} for each searched word in its question and {@link #ANSWER_WORD_SCORE} for each
+ * searched word in its answer, and search results are ranked by score. Flashcards with the same score are ranked
+ * in the order they were indexed.
+ *
+ * The index holds the words of each flashcard and its position in its set, but not the flashcard itself, so that
+ * sets paged in from storage are only read while they are indexed. Only the flashcards in the search results are
+ * read from their sets again.
+ *
+ * Flashcard sets are told apart by name, as in a flashcard bank. The index must be told about every change to
+ * the flashcards of the sets it holds.
+ */
+public class FlashcardSearchIndex {
+
+    public static final int QUESTION_WORD_SCORE = 2;
+    public static final int ANSWER_WORD_SCORE = 1;
+
+    private static final Comparator<Map.Entry<IndexedFlashcard, Integer>> RANKING =
+            Comparator.<Map.Entry<IndexedFlashcard, Integer>>comparingInt(Map.Entry::getValue).reversed()
+                    .thenComparingLong(entry -> entry.getKey().sequenceNumber);
+
+    private final Map<String, Set<IndexedFlashcard>> flashcardsByWord = new HashMap<>();
+    private final Map<FlashcardSetName, IndexedFlashcardSet> flashcardSetsByName = new HashMap<>();
+    private long nextSequenceNumber;
+
+    /**
+     * Replaces the contents of the index with the flashcards of {@code flashcardSets}.
+     */
+    public void setFlashcardSets(List<FlashcardSet> flashcardSets) {
+        requireNonNull(flashcardSets);
+        flashcardsByWord.clear();
+        flashcardSetsByName.clear();
+        for (FlashcardSet flashcardSet : flashcardSets) {
+            addFlashcardSet(flashcardSet);
+        }
+    }
+
+    /**
+     * Adds all flashcards of {@code flashcardSet} to the index.
+     */
+    public void addFlashcardSet(FlashcardSet flashcardSet) {
+        requireNonNull(flashcardSet);
+        for (Flashcard flashcard : flashcardSet.getFlashcards()) {
+            addFlashcard(flashcardSet, flashcard);
+        }
+    }
+
+    /**
+     * Removes all flashcards of {@code flashcardSet} from the index.
+     */
+    public void removeFlashcardSet(FlashcardSet flashcardSet) {
+        requireNonNull(flashcardSet);
+        IndexedFlashcardSet removed = flashcardSetsByName.remove(flashcardSet.getName());
+        if (removed == null) {
+            return;
+        }
+        for (IndexedFlashcard indexedFlashcard : removed.flashcards) {
+            removeWords(indexedFlashcard);
+        }
+    }
+
+    /**
+     * Adds {@code flashcard}, which has just been added to the end of {@code flashcardSet}, to the index.
+     */
+    public void addFlashcard(FlashcardSet flashcardSet, Flashcard flashcard) {
+        requireAllNonNull(flashcardSet, flashcard);
+        IndexedFlashcardSet indexedFlashcardSet = flashcardSetsByName.get(flashcardSet.getName());
+        if (indexedFlashcardSet == null) {
+            indexedFlashcardSet = new IndexedFlashcardSet(flashcardSet);
+            flashcardSetsByName.put(flashcardSet.getName(), indexedFlashcardSet);
+        }
+        IndexedFlashcard indexedFlashcard = new IndexedFlashcard(indexedFlashcardSet, flashcard, nextSequenceNumber++);
+        indexedFlashcardSet.flashcards.add(indexedFlashcard);
+        addWords(indexedFlashcard);
+    }
+
+    /**
+     * Replaces the flashcard at {@code flashcardIndex} of {@code flashcardSet} in the index with
+     * {@code editedFlashcard}, which has just taken its place in the set.
+     */
+    public void setFlashcard(FlashcardSet flashcardSet, Index flashcardIndex, Flashcard editedFlashcard) {
+        requireAllNonNull(flashcardSet, flashcardIndex, editedFlashcard);
+        IndexedFlashcardSet indexedFlashcardSet = flashcardSetsByName.get(flashcardSet.getName());
+        if (indexedFlashcardSet == null) {
+            return;
+        }
+        IndexedFlashcard edited = new IndexedFlashcard(indexedFlashcardSet, editedFlashcard, nextSequenceNumber++);
+        removeWords(indexedFlashcardSet.flashcards.set(flashcardIndex.getZeroBased(), edited));
+        addWords(edited);
+    }
+
+    /**
+     * Removes the flashcard at {@code flashcardIndex} of {@code flashcardSet} from the index, where it has just been
+     * deleted from the set.
+     */
+    public void removeFlashcard(FlashcardSet flashcardSet, Index flashcardIndex) {
+        requireAllNonNull(flashcardSet, flashcardIndex);
+        IndexedFlashcardSet indexedFlashcardSet = flashcardSetsByName.get(flashcardSet.getName());
+        if (indexedFlashcardSet == null) {
+            return;
+        }
+        removeWords(indexedFlashcardSet.flashcards.remove(flashcardIndex.getZeroBased()));
+        if (indexedFlashcardSet.flashcards.isEmpty()) {
+            flashcardSetsByName.remove(flashcardSet.getName());
+        }
+    }
+
+    /**
+     * Returns at most {@code limit} flashcards containing any word of {@code keywords}, best matches first.
+     */
+    public List<FlashcardSearchResult> search(List<String> keywords, int limit) {
+        requireNonNull(keywords);
+        Set<String> searchedWords = new LinkedHashSet<>();
+        for (String keyword : keywords) {
+            searchedWords.addAll(getLowerCaseWords(keyword));
+        }
+
+        Map<IndexedFlashcard, Integer> scores = new HashMap<>();
+        for (String word : searchedWords) {
+            for (IndexedFlashcard indexedFlashcard : flashcardsByWord.getOrDefault(word, Collections.emptySet())) {
+                scores.merge(indexedFlashcard, indexedFlashcard.getScore(word), Integer::sum);
+            }
+        }
+
+        // Keep only the best matches, the worst of them at the head of the queue
+        PriorityQueue<Map.Entry<IndexedFlashcard, Integer>> bestMatches = new PriorityQueue<>(RANKING.reversed());
+        for (Map.Entry<IndexedFlashcard, Integer> entry : scores.entrySet()) {
+            bestMatches.add(entry);
+            if (bestMatches.size() > limit) {
+                bestMatches.poll();
+            }
+        }
+
+        List<Map.Entry<IndexedFlashcard, Integer>> ranked = new ArrayList<>(bestMatches);
+        ranked.sort(RANKING);
+        List<FlashcardSearchResult> results = new ArrayList<>();
+        for (Map.Entry<IndexedFlashcard, Integer> entry : ranked) {
+            IndexedFlashcard indexedFlashcard = entry.getKey();
+            FlashcardSet flashcardSet = indexedFlashcard.owner.flashcardSet;
+            int position = indexedFlashcard.getPosition();
+            results.add(new FlashcardSearchResult(flashcardSet, Index.fromZeroBased(position),
+                    flashcardSet.getFlashcard(position), entry.getValue()));
+        }
+        return results;
+    }
+
+    private void addWords(IndexedFlashcard indexedFlashcard) {
+        for (String word : indexedFlashcard.getWords()) {
+            flashcardsByWord.computeIfAbsent(word, unused -> new HashSet<>()).add(indexedFlashcard);
+        }
+    }
+
+    private void removeWords(IndexedFlashcard indexedFlashcard) {
+        for (String word : indexedFlashcard.getWords()) {
+            Set<IndexedFlashcard> flashcards = flashcardsByWord.get(word);
+            if (flashcards != null && flashcards.remove(indexedFlashcard) && flashcards.isEmpty()) {
+                flashcardsByWord.remove(word);
+            }
+        }
+    }
+
+    /**
+     * The indexed flashcards of a set, in the order of the flashcards in the set.
+     */
+    private static class IndexedFlashcardSet {
+        private final FlashcardSet flashcardSet;
+        private final List<IndexedFlashcard> flashcards = new ArrayList<>();
+
+        IndexedFlashcardSet(FlashcardSet flashcardSet) {
+            this.flashcardSet = flashcardSet;
+        }
+    }
+
+    /**
+     * The words of a flashcard in the index. Compared by reference, as equal flashcards can be in several sets.
+     */
+    private static class IndexedFlashcard {
+        private final IndexedFlashcardSet owner;
+        private final long sequenceNumber;
+        private final Set<String> questionWords;
+        private final Set<String> answerWords;
+
+        IndexedFlashcard(IndexedFlashcardSet owner, Flashcard flashcard, long sequenceNumber) {
+            this.owner = owner;
+            this.sequenceNumber = sequenceNumber;
+            this.questionWords = getLowerCaseWords(flashcard.getQuestion().question);
+            this.answerWords = getLowerCaseWords(flashcard.getAnswer().answer);
+        }
+
+        /**
+         * Returns the position of the flashcard in its set. Only looked up for search results, as positions
+         * shift whenever a flashcard before it is deleted.
+         */
+        int getPosition() {
+            int position = owner.flashcards.indexOf(this);
+            assert position >= 0 : "indexed flashcard should be in its flashcard set";
+            return position;
+        }
+
+        Set<String> getWords() {
+            Set<String> words = new HashSet<>(questionWords);
+            words.addAll(answerWords);
+            return words;
+        }
+
+        int getScore(String word) {
+            return (questionWords.contains(word) ? QUESTION_WORD_SCORE : 0)
+                    + (answerWords.contains(word) ? ANSWER_WORD_SCORE : 0);
+        }
+    }
+}
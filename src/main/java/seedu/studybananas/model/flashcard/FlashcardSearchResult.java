@@ -0,0 +1,74 @@
+package seedu.studybananas.model.flashcard;
+
+import static seedu.studybananas.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import seedu.studybananas.commons.core.index.Index;
+
+/**
+ * A flashcard found by a search, together with the set it is in, its index in that set,
+ * and how well it matches the search. A higher score is a better match.
+ */
+public class FlashcardSearchResult {
+
+    private final FlashcardSet flashcardSet;
+    private final Index flashcardIndex;
+    private final Flashcard flashcard;
+    private final int score;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public FlashcardSearchResult(FlashcardSet flashcardSet, Index flashcardIndex, Flashcard flashcard, int score) {
+        requireAllNonNull(flashcardSet, flashcardIndex, flashcard);
+        this.flashcardSet = flashcardSet;
+        this.flashcardIndex = flashcardIndex;
+        this.flashcard = flashcard;
+        this.score = score;
+    }
+
+    public FlashcardSet getFlashcardSet() {
+        return flashcardSet;
+    }
+
+    public Index getFlashcardIndex() {
+        return flashcardIndex;
+    }
+
+    public Flashcard getFlashcard() {
+        return flashcard;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof FlashcardSearchResult)) {
+            return false;
+        }
+
+        FlashcardSearchResult otherResult = (FlashcardSearchResult) other;
+        return otherResult.flashcardSet.getName().equals(flashcardSet.getName())
+                && otherResult.flashcardIndex.equals(flashcardIndex)
+                && otherResult.flashcard.equals(flashcard)
+                && otherResult.score == score;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(flashcardSet.getName(), flashcardIndex.getZeroBased(), flashcard, score);
+    }
+
+    @Override
+    public String toString() {
+        return flashcardSet.getName() + " #" + flashcardIndex.getOneBased() + ": "
+                + flashcard.getQuestion() + " (score " + score + ")";
+    }
+}
@@ -2,20 +2,38 @@ package seedu.studybananas.model.flashcard;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import seedu.studybananas.commons.core.index.Index;
+import seedu.studybananas.model.flashcard.exceptions.CorruptedFlashcardException;
 import seedu.studybananas.model.flashcard.exceptions.DuplicateFlashcardException;
 import seedu.studybananas.model.flashcard.exceptions.FlashcardNotFoundException;
 
 /**
  * Represents a FlashcardSet that contains flashcards for quiz.
+ *
+ * A set can be backed by a {@link FlashcardSetPage} in storage, in which case its flashcards are only
+ * decoded when needed. Such a set stays paged out until it is {@link #decode() decoded}, and can be
+ * {@link #evict() evicted} again as long as it has not been modified.
+ *
+ * The position of each flashcard of a decoded set is kept in a hash map alongside the list of flashcards, so that
+ * finding, adding and replacing a flashcard do not search the list. A paged out set is searched in its page
+ * instead, so that looking a flashcard up does not hold on to every flashcard of the set.
  */
 public class FlashcardSet {
 
-    private final List<Flashcard> flashcards = new ArrayList<>();
+    // Null while the set is paged out
+    private List<Flashcard> flashcards;
+    // The unmodified flashcards in storage, or null if the set is not paged or has been modified
+    private FlashcardSetPage page;
+    // The first position of each decoded flashcard, built when first needed and dropped when the set is evicted
+    private Map<Flashcard, Integer> flashcardIndexes;
     private final FlashcardSetName flashcardSetName;
 
     /**
@@ -23,6 +41,7 @@ public class FlashcardSet {
      */
     public FlashcardSet(FlashcardSetName flashcardSetName) {
         this.flashcardSetName = flashcardSetName;
+        this.flashcards = new ArrayList<>();
     }
 
     /**
@@ -30,7 +49,16 @@ public class FlashcardSet {
      */
     public FlashcardSet(FlashcardSetName flashcardSetName, List<Flashcard> flashcards) {
         this.flashcardSetName = flashcardSetName;
-        this.flashcards.addAll(flashcards);
+        this.flashcards = new ArrayList<>(flashcards);
+    }
+
+    /**
+     * Creates a paged out FlashcardSet whose flashcards are in {@code page}.
+     */
+    public FlashcardSet(FlashcardSetName flashcardSetName, FlashcardSetPage page) {
+        requireNonNull(page);
+        this.flashcardSetName = flashcardSetName;
+        this.page = page;
     }
 
     public FlashcardSetName getName() {
@@ -41,20 +69,136 @@ public class FlashcardSet {
         return flashcardSetName;
     }
 
+    /**
+     * Returns the flashcards of this set. If the set is paged out, the returned list is an unmodifiable view
+     * that decodes each flashcard when it is accessed, without paging the set in.
+     */
     public List<Flashcard> getFlashcards() {
-        return flashcards;
+        if (flashcards != null) {
+            return Collections.unmodifiableList(flashcards);
+        }
+        FlashcardSetPage pagedOut = page;
+        return new AbstractList<>() {
+            @Override
+            public Flashcard get(int index) {
+                return pagedOut.getFlashcard(index);
+            }
+
+            @Override
+            public int size() {
+                return pagedOut.getSize();
+            }
+        };
     }
 
     public int getSize() {
-        return flashcards.size();
+        return flashcards != null ? flashcards.size() : page.getSize();
     }
 
     public Flashcard getFlashcard(int index) {
-        return flashcards.get(index);
+        return flashcards != null ? flashcards.get(index) : page.getFlashcard(index);
+    }
+
+    /**
+     * Returns the index of {@code flashcard} in this set, or -1 if the set does not contain it.
+     */
+    public int indexOf(Flashcard flashcard) {
+        requireNonNull(flashcard);
+        return positionOf(flashcard);
     }
 
+    /**
+     * Returns the index of {@code flashcard} in this set, or -1 if the set does not contain it or it is null.
+     */
+    private int positionOf(Flashcard flashcard) {
+        if (flashcards != null) {
+            return getFlashcardIndexes().getOrDefault(flashcard, -1);
+        }
+        for (int i = 0; i < page.getSize(); i++) {
+            if (page.getFlashcard(i).equals(flashcard)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the positions of the flashcards of this set, which must be decoded.
+     */
+    private Map<Flashcard, Integer> getFlashcardIndexes() {
+        assert flashcards != null : "Flashcard positions are only kept for decoded sets";
+        if (flashcardIndexes == null) {
+            flashcardIndexes = new HashMap<>();
+            for (int i = 0; i < flashcards.size(); i++) {
+                flashcardIndexes.putIfAbsent(flashcards.get(i), i);
+            }
+        }
+        return flashcardIndexes;
+    }
+
+    /**
+     * Returns true if the set, which must be decoded, holds equal flashcards, which can only be read from storage,
+     * in which case the positions of flashcards cannot be updated one flashcard at a time.
+     */
+    private boolean hasDuplicateFlashcards() {
+        return getFlashcardIndexes().size() < getSize();
+    }
+
+    /**
+     * Returns true if the flashcards of this set are held in memory.
+     */
+    public boolean isDecoded() {
+        return flashcards != null;
+    }
+
+    /**
+     * Decodes the flashcards of this set and holds them in memory until the set is evicted.
+     * Flashcards in storage are only checked as they are decoded, so this is where a corrupted set is found.
+     *
+     * @throws CorruptedFlashcardException if a flashcard of the set in storage is invalid.
+     */
+    public void decode() {
+        if (flashcards == null) {
+            flashcards = new ArrayList<>(getFlashcards());
+        }
+    }
+
+    /**
+     * Releases the decoded flashcards of this set if they are unmodified and can be decoded again from storage.
+     */
+    public void evict() {
+        if (page != null) {
+            flashcards = null;
+            flashcardIndexes = null;
+        }
+    }
+
+    /**
+     * Returns a copy of this set that is unaffected by later changes to this set.
+     * The copy of a set that is unmodified since it was read from storage shares its page and is paged out.
+     */
+    public FlashcardSet copy() {
+        if (page != null) {
+            return new FlashcardSet(flashcardSetName, page);
+        }
+        return new FlashcardSet(flashcardSetName, flashcards);
+    }
+
+    /**
+     * Decodes the flashcards of this set for modification. The set can no longer be evicted afterwards.
+     */
+    private List<Flashcard> modifiableFlashcards() {
+        decode();
+        page = null;
+        return flashcards;
+    }
+
+    /**
+     * Replaces the flashcard {@code target} in the set with {@code editedFlashcard}.
+     * {@code target} must be in the set, and {@code editedFlashcard} must not be another flashcard of the set.
+     */
     public void setFlashcard(Flashcard target, Flashcard editedFlashcard) {
-        int setIndex = flashcards.indexOf(target);
+        int setIndex = positionOf(target);
 
         if (setIndex == -1) {
             throw new FlashcardNotFoundException();
@@ -64,7 +208,15 @@ public class FlashcardSet {
             throw new DuplicateFlashcardException();
         }
 
+        List<Flashcard> flashcards = modifiableFlashcards();
+        boolean hasDuplicateFlashcards = hasDuplicateFlashcards();
         flashcards.set(setIndex, editedFlashcard);
+        if (hasDuplicateFlashcards) {
+            flashcardIndexes = null;
+        } else {
+            flashcardIndexes.remove(target);
+            flashcardIndexes.put(editedFlashcard, setIndex);
+        }
     }
 
     /**
@@ -73,8 +225,7 @@ public class FlashcardSet {
      * @return boolean true or false
      */
     public boolean hasFlashcard(Flashcard flashcard) {
-        requireNonNull(flashcard);
-        return flashcards.contains(flashcard);
+        return indexOf(flashcard) != -1;
     }
 
     /**
@@ -86,19 +237,35 @@ public class FlashcardSet {
         if (hasFlashcard(flashcard)) {
             throw new DuplicateFlashcardException();
         }
+        List<Flashcard> flashcards = modifiableFlashcards();
+        getFlashcardIndexes().put(flashcard, flashcards.size());
         flashcards.add(flashcard);
     }
 
     /**
      * Deletes a flashcard at the specified flashcard index.
      * @param flashcardIndex provided
+     * @return the deleted flashcard
      */
-    public void deleteFlashcard(Index flashcardIndex) {
-        try {
-            flashcards.remove(flashcardIndex.getZeroBased());
-        } catch (IndexOutOfBoundsException e) {
+    public Flashcard deleteFlashcard(Index flashcardIndex) {
+        int deletedIndex = flashcardIndex.getZeroBased();
+        if (deletedIndex >= getSize()) {
             throw new FlashcardNotFoundException();
         }
+
+        List<Flashcard> flashcards = modifiableFlashcards();
+        boolean hasDuplicateFlashcards = hasDuplicateFlashcards();
+        Flashcard deletedFlashcard = flashcards.remove(deletedIndex);
+        if (hasDuplicateFlashcards) {
+            flashcardIndexes = null;
+            return deletedFlashcard;
+        }
+        // The flashcards after the deleted one move up by one
+        flashcardIndexes.remove(deletedFlashcard);
+        for (int i = deletedIndex; i < flashcards.size(); i++) {
+            flashcardIndexes.put(flashcards.get(i), i);
+        }
+        return deletedFlashcard;
     }
 
     @Override
@@ -117,8 +284,8 @@ public class FlashcardSet {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(flashcardSetName, flashcards);
+        // Sets are equal by name, which also spares decoding the flashcards of a paged out set
+        return Objects.hash(flashcardSetName);
     }
 
     @Override
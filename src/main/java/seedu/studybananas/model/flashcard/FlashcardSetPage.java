@@ -0,0 +1,23 @@
+package seedu.studybananas.model.flashcard;
+
+import seedu.studybananas.model.flashcard.exceptions.CorruptedFlashcardException;
+
+/**
+ * The flashcards of a {@code FlashcardSet} as they are kept in storage, decoded one at a time on request.
+ * Implementations must be immutable and safe to read from any thread.
+ */
+public interface FlashcardSetPage {
+
+    /**
+     * Returns the number of flashcards in the page.
+     */
+    int getSize();
+
+    /**
+     * Decodes the flashcard at the zero-based {@code index}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is out of range.
+     * @throws CorruptedFlashcardException if the flashcard in storage is invalid.
+     */
+    Flashcard getFlashcard(int index);
+}
@@ -3,26 +3,45 @@ package seedu.studybananas.model.flashcard;
 import static java.util.Objects.requireNonNull;
 import static seedu.studybananas.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.studybananas.model.flashcard.exceptions.DuplicateFlashcardSetException;
 import seedu.studybananas.model.flashcard.exceptions.FlashcardSetNotFoundException;
 
+/**
+ * A list of flashcard sets that enforces uniqueness between its elements and does not allow nulls.
+ * Flashcard sets are equivalent if they have the same name, and are also indexed by name,
+ * so that looking a flashcard set up by name does not go through the list.
+ */
 public class UniqueFlashcardSetList implements Iterable<FlashcardSet> {
 
     private final ObservableList<FlashcardSet> internalList = FXCollections.observableArrayList();
     private final ObservableList<FlashcardSet> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<FlashcardSetName, FlashcardSet> flashcardSetsByName = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent flashcard set as the given argument.
      */
     public boolean contains(FlashcardSet toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return flashcardSetsByName.containsKey(toCheck.getName());
+    }
+
+    /**
+     * Returns the flashcard set named {@code name}, if the list contains one.
+     */
+    public Optional<FlashcardSet> get(FlashcardSetName name) {
+        requireNonNull(name);
+        return Optional.ofNullable(flashcardSetsByName.get(name));
     }
 
     /**
@@ -34,6 +53,7 @@ public class UniqueFlashcardSetList implements Iterable<FlashcardSet> {
         if (contains(toAdd)) {
             throw new DuplicateFlashcardSetException();
         }
+        flashcardSetsByName.put(toAdd.getName(), toAdd);
         internalList.add(toAdd);
     }
 
@@ -46,8 +66,7 @@ public class UniqueFlashcardSetList implements Iterable<FlashcardSet> {
     public void setFlashcardSet(FlashcardSet target, FlashcardSet editedFlashcardSet) {
         requireAllNonNull(target, editedFlashcardSet);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        if (!contains(target)) {
             throw new FlashcardSetNotFoundException();
         }
 
@@ -55,7 +74,9 @@ public class UniqueFlashcardSetList implements Iterable<FlashcardSet> {
             throw new DuplicateFlashcardSetException();
         }
 
-        internalList.set(index, editedFlashcardSet);
+        flashcardSetsByName.remove(target.getName());
+        flashcardSetsByName.put(editedFlashcardSet.getName(), editedFlashcardSet);
+        internalList.set(internalList.indexOf(target), editedFlashcardSet);
     }
 
     /**
@@ -64,13 +85,17 @@ public class UniqueFlashcardSetList implements Iterable<FlashcardSet> {
      */
     public void remove(FlashcardSet toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        if (!contains(toRemove)) {
             throw new FlashcardSetNotFoundException();
         }
+        flashcardSetsByName.remove(toRemove.getName());
+        internalList.remove(toRemove);
     }
 
     public void setFlashcardSets(UniqueFlashcardSetList replacement) {
         requireNonNull(replacement);
+        flashcardSetsByName.clear();
+        flashcardSetsByName.putAll(replacement.flashcardSetsByName);
         internalList.setAll(replacement.internalList);
     }
 
@@ -84,6 +109,10 @@ public class UniqueFlashcardSetList implements Iterable<FlashcardSet> {
             throw new DuplicateFlashcardSetException();
         }
 
+        flashcardSetsByName.clear();
+        for (FlashcardSet flashcardSet : flashcardSets) {
+            flashcardSetsByName.put(flashcardSet.getName(), flashcardSet);
+        }
         internalList.setAll(flashcardSets);
     }
 
@@ -115,11 +144,10 @@ public class UniqueFlashcardSetList implements Iterable<FlashcardSet> {
      * Returns true if {@code flashcardSets} contains only unique flashcardSets.
      */
     private boolean flashcardSetsAreUnique(List<FlashcardSet> flashcardSets) {
-        for (int i = 0; i < flashcardSets.size() - 1; i++) {
-            for (int j = i + 1; j < flashcardSets.size(); j++) {
-                if (flashcardSets.get(i).equals(flashcardSets.get(j))) {
-                    return false;
-                }
+        Set<FlashcardSetName> names = new HashSet<>();
+        for (FlashcardSet flashcardSet : flashcardSets) {
+            if (!names.add(flashcardSet.getName())) {
+                return false;
             }
         }
         return true;
@@ -0,0 +1,10 @@
+package seedu.studybananas.model.flashcard.exceptions;
+
+/**
+ * Signals that a flashcard decoded from storage is invalid, as the data it was stored in is corrupted.
+ */
+public class CorruptedFlashcardException extends RuntimeException {
+    public CorruptedFlashcardException(String message) {
+        super("Flashcard in storage is corrupted: " + message);
+    }
+}
@@ -3,9 +3,15 @@ package seedu.studybananas.model.systemlevelmodel;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Optional;
 
 import javafx.collections.ObservableList;
+import seedu.studybananas.commons.core.index.Index;
+import seedu.studybananas.model.flashcard.Flashcard;
+import seedu.studybananas.model.flashcard.FlashcardSearchIndex;
+import seedu.studybananas.model.flashcard.FlashcardSearchResult;
 import seedu.studybananas.model.flashcard.FlashcardSet;
+import seedu.studybananas.model.flashcard.FlashcardSetName;
 import seedu.studybananas.model.flashcard.UniqueFlashcardSetList;
 
 
@@ -13,10 +19,17 @@ import seedu.studybananas.model.flashcard.UniqueFlashcardSetList;
 /**
  * Wraps all data of flashcard sets.
  * Duplicates are not allowed.
+ * The questions and answers of all flashcards can be searched through a {@code FlashcardSearchIndex}, which is
+ * built on the first search, so that flashcard sets paged in from storage are not read before they are needed.
+ * Building the index reads the text of every flashcard once, but leaves paged out sets paged out.
  */
 public class FlashcardBank implements ReadOnlyFlashcardBank {
 
     private final UniqueFlashcardSetList flashcardSets;
+    private final FlashcardSearchIndex searchIndex = new FlashcardSearchIndex();
+    // Whether searchIndex holds the flashcards of this bank, it is only maintained once built
+    private boolean isSearchIndexBuilt;
+    private long version;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -45,6 +58,8 @@ public class FlashcardBank implements ReadOnlyFlashcardBank {
      */
     public void setFlashcardSets(List<FlashcardSet> flashcardSets) {
         this.flashcardSets.setFlashcardSets(flashcardSets);
+        isSearchIndexBuilt = false;
+        version++;
     }
 
     /**
@@ -66,12 +81,23 @@ public class FlashcardBank implements ReadOnlyFlashcardBank {
         return flashcardSets.contains(task);
     }
 
+    /**
+     * Returns the flashcard set named {@code name}, if there is one in the flashcard bank.
+     */
+    public Optional<FlashcardSet> getFlashcardSet(FlashcardSetName name) {
+        return flashcardSets.get(name);
+    }
+
     /**
      * Adds a task to the schedule.
      * The task must not already exist in the schedule.
      */
     public void addFlashcardSet(FlashcardSet t) {
         flashcardSets.add(t);
+        if (isSearchIndexBuilt) {
+            searchIndex.addFlashcardSet(t);
+        }
+        version++;
     }
 
     /**
@@ -83,6 +109,11 @@ public class FlashcardBank implements ReadOnlyFlashcardBank {
         requireNonNull(editedFlashcardSet);
 
         flashcardSets.setFlashcardSet(target, editedFlashcardSet);
+        if (isSearchIndexBuilt) {
+            searchIndex.removeFlashcardSet(target);
+            searchIndex.addFlashcardSet(editedFlashcardSet);
+        }
+        version++;
     }
 
     /**
@@ -91,6 +122,71 @@ public class FlashcardBank implements ReadOnlyFlashcardBank {
      */
     public void removeFlashcardSet(FlashcardSet key) {
         flashcardSets.remove(key);
+        if (isSearchIndexBuilt) {
+            searchIndex.removeFlashcardSet(key);
+        }
+        version++;
+    }
+
+    //// flashcard-level operations
+
+    /**
+     * Adds {@code flashcard} to {@code flashcardSet} of this {@code FlashcardBank}.
+     * The flashcard must not already exist in the set.
+     */
+    public void addFlashcard(FlashcardSet flashcardSet, Flashcard flashcard) {
+        flashcardSet.addFlashcard(flashcard);
+        if (isSearchIndexBuilt) {
+            searchIndex.addFlashcard(flashcardSet, flashcard);
+        }
+        version++;
+    }
+
+    /**
+     * Replaces {@code target} in {@code flashcardSet} of this {@code FlashcardBank} with {@code editedFlashcard}.
+     * {@code target} must exist in the set.
+     */
+    public void setFlashcard(FlashcardSet flashcardSet, Flashcard target, Flashcard editedFlashcard) {
+        flashcardSet.setFlashcard(target, editedFlashcard);
+        if (isSearchIndexBuilt) {
+            // The set is decoded once modified, so this does not search it
+            int position = flashcardSet.indexOf(editedFlashcard);
+            searchIndex.setFlashcard(flashcardSet, Index.fromZeroBased(position), editedFlashcard);
+        }
+        version++;
+    }
+
+    /**
+     * Removes the flashcard at {@code flashcardIndex} from {@code flashcardSet} of this {@code FlashcardBank}.
+     */
+    public void deleteFlashcard(FlashcardSet flashcardSet, Index flashcardIndex) {
+        flashcardSet.deleteFlashcard(flashcardIndex);
+        if (isSearchIndexBuilt) {
+            searchIndex.removeFlashcard(flashcardSet, flashcardIndex);
+        }
+        version++;
+    }
+
+    /**
+     * Returns at most {@code limit} flashcards of this bank whose question or answer contains any word of
+     * {@code keywords}, best matches first. See {@link FlashcardSearchIndex} for how matches are ranked.
+     */
+    public List<FlashcardSearchResult> searchFlashcards(List<String> keywords, int limit) {
+        requireNonNull(keywords);
+        if (!isSearchIndexBuilt) {
+            searchIndex.setFlashcardSets(flashcardSets.asUnmodifiableObservableList());
+            isSearchIndexBuilt = true;
+        }
+        return searchIndex.search(keywords, limit);
+    }
+
+    /**
+     * Returns the number of modifications made to this {@code FlashcardBank}, including those made to
+     * the flashcards of its sets through this {@code FlashcardBank}.
+     * The value changes whenever the bank changes, so it can be used to detect unsaved changes.
+     */
+    public long getVersion() {
+        return version;
     }
 
     //// util methods
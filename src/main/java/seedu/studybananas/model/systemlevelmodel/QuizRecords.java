@@ -12,6 +12,7 @@ import seedu.studybananas.model.quiz.UniqueQuizRecordsMap;
 public class QuizRecords implements ReadOnlyQuizRecords {
 
     private final UniqueQuizRecordsMap quizRecordsMap;
+    private long version;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -40,6 +41,7 @@ public class QuizRecords implements ReadOnlyQuizRecords {
      */
     public void setQuizRecordsMap(Map<FlashcardSetName, Quiz> quizRecordsMap) {
         this.quizRecordsMap.setQuizRecords(quizRecordsMap);
+        version++;
     }
 
     /**
@@ -67,6 +69,7 @@ public class QuizRecords implements ReadOnlyQuizRecords {
      */
     public void addQuiz(Quiz quiz) {
         quizRecordsMap.add(quiz.getFlsetName(), quiz);
+        version++;
     }
 
     /**
@@ -78,6 +81,7 @@ public class QuizRecords implements ReadOnlyQuizRecords {
         requireNonNull(editedQuiz);
 
         quizRecordsMap.setQuiz(target, editedQuiz);
+        version++;
     }
 
     /**
@@ -86,12 +90,21 @@ public class QuizRecords implements ReadOnlyQuizRecords {
      */
     public void removeQuiz(FlashcardSetName key) {
         quizRecordsMap.remove(key);
+        version++;
     }
 
     public Quiz getQuiz(FlashcardSetName name) {
         return quizRecordsMap.getQuiz(name);
     }
 
+    /**
+     * Returns the number of modifications made to this {@code QuizRecords}.
+     * The value changes whenever the records change, so it can be used to detect unsaved changes.
+     */
+    public long getVersion() {
+        return version;
+    }
+
     //// util methods
 
     @Override
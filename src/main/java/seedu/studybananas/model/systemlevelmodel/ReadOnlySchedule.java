@@ -1,5 +1,7 @@
 package seedu.studybananas.model.systemlevelmodel;
 
+import java.util.Optional;
+
 import javafx.collections.ObservableList;
 import seedu.studybananas.model.task.Task;
 
@@ -15,4 +17,12 @@ public interface ReadOnlySchedule {
      */
     ObservableList<Task> getTaskList();
 
+    /**
+     * Returns the mark of this schedule in the history of changes leading to it, or {@code Optional.empty()} if
+     * its changes are not recorded.
+     */
+    default Optional<ScheduleHistory.Mark> getHistoryMark() {
+        return Optional.empty();
+    }
+
 }
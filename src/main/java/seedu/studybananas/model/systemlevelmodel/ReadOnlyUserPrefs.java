@@ -3,6 +3,7 @@ package seedu.studybananas.model.systemlevelmodel;
 import java.nio.file.Path;
 
 import seedu.studybananas.commons.core.GuiSettings;
+import seedu.studybananas.commons.core.StorageFormat;
 
 /**
  * Unmodifiable view of user prefs.
@@ -14,4 +15,6 @@ public interface ReadOnlyUserPrefs {
     Path getScheduleFilePath();
     Path getFlashcardBankFilePath();
     Path getQuizRecordsFilePath();
+
+    StorageFormat getStorageFormat();
 }
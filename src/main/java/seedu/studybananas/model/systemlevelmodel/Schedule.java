@@ -2,19 +2,35 @@ package seedu.studybananas.model.systemlevelmodel;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import seedu.studybananas.model.task.Task;
+import seedu.studybananas.model.task.TaskDateIndex;
+import seedu.studybananas.model.task.TaskKeywordIndex;
+import seedu.studybananas.model.task.TaskTrigramIndex;
 import seedu.studybananas.model.task.UniqueTaskList;
 
 /**
  * Wraps all data at the schedule level
  * Duplicates are not allowed (by .isSameTask comparison)
+ * Timed tasks are also indexed by the dates they take place on, for day and date range queries,
+ * and all tasks are indexed by the words they contain, for keyword searches, and by the trigrams of
+ * those words, for searches by incomplete or misspelt keywords.
+ * Every change to the tasks is recorded in a {@link ScheduleHistory}, so that storage can save only the changes.
  */
 public class Schedule implements ReadOnlySchedule {
 
     private final UniqueTaskList tasks;
+    private final TaskDateIndex tasksByDate = new TaskDateIndex();
+    private final TaskKeywordIndex tasksByKeyword = new TaskKeywordIndex();
+    private final TaskTrigramIndex tasksByTrigram = new TaskTrigramIndex();
+    private final ScheduleHistory history = new ScheduleHistory();
+    private long version;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -44,16 +60,27 @@ public class Schedule implements ReadOnlySchedule {
      * {@code tasks} must not contain duplicate tasks.
      */
     public void setTasks(List<Task> tasks) {
-        this.tasks.setTasks(tasks);
+        replaceTasks(tasks);
+        history.reset(version, null);
     }
 
     /**
      * Resets the existing data of this {@code Schedule} with {@code newData}.
+     * The history of this schedule carries on from that of {@code newData}.
      */
     public void resetData(ReadOnlySchedule newData) {
         requireNonNull(newData);
 
-        setTasks(newData.getTaskList());
+        replaceTasks(newData.getTaskList());
+        history.reset(version, newData.getHistoryMark().orElse(null));
+    }
+
+    private void replaceTasks(List<Task> tasks) {
+        this.tasks.setTasks(tasks);
+        tasksByDate.setTasks(tasks);
+        tasksByKeyword.setTasks(tasks);
+        tasksByTrigram.setTasks(tasks);
+        version++;
     }
 
     //// task-level operations
@@ -79,6 +106,11 @@ public class Schedule implements ReadOnlySchedule {
      */
     public void addTask(Task t) {
         tasks.add(t);
+        tasksByDate.add(t);
+        tasksByKeyword.add(t);
+        tasksByTrigram.add(t);
+        version++;
+        history.record(version, ScheduleChange.ofAdd(t));
     }
 
     /**
@@ -90,6 +122,14 @@ public class Schedule implements ReadOnlySchedule {
         requireNonNull(editedTask);
 
         tasks.setTask(target, editedTask);
+        tasksByDate.remove(target);
+        tasksByDate.add(editedTask);
+        tasksByKeyword.remove(target);
+        tasksByKeyword.add(editedTask);
+        tasksByTrigram.remove(target);
+        tasksByTrigram.add(editedTask);
+        version++;
+        history.record(version, ScheduleChange.ofEdit(target, editedTask));
     }
 
     /**
@@ -98,6 +138,54 @@ public class Schedule implements ReadOnlySchedule {
      */
     public void removeTask(Task key) {
         tasks.remove(key);
+        tasksByDate.remove(key);
+        tasksByKeyword.remove(key);
+        tasksByTrigram.remove(key);
+        version++;
+        history.record(version, ScheduleChange.ofDelete(key));
+    }
+
+    /**
+     * Returns the tasks taking place on {@code date}, in order of starting time.
+     */
+    public List<Task> getTasksOn(LocalDate date) {
+        return tasksByDate.getTasksOn(date);
+    }
+
+    /**
+     * Returns the tasks taking place on any date from {@code startDate} to {@code endDate} inclusive, as described
+     * by {@link TaskDateIndex#getTasksBetween(LocalDate, LocalDate)}.
+     */
+    public List<Task> getTasksBetween(LocalDate startDate, LocalDate endDate) {
+        return tasksByDate.getTasksBetween(startDate, endDate);
+    }
+
+    /**
+     * Returns the tasks matching {@code keywords} in the way described by {@link TaskKeywordIndex#search(List)}.
+     */
+    public Set<Task> searchTasks(List<String> keywords) {
+        return tasksByKeyword.search(keywords);
+    }
+
+    /**
+     * Returns the tasks whose title or description resembles any of the {@code keywords}, with their scores,
+     * as described by {@link TaskTrigramIndex#search(List)}.
+     */
+    public Map<Task, Integer> searchTasksByRelevance(List<String> keywords) {
+        return tasksByTrigram.search(keywords);
+    }
+
+    /**
+     * Returns the number of modifications made to this {@code Schedule}.
+     * The value changes whenever the tasks in the schedule change, so it can be used to detect unsaved changes.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public Optional<ScheduleHistory.Mark> getHistoryMark() {
+        return Optional.of(history.markAt(version));
     }
 
     //// util methods
@@ -0,0 +1,100 @@
+package seedu.studybananas.model.systemlevelmodel;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.studybananas.model.task.Task;
+
+/**
+ * A single addition, edit or removal of a task made to a {@link Schedule}, as recorded in its
+ * {@link ScheduleHistory}.
+ * Guarantees: immutable.
+ */
+public class ScheduleChange {
+
+    /**
+     * Kinds of change made to a schedule.
+     */
+    public enum Type {
+        ADD, EDIT, DELETE
+    }
+
+    private final Type type;
+    private final Task target;
+    private final Task task;
+
+    private ScheduleChange(Type type, Task target, Task task) {
+        this.type = type;
+        this.target = target;
+        this.task = task;
+    }
+
+    /**
+     * Returns the addition of {@code added}.
+     */
+    public static ScheduleChange ofAdd(Task added) {
+        requireNonNull(added);
+        return new ScheduleChange(Type.ADD, null, added);
+    }
+
+    /**
+     * Returns the replacement of {@code target} by {@code edited}.
+     */
+    public static ScheduleChange ofEdit(Task target, Task edited) {
+        requireNonNull(target);
+        requireNonNull(edited);
+        return new ScheduleChange(Type.EDIT, target, edited);
+    }
+
+    /**
+     * Returns the removal of {@code deleted}.
+     */
+    public static ScheduleChange ofDelete(Task deleted) {
+        requireNonNull(deleted);
+        return new ScheduleChange(Type.DELETE, null, deleted);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the task replaced by an edit, or {@code Optional.empty()} for other changes.
+     */
+    public Optional<Task> getTarget() {
+        return Optional.ofNullable(target);
+    }
+
+    /**
+     * Returns the task added, the task replacing the target of an edit, or the task removed.
+     */
+    public Task getTask() {
+        return task;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof ScheduleChange)) {
+            return false;
+        }
+        ScheduleChange otherChange = (ScheduleChange) other;
+        return type == otherChange.type
+                && Objects.equals(target, otherChange.target)
+                && task.equals(otherChange.task);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, target, task);
+    }
+
+    @Override
+    public String toString() {
+        return type + (target == null ? " " : " " + target + " -> ") + task;
+    }
+}
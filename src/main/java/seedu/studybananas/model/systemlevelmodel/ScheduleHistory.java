@@ -0,0 +1,160 @@
+package seedu.studybananas.model.systemlevelmodel;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * The changes made to a {@link Schedule}, one per version of the schedule, so that storage can save the changes
+ * made since its last save instead of every task.
+ *
+ * Only the latest {@link #MAX_RECORDED_CHANGES} changes are sure to be kept, and replacing all tasks of the
+ * schedule starts the history afresh. A schedule copied from another starts its history at a {@link Mark} of the
+ * history of the other schedule, so the changes made to the copy can be followed on from that mark, e.g. from
+ * the schedule read from storage to the schedule of the model.
+ *
+ * The history is recorded on the thread changing the schedule, but can be read from any thread.
+ */
+public class ScheduleHistory {
+    public static final int MAX_RECORDED_CHANGES = 1000;
+
+    // The change made at each version after firstVersion, the oldest first
+    private final List<ScheduleChange> changes = new ArrayList<>();
+    private long firstVersion;
+    private long resetVersion;
+    // The mark of another history this history started from at resetVersion, or null
+    private Mark origin;
+
+    /**
+     * Returns the mark of {@code version} of the schedule in this history.
+     */
+    public Mark markAt(long version) {
+        return new Mark(this, version);
+    }
+
+    /**
+     * Records {@code change} as the change that made {@code version} of the schedule.
+     */
+    synchronized void record(long version, ScheduleChange change) {
+        requireNonNull(change);
+        assert version == firstVersion + changes.size() + 1 : "changes should be recorded for every version";
+        changes.add(change);
+        if (changes.size() >= 2 * MAX_RECORDED_CHANGES) {
+            // Dropped in bulk so that recording a change takes constant time on average
+            changes.subList(0, MAX_RECORDED_CHANGES).clear();
+            firstVersion += MAX_RECORDED_CHANGES;
+        }
+    }
+
+    /**
+     * Forgets all changes, as all tasks of the schedule have been replaced to make {@code version} of the
+     * schedule. The tasks came from the schedule at {@code origin}, or from elsewhere if it is null.
+     */
+    synchronized void reset(long version, Mark origin) {
+        changes.clear();
+        firstVersion = version;
+        resetVersion = version;
+        this.origin = origin;
+    }
+
+    /**
+     * Returns the mark that {@code version} stands for. The first version after a reset is the same schedule as
+     * the one at the origin of the reset.
+     */
+    private Mark resolve(long version) {
+        Mark start;
+        synchronized (this) {
+            start = version == resetVersion ? origin : null;
+        }
+        // Resolved without holding the lock of this history, as it takes the locks of other histories
+        return start == null ? markAt(version) : start.resolve();
+    }
+
+    private Optional<List<ScheduleChange>> getChanges(Mark since, long toVersion, Set<ScheduleHistory> visited) {
+        if (!visited.add(this)) {
+            // Only an earlier version of this history, from before it was reset, can be reached again
+            return Optional.empty();
+        }
+        Mark resolvedSince = since.resolve();
+        Mark startOrigin;
+        long startVersion;
+        synchronized (this) {
+            startOrigin = origin;
+            startVersion = resetVersion;
+        }
+
+        // The changes made before this history started, looked up without holding the lock of this history
+        List<ScheduleChange> result;
+        long fromVersion;
+        if (resolvedSince.history == this) {
+            result = new ArrayList<>();
+            fromVersion = resolvedSince.version;
+        } else if (startOrigin != null) {
+            Mark resolvedOrigin = startOrigin.resolve();
+            Optional<List<ScheduleChange>> earlierChanges =
+                    resolvedOrigin.history.getChanges(resolvedSince, resolvedOrigin.version, visited);
+            if (earlierChanges.isEmpty()) {
+                return Optional.empty();
+            }
+            result = earlierChanges.get();
+            fromVersion = startVersion;
+        } else {
+            return Optional.empty();
+        }
+
+        synchronized (this) {
+            if (resetVersion != startVersion || fromVersion < firstVersion || fromVersion > toVersion
+                    || toVersion > firstVersion + changes.size()) {
+                return Optional.empty();
+            }
+            result.addAll(changes.subList((int) (fromVersion - firstVersion), (int) (toVersion - firstVersion)));
+            return Optional.of(result);
+        }
+    }
+
+    /**
+     * A version of a schedule in a {@code ScheduleHistory}.
+     * Guarantees: immutable.
+     */
+    public static class Mark {
+        private final ScheduleHistory history;
+        private final long version;
+
+        private Mark(ScheduleHistory history, long version) {
+            this.history = history;
+            this.version = version;
+        }
+
+        /**
+         * Returns the changes that turn the schedule at {@code earlier} into the schedule at this mark, in the
+         * order they were made, or {@code Optional.empty()} if they are not known.
+         */
+        public Optional<List<ScheduleChange>> getChangesSince(Mark earlier) {
+            requireNonNull(earlier);
+            return history.getChanges(earlier, version, Collections.newSetFromMap(new IdentityHashMap<>()));
+        }
+
+        private Mark resolve() {
+            return history.resolve(version);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Mark // instanceof handles nulls
+                    && history == ((Mark) other).history
+                    && version == ((Mark) other).version);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(history), version);
+        }
+    }
+}
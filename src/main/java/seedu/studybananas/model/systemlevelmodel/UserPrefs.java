@@ -7,6 +7,7 @@ import java.nio.file.Paths;
 import java.util.Objects;
 
 import seedu.studybananas.commons.core.GuiSettings;
+import seedu.studybananas.commons.core.StorageFormat;
 
 /**
  * Represents User's preferences.
@@ -17,6 +18,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     private Path scheduleFilePath = Paths.get("data", "schedule.json").toAbsolutePath();
     private Path flashcardBankFilePath = Paths.get("data", "flashcardbank.json").toAbsolutePath();
     private Path quizRecordsFilePath = Paths.get("data", "quizrecords.json").toAbsolutePath();
+    private StorageFormat storageFormat = StorageFormat.JSON;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -40,6 +42,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         setScheduleFilePath(newUserPrefs.getScheduleFilePath());
         setFlashcardBankFilePath(newUserPrefs.getFlashcardBankFilePath());
         setQuizRecordsFilePath(newUserPrefs.getQuizRecordsFilePath());
+        setStorageFormat(newUserPrefs.getStorageFormat());
     }
 
     public GuiSettings getGuiSettings() {
@@ -78,6 +81,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.quizRecordsFilePath = quizRecordsFilePath;
     }
 
+    public StorageFormat getStorageFormat() {
+        return storageFormat;
+    }
+
+    public void setStorageFormat(StorageFormat storageFormat) {
+        requireNonNull(storageFormat);
+        this.storageFormat = storageFormat;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -92,12 +104,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         return guiSettings.equals(o.guiSettings)
                 && scheduleFilePath.equals(o.scheduleFilePath)
                 && flashcardBankFilePath.equals(o.flashcardBankFilePath)
-                && quizRecordsFilePath.equals(o.quizRecordsFilePath);
+                && quizRecordsFilePath.equals(o.quizRecordsFilePath)
+                && storageFormat == o.storageFormat;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, scheduleFilePath, flashcardBankFilePath, quizRecordsFilePath);
+        return Objects.hash(guiSettings, scheduleFilePath, flashcardBankFilePath, quizRecordsFilePath,
+                storageFormat);
     }
 
     @Override
@@ -107,6 +121,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         sb.append("\nLocal schedule data file location : " + scheduleFilePath);
         sb.append("\nLocal flashcardbank data file location : " + flashcardBankFilePath);
         sb.append("\nLocal quizrecords data file location : " + quizRecordsFilePath);
+        sb.append("\nFlashcardbank and quizrecords storage format : " + storageFormat);
         return sb.toString();
     }
 
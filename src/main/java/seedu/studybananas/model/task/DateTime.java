@@ -6,13 +6,17 @@ import static seedu.studybananas.commons.util.AppUtil.checkArgument;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
 
 import seedu.studybananas.commons.util.StringUtil;
 import seedu.studybananas.model.task.timeformat.TimeFormatChecker;
 
 /**
  * Represents a Task's dateTime in StudyBananas.
+ * Date times are kept to the minute, as they are shown and saved; seconds given in the input are dropped.
  * Guarantees: immutable; is valid as declared in {@link #isValidDateTime(String)}
  */
 public class DateTime {
@@ -20,9 +24,20 @@ public class DateTime {
             "DateTime should be a valid date and in the yyyy-MM-dd HH:mm, yyyy-MM-dd "
                     + "EEEE, MMM dd yyyy or EEEE, MMM dd yyyy HH:mm format";
     public static final String STANDARD_FORMAT = "yyyy-MM-dd HH:mm";
+    public static final long MINUTES_PER_DAY = 24 * 60;
     private static final String UI_FORMAT_DATE = "EEEE, MMM dd yyyy";
+    private static final DateTimeFormatter STANDARD_FORMATTER = DateTimeFormatter.ofPattern(STANDARD_FORMAT);
+    private static final DateTimeFormatter UI_DATE_FORMATTER = DateTimeFormatter.ofPattern(UI_FORMAT_DATE);
 
     public final LocalDateTime dateTime;
+    // Minutes from 1970-01-01 00:00 to this date time, ignoring time zones
+    private final long epochMinute;
+
+    // Formatted strings, created on first use. Strings are immutable, so a racing thread at worst formats twice.
+    private String standardFormat;
+    private String standardFormatTime;
+    private String uiFormatDate;
+    private String uiFormatDateNoPunctuation;
 
     /**
      * Constructs a {@code DateTime}.
@@ -30,8 +45,25 @@ public class DateTime {
      */
     public DateTime(String dateTime) {
         requireNonNull(dateTime);
-        checkArgument(isValidDateTime(dateTime), MESSAGE_CONSTRAINTS);
-        this.dateTime = TimeFormatChecker.mapToLocalDateTime(dateTime);
+        Optional<LocalDateTime> parsed = TimeFormatChecker.parse(dateTime);
+        checkArgument(parsed.isPresent(), MESSAGE_CONSTRAINTS);
+        this.dateTime = parsed.get().truncatedTo(ChronoUnit.MINUTES);
+        this.epochMinute = toEpochMinute(this.dateTime);
+    }
+
+    private DateTime(LocalDateTime dateTime) {
+        this.dateTime = dateTime.truncatedTo(ChronoUnit.MINUTES);
+        this.epochMinute = toEpochMinute(dateTime);
+    }
+
+    /**
+     * Returns the {@code DateTime} represented by {@code dateTime}, or {@code Optional.empty()} if it is not
+     * a valid date time. Unlike checking {@link #isValidDateTime(String)} before constructing a {@code DateTime},
+     * this parses the string only once.
+     */
+    public static Optional<DateTime> parse(String dateTime) {
+        requireNonNull(dateTime);
+        return TimeFormatChecker.parse(dateTime).map(DateTime::new);
     }
 
     /**
@@ -62,6 +94,21 @@ public class DateTime {
 
 
 
+    /**
+     * Returns the number of minutes from 1970-01-01 00:00 to {@code dateTime}, ignoring time zones.
+     * Seconds and smaller units are truncated.
+     */
+    public static long toEpochMinute(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
+    /**
+     * Returns the number of minutes from 1970-01-01 00:00 to the start of {@code date}.
+     */
+    public static long toEpochMinute(LocalDate date) {
+        return date.toEpochDay() * MINUTES_PER_DAY;
+    }
+
     /**
      * Returns true if a given string is a valid date or an empty string.
      */
@@ -70,6 +117,13 @@ public class DateTime {
         return test.equals("") || TimeFormatChecker.check(test);
     }
 
+    /**
+     * Returns the number of minutes from 1970-01-01 00:00 to this date time, ignoring time zones.
+     */
+    public long getEpochMinute() {
+        return epochMinute;
+    }
+
     /**
      * Check if the dateTime is today
      */
@@ -80,9 +134,10 @@ public class DateTime {
 
     @Override
     public String toString() {
-        DateTimeFormatter wantedFormat = DateTimeFormatter.ofPattern(STANDARD_FORMAT);
-        String dateInString = dateTime.format(wantedFormat);
-        return dateInString;
+        if (standardFormat == null) {
+            standardFormat = dateTime.format(STANDARD_FORMATTER);
+        }
+        return standardFormat;
     }
 
     /**
@@ -91,35 +146,45 @@ public class DateTime {
      * @return Date Time string without punctuation.
      */
     public String getUiFormatDateNoPunctuation() {
-        String dateInString = this.getUiFormatDate();
-        return StringUtil.getStringNoPunctuation(dateInString);
+        if (uiFormatDateNoPunctuation == null) {
+            uiFormatDateNoPunctuation = StringUtil.getStringNoPunctuation(getUiFormatDate());
+        }
+        return uiFormatDateNoPunctuation;
     }
 
     @Override
     public boolean equals(Object other) {
+        // Seconds are dropped on construction, so equal epoch-minutes mean equal date times.
         return other == this // short circuit if same object
                 || (other instanceof DateTime // instanceof handles nulls
-                && dateTime.toString().equals(((DateTime) other).dateTime.toString())); // state check
+                && epochMinute == ((DateTime) other).epochMinute); // state check
     }
 
     @Override
     public int hashCode() {
-        return dateTime.hashCode();
+        return Long.hashCode(epochMinute);
     }
 
     /**
      * Provides Ui Format Date.
      */
     public String getUiFormatDate() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(UI_FORMAT_DATE);
-        return formatter.format(this.dateTime);
+        if (uiFormatDate == null) {
+            uiFormatDate = UI_DATE_FORMATTER.format(dateTime);
+        }
+        return uiFormatDate;
     }
 
     /**
      * Provides Standard Format Time.
      */
     public String getStandardFormatTime() {
-        return toString().split(" ")[1];
+        if (standardFormatTime == null) {
+            // The standard format ends with the "HH:mm" time.
+            String standardFormat = toString();
+            standardFormatTime = standardFormat.substring(standardFormat.length() - "HH:mm".length());
+        }
+        return standardFormatTime;
     }
 
 }
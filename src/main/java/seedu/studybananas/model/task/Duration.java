@@ -55,7 +55,7 @@ public class Duration {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Duration)// instanceof handles nulls
-                && duration == ((Duration) other).duration; // state check
+                && duration.equals(((Duration) other).duration); // state check
     }
 
     @Override
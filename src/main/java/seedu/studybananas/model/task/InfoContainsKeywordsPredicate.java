@@ -15,6 +15,10 @@ public class InfoContainsKeywordsPredicate implements Predicate<Task> {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     private boolean isEmptyKeyword(List<String> keywords) {
         return keywords.size() == 0;
     }
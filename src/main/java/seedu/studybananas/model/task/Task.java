@@ -1,16 +1,11 @@
 package seedu.studybananas.model.task;
 
-import static java.time.temporal.ChronoUnit.MINUTES;
 import static java.util.Objects.requireNonNull;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
 import java.util.Objects;
 import java.util.Optional;
 
-import seedu.studybananas.ui.scheduleui.TaskCell;
-
 /**
  * Represents a Task in the StudyBananas.
  */
@@ -20,9 +15,10 @@ public class Task {
     private final Optional<Description> description;
     private final Optional<DateTime> dateTime;
     private final Optional<Duration> duration;
-
-    // Not sure if this is a good practice. This is used by the ListChangeListener in TimeScale
-    private TaskCell taskCellBind;
+    private final TaskIdentity identity;
+    // The task's start and end in minutes since 1970-01-01 00:00, only meaningful if the task has a date time
+    private final long startEpochMinute;
+    private final long endEpochMinute;
 
     /**
      * Initializes a Task.
@@ -37,6 +33,9 @@ public class Task {
         this.description = Optional.ofNullable(description);
         this.dateTime = Optional.ofNullable(dateTime);
         this.duration = Optional.ofNullable(duration);
+        this.identity = new TaskIdentity(this);
+        this.startEpochMinute = dateTime == null ? 0 : dateTime.getEpochMinute();
+        this.endEpochMinute = startEpochMinute + (duration == null ? 0 : duration.duration);
     }
 
     public Optional<Description> getDescription() {
@@ -52,7 +51,7 @@ public class Task {
     }
 
     /**
-     * Util function for {@Code TaskCell}, so duration must exist.
+     * Util function for the {@Code TimeScale}, so duration must exist.
      * @return
      */
     public boolean isLongerThanAnHour() {
@@ -64,6 +63,30 @@ public class Task {
         return title;
     }
 
+    /**
+     * Returns the start of the task in minutes since 1970-01-01 00:00, see {@link DateTime#getEpochMinute()}.
+     * Only meaningful if the task has a date time.
+     */
+    public long getStartEpochMinute() {
+        return startEpochMinute;
+    }
+
+    /**
+     * Returns the end of the task, its start plus its duration, in minutes since 1970-01-01 00:00.
+     * Only meaningful if the task has a date time.
+     */
+    public long getEndEpochMinute() {
+        return endEpochMinute;
+    }
+
+    /**
+     * Returns the identity of this task, which is equal to the identity of every task
+     * that {@link #isSameTask(Task)} considers the same.
+     */
+    public TaskIdentity getIdentity() {
+        return identity;
+    }
+
     private boolean hasDescription() {
         return description.isPresent();
     }
@@ -134,26 +157,9 @@ public class Task {
      * @return True if the two tasks overlap, false other wise.
      */
     public boolean isDateTimeOverlapped(Task otherTask) {
-        if (!bothHaveDateTime(otherTask, this)) {
-            return false;
-        } else {
-            LocalDateTime thisTaskStartingTime = this.getTaskStartingTime();
-            LocalDateTime thisTaskEndingTime = this.getTaskEndingTime();
-            LocalDateTime otherTaskStartingTime = otherTask.getTaskStartingTime();
-            LocalDateTime otherTaskEndingTime = otherTask.getTaskEndingTime();
-            return thisTaskStartingTime.isBefore(otherTaskEndingTime)
-                    && thisTaskEndingTime.isAfter(otherTaskStartingTime);
-        }
-    }
-
-    private LocalDateTime getTaskStartingTime() {
-        return getDateTime().get().dateTime;
-    }
-
-    private LocalDateTime getTaskEndingTime() {
-        Integer duration = this.duration.map(dur -> dur.duration).orElse(0);
-        LocalDateTime endingDateTime = getDateTime().get().dateTime.plus(duration, ChronoUnit.MINUTES);
-        return endingDateTime;
+        return bothHaveDateTime(otherTask, this)
+                && startEpochMinute < otherTask.endEpochMinute
+                && endEpochMinute > otherTask.startEpochMinute;
     }
 
     private StringBuilder getTitleString() {
@@ -183,39 +189,34 @@ public class Task {
                         .append(time.toString() + "\n")).orElse(emptyString);
     }
 
-    public TaskCell getTaskCellBind() {
-        return taskCellBind;
-    }
-
-    public void setTaskCellBind(TaskCell taskCellBind) {
-        this.taskCellBind = taskCellBind;
-    }
-
     /**
      * Check if the duration of the tasks would happen today.
      *
      * @return True if it takes place today, false otherwise.
      */
     public boolean happensToday() {
-        return duration.isPresent() && dateTime.isPresent()
-                && (dateTime.get().isToday() || startFromOldAndExtendToToday(dateTime.get(), duration.get()));
+        return happensOn(LocalDate.now());
     }
 
-    private boolean startFromOldAndExtendToToday(DateTime dateTime, Duration duration) {
-        LocalDateTime startTime = dateTime.dateTime;
-        LocalDateTime endTime = dateTime.dateTime.plusMinutes(duration.duration);
-        LocalDate today = LocalDate.now();
-        return today.isAfter(startTime.toLocalDate()) && (!endTime.toLocalDate().isBefore(today));
+    /**
+     * Check if the duration of the tasks would happen on {@code date}, i.e. it starts on or before the date
+     * and ends on or after it.
+     *
+     * @return True if it takes place on the date, false otherwise.
+     */
+    public boolean happensOn(LocalDate date) {
+        long dayStart = DateTime.toEpochMinute(date);
+        return duration.isPresent() && dateTime.isPresent()
+                && startEpochMinute < dayStart + DateTime.MINUTES_PER_DAY && endEpochMinute >= dayStart;
     }
 
     public double getNumberOfMinuteHappenToday() {
         assert happensToday() : "should only calculate number of minute happens today when the task happens today";
-        double duration = this.duration.get().duration;
-        if (dateTime.get().isToday()) {
-            return duration;
+        long todayStart = DateTime.toEpochMinute(LocalDate.now());
+        if (startEpochMinute >= todayStart) {
+            return endEpochMinute - startEpochMinute;
         } else {
-            LocalDateTime today = LocalDate.now().atStartOfDay();
-            return MINUTES.between(today, dateTime.get().dateTime.plusMinutes((long) duration));
+            return endEpochMinute - todayStart;
         }
     }
 
@@ -0,0 +1,136 @@
+package seedu.studybananas.model.task;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * An index of the timed tasks of a schedule by the dates they take place on.
+ * A task is registered under every date from the date it starts to the date it ends, so a task running
+ * past midnight is found on both days. Within a date, tasks are kept in order of starting time.
+ *
+ * Tasks without a {@code DateTime} do not take place on any date and are therefore not stored.
+ */
+public class TaskDateIndex {
+
+    private final NavigableMap<LocalDate, List<Task>> tasksByDate = new TreeMap<>();
+
+    /**
+     * Adds {@code task} under every date it takes place on. Does nothing if the task has no {@code DateTime}.
+     */
+    public void add(Task task) {
+        requireNonNull(task);
+        if (!isIndexable(task)) {
+            return;
+        }
+        for (LocalDate date = getStartDate(task); !date.isAfter(getEndDate(task)); date = date.plusDays(1)) {
+            List<Task> tasksOnDate = tasksByDate.computeIfAbsent(date, unused -> new ArrayList<>());
+            tasksOnDate.add(getInsertionPoint(tasksOnDate, task), task);
+        }
+    }
+
+    /**
+     * Removes a task equal to {@code task} from every date it takes place on.
+     *
+     * @return True if the task was found and removed, false otherwise.
+     */
+    public boolean remove(Task task) {
+        requireNonNull(task);
+        if (!isIndexable(task)) {
+            return false;
+        }
+        boolean isRemoved = false;
+        for (LocalDate date = getStartDate(task); !date.isAfter(getEndDate(task)); date = date.plusDays(1)) {
+            List<Task> tasksOnDate = tasksByDate.get(date);
+            if (tasksOnDate != null && tasksOnDate.remove(task)) {
+                isRemoved = true;
+                if (tasksOnDate.isEmpty()) {
+                    tasksByDate.remove(date);
+                }
+            }
+        }
+        return isRemoved;
+    }
+
+    /**
+     * Replaces the contents of the index with {@code tasks}.
+     */
+    public void setTasks(List<Task> tasks) {
+        requireNonNull(tasks);
+        tasksByDate.clear();
+        for (Task task : tasks) {
+            add(task);
+        }
+    }
+
+    /**
+     * Returns the tasks taking place on {@code date}, in order of starting time.
+     */
+    public List<Task> getTasksOn(LocalDate date) {
+        requireNonNull(date);
+        return Collections.unmodifiableList(tasksByDate.getOrDefault(date, Collections.emptyList()));
+    }
+
+    /**
+     * Returns the tasks taking place on any date from {@code startDate} to {@code endDate} inclusive,
+     * each listed once, on the first date it takes place on within the range.
+     */
+    public List<Task> getTasksBetween(LocalDate startDate, LocalDate endDate) {
+        requireNonNull(startDate);
+        requireNonNull(endDate);
+        List<Task> result = new ArrayList<>();
+        if (endDate.isBefore(startDate)) {
+            return result;
+        }
+        Set<Task> added = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Map.Entry<LocalDate, List<Task>> entry : tasksByDate.subMap(startDate, true, endDate, true).entrySet()) {
+            for (Task task : entry.getValue()) {
+                if (added.add(task)) {
+                    result.add(task);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static boolean isIndexable(Task task) {
+        return task.getDateTime().isPresent();
+    }
+
+    private static LocalDate getStartDate(Task task) {
+        return toDate(task.getStartEpochMinute());
+    }
+
+    private static LocalDate getEndDate(Task task) {
+        return toDate(task.getEndEpochMinute());
+    }
+
+    private static LocalDate toDate(long epochMinute) {
+        return LocalDate.ofEpochDay(Math.floorDiv(epochMinute, DateTime.MINUTES_PER_DAY));
+    }
+
+    /**
+     * Returns the position after the last task in {@code tasksOnDate} starting no later than {@code task}.
+     */
+    private static int getInsertionPoint(List<Task> tasksOnDate, Task task) {
+        int low = 0;
+        int high = tasksOnDate.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (tasksOnDate.get(mid).getStartEpochMinute() <= task.getStartEpochMinute()) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.studybananas.model.task;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Represents the identity of a {@code Task}, normalized so that two tasks have equal identities
+ * if and only if {@link Task#isSameTask(Task)} holds between them.
+ * Title and description are compared case-insensitively, as in {@link Title#rigorousEquals(Title)}
+ * and {@link Description#rigorousEquals(Description)}; date time and duration are compared by value.
+ * Guarantees: immutable; consistent {@code equals} and {@code hashCode}, so it can be used as a hash key.
+ */
+public final class TaskIdentity {
+
+    private final String title;
+    private final Optional<String> description;
+    private final Optional<DateTime> dateTime;
+    private final Optional<Duration> duration;
+    private final int hashCode;
+
+    /**
+     * Constructs the {@code TaskIdentity} of {@code task}.
+     */
+    public TaskIdentity(Task task) {
+        requireNonNull(task);
+        title = task.getTitle().title.toLowerCase();
+        description = task.getDescription().map(desc -> desc.description.toLowerCase());
+        dateTime = task.getDateTime();
+        duration = task.getDuration();
+        hashCode = Objects.hash(title, description, dateTime, duration);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof TaskIdentity)) {
+            return false;
+        }
+
+        TaskIdentity otherIdentity = (TaskIdentity) other;
+        return hashCode == otherIdentity.hashCode
+                && title.equals(otherIdentity.title)
+                && description.equals(otherIdentity.description)
+                && dateTime.equals(otherIdentity.dateTime)
+                && duration.equals(otherIdentity.duration);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+}
@@ -0,0 +1,289 @@
+package seedu.studybananas.model.task;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * An augmented interval tree over the timed tasks of a {@code UniqueTaskList}.
+ * Nodes are ordered by the tasks' starting epoch-minute and each node tracks the latest ending epoch-minute
+ * in its subtree, so that overlap queries only visit the subtrees that can contain an overlapping task.
+ * The tree is kept balanced (AVL), hence insertion, removal and overlap checks run in O(log n).
+ *
+ * Tasks without a {@code DateTime} never overlap with anything and are therefore not stored.
+ */
+class TaskIntervalTree {
+
+    private Node root;
+    private int size;
+
+    /**
+     * Returns the number of tasks stored in the tree.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Inserts {@code task} into the tree. Does nothing if the task has no {@code DateTime}.
+     */
+    void insert(Task task) {
+        requireNonNull(task);
+        if (!isIndexable(task)) {
+            return;
+        }
+        root = insertIntoSubtree(root, new Node(task));
+        size++;
+    }
+
+    /**
+     * Removes {@code task} (compared by reference) from the tree.
+     *
+     * @return True if the task was found and removed, false otherwise.
+     */
+    boolean remove(Task task) {
+        requireNonNull(task);
+        if (!isIndexable(task)) {
+            return false;
+        }
+        Removal removal = new Removal();
+        root = removeFromSubtree(root, task, removal);
+        if (removal.isRemoved) {
+            size--;
+        }
+        return removal.isRemoved;
+    }
+
+    /**
+     * Replaces the contents of the tree with {@code tasks}.
+     * The tree is built bottom-up from the tasks sorted by starting time.
+     */
+    void rebuild(List<Task> tasks) {
+        requireNonNull(tasks);
+        List<Task> timedTasks = new ArrayList<>();
+        for (Task task : tasks) {
+            if (isIndexable(task)) {
+                timedTasks.add(task);
+            }
+        }
+        timedTasks.sort(Comparator.comparingLong(Task::getStartEpochMinute));
+        root = build(timedTasks, 0, timedTasks.size() - 1);
+        size = timedTasks.size();
+    }
+
+    /**
+     * Returns true if any stored task other than {@code exceptionTask} overlaps in duration with {@code toCheck}.
+     * The overlap rule is the same as {@link Task#isDateTimeOverlapped(Task)}.
+     *
+     * @param toCheck Task to be checked.
+     * @param exceptionTask Task to be ignored (compared by reference), may be null.
+     */
+    boolean hasOverlap(Task toCheck, Task exceptionTask) {
+        requireNonNull(toCheck);
+        if (!isIndexable(toCheck)) {
+            return false;
+        }
+        return hasOverlapInSubtree(root, toCheck.getStartEpochMinute(), toCheck.getEndEpochMinute(), exceptionTask);
+    }
+
+    /**
+     * Returns all stored tasks overlapping in duration with {@code toCheck}, in order of starting time.
+     */
+    List<Task> getOverlappingTasks(Task toCheck) {
+        requireNonNull(toCheck);
+        List<Task> result = new ArrayList<>();
+        if (isIndexable(toCheck)) {
+            collectOverlaps(root, toCheck.getStartEpochMinute(), toCheck.getEndEpochMinute(), result);
+        }
+        return result;
+    }
+
+    private static boolean isIndexable(Task task) {
+        return task.getDateTime().isPresent();
+    }
+
+    private static boolean isOverlapping(Node node, long start, long end) {
+        return node.start < end && node.end > start;
+    }
+
+    private boolean hasOverlapInSubtree(Node node, long start, long end, Task exceptionTask) {
+        // Nothing in this subtree ends after the queried start.
+        if (node == null || node.maxEnd <= start) {
+            return false;
+        }
+        if (hasOverlapInSubtree(node.left, start, end, exceptionTask)) {
+            return true;
+        }
+        if (node.task != exceptionTask && isOverlapping(node, start, end)) {
+            return true;
+        }
+        // Everything on the right starts no earlier than this node.
+        return node.start < end && hasOverlapInSubtree(node.right, start, end, exceptionTask);
+    }
+
+    private void collectOverlaps(Node node, long start, long end, List<Task> result) {
+        if (node == null || node.maxEnd <= start) {
+            return;
+        }
+        collectOverlaps(node.left, start, end, result);
+        if (isOverlapping(node, start, end)) {
+            result.add(node.task);
+        }
+        if (node.start < end) {
+            collectOverlaps(node.right, start, end, result);
+        }
+    }
+
+    //// AVL maintenance
+
+    private Node build(List<Task> sortedTasks, int low, int high) {
+        if (low > high) {
+            return null;
+        }
+        int mid = (low + high) >>> 1;
+        Node node = new Node(sortedTasks.get(mid));
+        node.left = build(sortedTasks, low, mid - 1);
+        node.right = build(sortedTasks, mid + 1, high);
+        update(node);
+        return node;
+    }
+
+    private Node insertIntoSubtree(Node node, Node toInsert) {
+        if (node == null) {
+            return toInsert;
+        }
+        if (toInsert.start < node.start) {
+            node.left = insertIntoSubtree(node.left, toInsert);
+        } else {
+            node.right = insertIntoSubtree(node.right, toInsert);
+        }
+        return rebalance(node);
+    }
+
+    private Node removeFromSubtree(Node node, Task task, Removal removal) {
+        if (node == null) {
+            return null;
+        }
+        long start = task.getStartEpochMinute();
+        if (start < node.start) {
+            node.left = removeFromSubtree(node.left, task, removal);
+        } else if (start > node.start) {
+            node.right = removeFromSubtree(node.right, task, removal);
+        } else if (node.task == task) {
+            removal.isRemoved = true;
+            return removeNode(node);
+        } else {
+            // Tasks sharing a starting time may sit on either side after rotations.
+            node.left = removeFromSubtree(node.left, task, removal);
+            if (!removal.isRemoved) {
+                node.right = removeFromSubtree(node.right, task, removal);
+            }
+        }
+        return rebalance(node);
+    }
+
+    private Node removeNode(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        if (node.right == null) {
+            return node.left;
+        }
+        Node successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        successor.right = removeMin(node.right);
+        successor.left = node.left;
+        return rebalance(successor);
+    }
+
+    private Node removeMin(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = removeMin(node.left);
+        return rebalance(node);
+    }
+
+    private Node rebalance(Node node) {
+        update(node);
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private Node rotateLeft(Node node) {
+        Node newRoot = node.right;
+        node.right = newRoot.left;
+        newRoot.left = node;
+        update(node);
+        update(newRoot);
+        return newRoot;
+    }
+
+    private Node rotateRight(Node node) {
+        Node newRoot = node.left;
+        node.left = newRoot.right;
+        newRoot.right = node;
+        update(node);
+        update(newRoot);
+        return newRoot;
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static void update(Node node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        long maxEnd = node.end;
+        if (node.left != null && node.left.maxEnd > maxEnd) {
+            maxEnd = node.left.maxEnd;
+        }
+        if (node.right != null && node.right.maxEnd > maxEnd) {
+            maxEnd = node.right.maxEnd;
+        }
+        node.maxEnd = maxEnd;
+    }
+
+    /**
+     * A node of the tree holding a single timed task.
+     */
+    private static class Node {
+        private final Task task;
+        private final long start;
+        private final long end;
+        private long maxEnd;
+        private int height = 1;
+        private Node left;
+        private Node right;
+
+        Node(Task task) {
+            this.task = task;
+            this.start = task.getStartEpochMinute();
+            this.end = task.getEndEpochMinute();
+            this.maxEnd = end;
+        }
+    }
+
+    /**
+     * Records whether a removal found its task.
+     */
+    private static class Removal {
+        private boolean isRemoved;
+    }
+}
@@ -0,0 +1,194 @@
+package seedu.studybananas.model.task;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.studybananas.commons.util.StringUtil;
+
+/**
+ * An inverted index from the words of the tasks of a schedule to the tasks containing them.
+ * Words are indexed in lower case, so that keywords can be looked up ignoring case.
+ *
+ * The words are split the same way {@link InfoContainsKeywordsPredicate} splits them, so that
+ * {@link #search(List)} finds exactly the tasks the predicate accepts, without tokenizing every task on
+ * every search:
+ * <ul>
+ *     <li>title words as they are,</li>
+ *     <li>description words with punctuation removed (see {@link Description#toStringNoPunctuation()}),</li>
+ *     <li>the words of the date time in the standard format as they are, and</li>
+ *     <li>the words of the date in the UI format with punctuation removed.</li>
+ * </ul>
+ */
+public class TaskKeywordIndex {
+
+    private static final String WHITESPACE_REGEX = "\\s+";
+
+    private final Map<String, Set<Task>> tasksByTitleWord = new HashMap<>();
+    private final Map<String, Set<Task>> tasksByDescriptionWord = new HashMap<>();
+    private final Map<String, Set<Task>> tasksByStandardDateTimeWord = new HashMap<>();
+    private final Map<String, Set<Task>> tasksByUiDateWord = new HashMap<>();
+
+    /**
+     * Adds the words of {@code task} to the index.
+     */
+    public void add(Task task) {
+        requireNonNull(task);
+        addWords(tasksByTitleWord, getTitleWords(task), task);
+        addWords(tasksByDescriptionWord, getDescriptionWords(task), task);
+        addWords(tasksByStandardDateTimeWord, getStandardDateTimeWords(task), task);
+        addWords(tasksByUiDateWord, getUiDateWords(task), task);
+    }
+
+    /**
+     * Removes a task equal to {@code task} from the index.
+     */
+    public void remove(Task task) {
+        requireNonNull(task);
+        removeWords(tasksByTitleWord, getTitleWords(task), task);
+        removeWords(tasksByDescriptionWord, getDescriptionWords(task), task);
+        removeWords(tasksByStandardDateTimeWord, getStandardDateTimeWords(task), task);
+        removeWords(tasksByUiDateWord, getUiDateWords(task), task);
+    }
+
+    /**
+     * Replaces the contents of the index with {@code tasks}.
+     */
+    public void setTasks(List<Task> tasks) {
+        requireNonNull(tasks);
+        tasksByTitleWord.clear();
+        tasksByDescriptionWord.clear();
+        tasksByStandardDateTimeWord.clear();
+        tasksByUiDateWord.clear();
+        for (Task task : tasks) {
+            add(task);
+        }
+    }
+
+    /**
+     * Returns the tasks whose title contains any of the {@code keywords}, whose description contains all of them,
+     * or whose date time contains all of them, as {@link InfoContainsKeywordsPredicate} does.
+     */
+    public Set<Task> search(List<String> keywords) {
+        requireNonNull(keywords);
+        if (keywords.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        Set<Task> result = new HashSet<>();
+        for (String keyword : keywords) {
+            result.addAll(lookUp(tasksByTitleWord, keyword.trim()));
+        }
+
+        List<Set<Task>> descriptionPostings = new ArrayList<>();
+        List<Set<Task>> dateTimePostings = new ArrayList<>();
+        for (String keyword : keywords) {
+            String keywordNoPunctuation = StringUtil.getStringNoPunctuation(keyword).trim();
+            descriptionPostings.add(lookUp(tasksByDescriptionWord, keywordNoPunctuation));
+            dateTimePostings.add(union(lookUp(tasksByStandardDateTimeWord, keyword.trim()),
+                    lookUp(tasksByUiDateWord, keywordNoPunctuation)));
+        }
+        result.addAll(intersection(descriptionPostings));
+        result.addAll(intersection(dateTimePostings));
+        return result;
+    }
+
+    private static List<String> getTitleWords(Task task) {
+        return splitIntoWords(task.getTitle().title);
+    }
+
+    private static List<String> getDescriptionWords(Task task) {
+        return task.getDescription()
+                .map(description -> splitIntoWords(description.toStringNoPunctuation()))
+                .orElse(Collections.emptyList());
+    }
+
+    private static List<String> getStandardDateTimeWords(Task task) {
+        return task.getDateTime()
+                .map(dateTime -> splitIntoWords(dateTime.toString()))
+                .orElse(Collections.emptyList());
+    }
+
+    private static List<String> getUiDateWords(Task task) {
+        return task.getDateTime()
+                .map(dateTime -> splitIntoWords(dateTime.getUiFormatDateNoPunctuation()))
+                .orElse(Collections.emptyList());
+    }
+
+    private static List<String> splitIntoWords(String text) {
+        List<String> words = new ArrayList<>();
+        for (String word : text.split(WHITESPACE_REGEX)) {
+            if (!word.isEmpty()) {
+                words.add(normalize(word));
+            }
+        }
+        return words;
+    }
+
+    private static String normalize(String word) {
+        return word.toLowerCase(Locale.ROOT);
+    }
+
+    private static void addWords(Map<String, Set<Task>> index, List<String> words, Task task) {
+        for (String word : words) {
+            index.computeIfAbsent(word, unused -> new HashSet<>()).add(task);
+        }
+    }
+
+    private static void removeWords(Map<String, Set<Task>> index, List<String> words, Task task) {
+        for (String word : words) {
+            Set<Task> tasks = index.get(word);
+            if (tasks != null && tasks.remove(task) && tasks.isEmpty()) {
+                index.remove(word);
+            }
+        }
+    }
+
+    /**
+     * Returns the tasks containing {@code word}, which only matches if it is a single word.
+     */
+    private static Set<Task> lookUp(Map<String, Set<Task>> index, String word) {
+        if (word.isEmpty() || word.split(WHITESPACE_REGEX).length != 1) {
+            return Collections.emptySet();
+        }
+        return index.getOrDefault(normalize(word), Collections.emptySet());
+    }
+
+    private static Set<Task> union(Set<Task> first, Set<Task> second) {
+        if (first.isEmpty()) {
+            return second;
+        }
+        if (second.isEmpty()) {
+            return first;
+        }
+        Set<Task> union = new HashSet<>(first);
+        union.addAll(second);
+        return union;
+    }
+
+    /**
+     * Returns the tasks in all of {@code postings}, starting from the smallest one.
+     */
+    private static Set<Task> intersection(List<Set<Task>> postings) {
+        Set<Task> smallest = postings.get(0);
+        for (Set<Task> posting : postings) {
+            if (posting.size() < smallest.size()) {
+                smallest = posting;
+            }
+        }
+        Set<Task> intersection = new HashSet<>();
+        for (Task task : smallest) {
+            if (postings.stream().allMatch(posting -> posting.contains(task))) {
+                intersection.add(task);
+            }
+        }
+        return intersection;
+    }
+}
@@ -0,0 +1,249 @@
+package seedu.studybananas.model.task;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.studybananas.commons.util.StringUtil.getLowerCaseWords;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An index of the words in the titles and descriptions of the tasks of a schedule, for searches that
+ * tolerate incomplete and misspelt keywords.
+ *
+ * Words are the runs of letters and digits in the text, compared ignoring case. Every distinct word is broken
+ * into trigrams, so the words resembling a keyword are found by the trigrams they share with it instead of by
+ * comparing the keyword with every word of the schedule. A keyword matches a word if it is
+ * <ul>
+ *     <li>the word itself (scoring {@link #EXACT_MATCH_SCORE}),</li>
+ *     <li>the start of the word, e.g. "algo" in "algorithms" (scoring {@link #PREFIX_MATCH_SCORE}), or</li>
+ *     <li>within {@link #getMaxEditDistance(int)} edits of the start of the word, e.g. "algoritm" in
+ *     "algorithms" (scoring {@link #FUZZY_MATCH_SCORE}).</li>
+ * </ul>
+ * Matches in the title count {@link #TITLE_WEIGHT} times as much as matches in the description.
+ */
+public class TaskTrigramIndex {
+
+    public static final int EXACT_MATCH_SCORE = 3;
+    public static final int PREFIX_MATCH_SCORE = 2;
+    public static final int FUZZY_MATCH_SCORE = 1;
+    public static final int TITLE_WEIGHT = 2;
+
+    // Marks the start of a word, so that the first letters of a word form trigrams of their own
+    private static final String WORD_START = "$$";
+    private static final int TRIGRAM_LENGTH = 3;
+    // An edit changes at most this many of the trigrams of a word
+    private static final int TRIGRAMS_PER_EDIT = 3;
+
+    private final Map<String, Set<Task>> tasksByTitleWord = new HashMap<>();
+    private final Map<String, Set<Task>> tasksByDescriptionWord = new HashMap<>();
+    private final Map<String, Set<String>> wordsByTrigram = new HashMap<>();
+
+    /**
+     * Adds the words of {@code task} to the index.
+     */
+    public void add(Task task) {
+        requireNonNull(task);
+        addWords(tasksByTitleWord, getTitleWords(task), task);
+        addWords(tasksByDescriptionWord, getDescriptionWords(task), task);
+    }
+
+    /**
+     * Removes a task equal to {@code task} from the index.
+     */
+    public void remove(Task task) {
+        requireNonNull(task);
+        removeWords(tasksByTitleWord, getTitleWords(task), task);
+        removeWords(tasksByDescriptionWord, getDescriptionWords(task), task);
+    }
+
+    /**
+     * Replaces the contents of the index with {@code tasks}.
+     */
+    public void setTasks(List<Task> tasks) {
+        requireNonNull(tasks);
+        tasksByTitleWord.clear();
+        tasksByDescriptionWord.clear();
+        wordsByTrigram.clear();
+        for (Task task : tasks) {
+            add(task);
+        }
+    }
+
+    /**
+     * Returns the tasks matching any of the {@code keywords}, with their scores. A task scores the sum, over
+     * the keywords, of the best match of the keyword in the task. The higher the score, the better the match.
+     */
+    public Map<Task, Integer> search(List<String> keywords) {
+        requireNonNull(keywords);
+        Set<String> searchedWords = new HashSet<>();
+        for (String keyword : keywords) {
+            searchedWords.addAll(getLowerCaseWords(keyword));
+        }
+
+        Map<Task, Integer> scores = new HashMap<>();
+        for (String searchedWord : searchedWords) {
+            Map<Task, Integer> keywordScores = new HashMap<>();
+            for (Map.Entry<String, Integer> match : getMatchingWords(searchedWord).entrySet()) {
+                addScores(keywordScores, tasksByTitleWord.get(match.getKey()), match.getValue() * TITLE_WEIGHT);
+                addScores(keywordScores, tasksByDescriptionWord.get(match.getKey()), match.getValue());
+            }
+            keywordScores.forEach((task, score) -> scores.merge(task, score, Integer::sum));
+        }
+        return scores;
+    }
+
+    /**
+     * Returns the maximum number of edits allowed between a keyword of {@code length} characters and a word,
+     * for the keyword to match the word. Short keywords must match exactly, as a single edit changes them
+     * beyond recognition.
+     */
+    static int getMaxEditDistance(int length) {
+        if (length <= 3) {
+            return 0;
+        } else if (length <= 7) {
+            return 1;
+        } else {
+            return 2;
+        }
+    }
+
+    /**
+     * Returns the words in the index matching {@code keyword}, with the score of each match.
+     */
+    private Map<String, Integer> getMatchingWords(String keyword) {
+        Set<String> trigrams = getTrigrams(keyword);
+        int maxEditDistance = getMaxEditDistance(keyword.length());
+        // A word within the edit distance of the keyword still shares this many trigrams with it
+        int minSharedTrigrams = Math.max(1, trigrams.size() - TRIGRAMS_PER_EDIT * maxEditDistance);
+
+        Map<String, Integer> sharedTrigrams = new HashMap<>();
+        for (String trigram : trigrams) {
+            for (String word : wordsByTrigram.getOrDefault(trigram, Collections.emptySet())) {
+                sharedTrigrams.merge(word, 1, Integer::sum);
+            }
+        }
+
+        Map<String, Integer> matchingWords = new HashMap<>();
+        for (Map.Entry<String, Integer> candidate : sharedTrigrams.entrySet()) {
+            if (candidate.getValue() < minSharedTrigrams) {
+                continue;
+            }
+            String word = candidate.getKey();
+            if (word.equals(keyword)) {
+                matchingWords.put(word, EXACT_MATCH_SCORE);
+            } else if (word.startsWith(keyword)) {
+                matchingWords.put(word, PREFIX_MATCH_SCORE);
+            } else if (getPrefixEditDistance(keyword, word, maxEditDistance) <= maxEditDistance) {
+                matchingWords.put(word, FUZZY_MATCH_SCORE);
+            }
+        }
+        return matchingWords;
+    }
+
+    /**
+     * Returns the smallest number of single character insertions, deletions and substitutions turning
+     * {@code keyword} into a prefix of {@code word}, or {@code maxDistance + 1} if that is more than
+     * {@code maxDistance}.
+     */
+    static int getPrefixEditDistance(String keyword, String word, int maxDistance) {
+        int columns = Math.min(word.length(), keyword.length() + maxDistance);
+        // previousRow[j] is the distance between the keyword so far and the first j characters of the word
+        int[] previousRow = new int[columns + 1];
+        int[] currentRow = new int[columns + 1];
+        for (int j = 0; j <= columns; j++) {
+            previousRow[j] = j;
+        }
+
+        for (int i = 1; i <= keyword.length(); i++) {
+            currentRow[0] = i;
+            int rowMinimum = currentRow[0];
+            for (int j = 1; j <= columns; j++) {
+                int substitutionCost = keyword.charAt(i - 1) == word.charAt(j - 1) ? 0 : 1;
+                currentRow[j] = Math.min(previousRow[j - 1] + substitutionCost,
+                        Math.min(previousRow[j], currentRow[j - 1]) + 1);
+                rowMinimum = Math.min(rowMinimum, currentRow[j]);
+            }
+            if (rowMinimum > maxDistance) {
+                return maxDistance + 1;
+            }
+            int[] swap = previousRow;
+            previousRow = currentRow;
+            currentRow = swap;
+        }
+
+        int distance = maxDistance + 1;
+        for (int j = 0; j <= columns; j++) {
+            distance = Math.min(distance, previousRow[j]);
+        }
+        return distance;
+    }
+
+    /**
+     * Returns the trigrams of {@code word} with its start marked, so a word of n characters has up to n trigrams.
+     */
+    static Set<String> getTrigrams(String word) {
+        String markedWord = WORD_START + word;
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + TRIGRAM_LENGTH <= markedWord.length(); i++) {
+            trigrams.add(markedWord.substring(i, i + TRIGRAM_LENGTH));
+        }
+        return trigrams;
+    }
+
+    private static Set<String> getTitleWords(Task task) {
+        return getLowerCaseWords(task.getTitle().title);
+    }
+
+    private static Set<String> getDescriptionWords(Task task) {
+        return task.getDescription()
+                .map(description -> getLowerCaseWords(description.description))
+                .orElse(Collections.emptySet());
+    }
+
+    private static void addScores(Map<Task, Integer> scores, Set<Task> tasks, int score) {
+        if (tasks == null) {
+            return;
+        }
+        for (Task task : tasks) {
+            scores.merge(task, score, Math::max);
+        }
+    }
+
+    private void addWords(Map<String, Set<Task>> index, Set<String> words, Task task) {
+        for (String word : words) {
+            if (!isIndexed(word)) {
+                for (String trigram : getTrigrams(word)) {
+                    wordsByTrigram.computeIfAbsent(trigram, unused -> new HashSet<>()).add(word);
+                }
+            }
+            index.computeIfAbsent(word, unused -> new HashSet<>()).add(task);
+        }
+    }
+
+    private void removeWords(Map<String, Set<Task>> index, Set<String> words, Task task) {
+        for (String word : words) {
+            Set<Task> tasks = index.get(word);
+            if (tasks == null || !tasks.remove(task) || !tasks.isEmpty()) {
+                continue;
+            }
+            index.remove(word);
+            if (isIndexed(word)) {
+                continue;
+            }
+            for (String trigram : getTrigrams(word)) {
+                Set<String> wordsWithTrigram = wordsByTrigram.get(trigram);
+                if (wordsWithTrigram != null && wordsWithTrigram.remove(word) && wordsWithTrigram.isEmpty()) {
+                    wordsByTrigram.remove(trigram);
+                }
+            }
+        }
+    }
+
+    private boolean isIndexed(String word) {
+        return tasksByTitleWord.containsKey(word) || tasksByDescriptionWord.containsKey(word);
+    }
+}
@@ -3,8 +3,10 @@ package seedu.studybananas.model.task;
 import static java.util.Objects.requireNonNull;
 import static seedu.studybananas.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -20,6 +22,10 @@ import seedu.studybananas.model.task.exceptions.TaskNotFoundException;
  * unique in terms of identity in the UniqueTaskList. However, the removal of a task uses #equals(Object) so
  * as to ensure that the task with exactly the same fields will be removed.
  *
+ * The identities of all tasks are kept in a hash set (see {@link TaskIdentity}) and timed tasks are
+ * additionally indexed in a {@code TaskIntervalTree}, so that neither duplicate nor overlap checks
+ * need to scan the whole list.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Task#isSameTask(Task)
@@ -29,13 +35,15 @@ public class UniqueTaskList implements Iterable<Task> {
     private final ObservableList<Task> internalList = FXCollections.observableArrayList();
     private final ObservableList<Task> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Set<TaskIdentity> identities = new HashSet<>();
+    private final TaskIntervalTree intervalTree = new TaskIntervalTree();
 
     /**
      * Returns true if the list contains an equivalent task as the given argument.
      */
     public boolean contains(Task toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameTask);
+        return identities.contains(toCheck.getIdentity());
     }
 
     /**
@@ -47,8 +55,7 @@ public class UniqueTaskList implements Iterable<Task> {
      */
     public boolean isTaskOverlapped(Task target, Task toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(currentTask ->
-                currentTask != (target) && currentTask.isDateTimeOverlapped(toCheck));
+        return intervalTree.hasOverlap(toCheck, target);
     }
 
     /**
@@ -65,6 +72,8 @@ public class UniqueTaskList implements Iterable<Task> {
             throw new OverlapTaskException();
         }
         internalList.add(toAdd);
+        identities.add(toAdd.getIdentity());
+        intervalTree.insert(toAdd);
     }
 
     /**
@@ -88,7 +97,11 @@ public class UniqueTaskList implements Iterable<Task> {
             throw new OverlapTaskException();
         }
 
-        internalList.set(index, editedTask);
+        Task replacedTask = internalList.set(index, editedTask);
+        identities.remove(replacedTask.getIdentity());
+        identities.add(editedTask.getIdentity());
+        intervalTree.remove(replacedTask);
+        intervalTree.insert(editedTask);
     }
 
     /**
@@ -97,14 +110,21 @@ public class UniqueTaskList implements Iterable<Task> {
      */
     public void remove(Task toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new TaskNotFoundException();
         }
+        Task removedTask = internalList.remove(index);
+        identities.remove(removedTask.getIdentity());
+        intervalTree.remove(removedTask);
     }
 
     public void setTasks(UniqueTaskList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        identities.clear();
+        identities.addAll(replacement.identities);
+        intervalTree.rebuild(internalList);
     }
 
     /**
@@ -118,6 +138,9 @@ public class UniqueTaskList implements Iterable<Task> {
         }
 
         internalList.setAll(tasks);
+        identities.clear();
+        tasks.forEach(task -> identities.add(task.getIdentity()));
+        intervalTree.rebuild(internalList);
     }
 
     /**
@@ -148,11 +171,10 @@ public class UniqueTaskList implements Iterable<Task> {
      * Returns true if {@code tasks} contains only unique tasks.
      */
     private boolean tasksAreUnique(List<Task> tasks) {
-        for (int i = 0; i < tasks.size() - 1; i++) {
-            for (int j = i + 1; j < tasks.size(); j++) {
-                if (tasks.get(i).isSameTask(tasks.get(j))) {
-                    return false;
-                }
+        Set<TaskIdentity> seenIdentities = new HashSet<>();
+        for (Task task : tasks) {
+            if (!seenIdentities.add(task.getIdentity())) {
+                return false;
             }
         }
         return true;
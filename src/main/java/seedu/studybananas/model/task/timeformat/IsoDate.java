@@ -1,44 +1,31 @@
 package seedu.studybananas.model.task.timeformat;
 
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeFormatterBuilder;
-import java.time.format.DateTimeParseException;
 import java.time.format.ResolverStyle;
-import java.util.Arrays;
 import java.util.List;
-
-import seedu.studybananas.model.task.exceptions.TimeFormatException;
+import java.util.Optional;
 
 public class IsoDate implements TimeFormat {
-    private static final List<String> PATTERNS = Arrays.asList("uuuu-MM-dd", "EEEE, MMM dd uuuu");
+    private static final List<DateTimeFormatter> FORMATTERS = List.of(
+            DateTimeFormatter.ofPattern("uuuu-MM-dd").withResolverStyle(ResolverStyle.STRICT),
+            DateTimeFormatter.ofPattern("EEEE, MMM dd uuuu").withResolverStyle(ResolverStyle.STRICT));
 
     // Default time to be set up for date is 12PM
-    private static final String DEFAULT_TIME = " 12:00";
-
-    private DateTimeFormatter buildDateTimeFormatter(String format) {
-        return new DateTimeFormatterBuilder().appendPattern(format)
-                .optionalStart().appendPattern(" HH:mm")
-                .optionalEnd()
-                .toFormatter();
-    }
+    private static final LocalTime DEFAULT_TIME = LocalTime.NOON;
 
     @Override
-    public LocalDateTime check(String date) {
-        for (String pattern : PATTERNS) {
-            try {
-                String dateAppendedTime = date + DEFAULT_TIME;
-                DateTimeFormatter dateTimeFormatter = buildDateTimeFormatter(pattern);
-                DateTimeFormatter strictDateTimeFormatter = dateTimeFormatter.withResolverStyle(ResolverStyle.STRICT);
-                LocalDateTime ld = LocalDateTime.parse(dateAppendedTime, strictDateTimeFormatter);
-                return ld;
-            } catch (DateTimeParseException e) {
-                continue;
+    public Optional<LocalDateTime> parse(String date) {
+        for (DateTimeFormatter formatter : FORMATTERS) {
+            Optional<LocalDateTime> dateTime = StrictDateTimeParser.parseFields(formatter, date)
+                    .flatMap(StrictDateTimeParser::toDate)
+                    .map(localDate -> LocalDateTime.of(localDate, DEFAULT_TIME));
+            if (dateTime.isPresent()) {
+                return dateTime;
             }
         }
-        // Fail all the date time formats
-        throw new TimeFormatException();
+        // Fail all the date formats
+        return Optional.empty();
     }
-
-
 }
@@ -1,38 +1,34 @@
 package seedu.studybananas.model.task.timeformat;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeFormatterBuilder;
-import java.time.format.DateTimeParseException;
 import java.time.format.ResolverStyle;
-import java.util.Arrays;
+import java.time.temporal.TemporalAccessor;
 import java.util.List;
-
-import seedu.studybananas.model.task.exceptions.TimeFormatException;
+import java.util.Optional;
 
 public class IsoDateTime implements TimeFormat {
-    private static final List<String> PATTERNS = Arrays.asList("uuuu-MM-dd", "EEEE, MMM dd uuuu");
-
-    private DateTimeFormatter buildDateTimeFormatter(String format) {
-        return new DateTimeFormatterBuilder().appendPattern(format)
-                .optionalStart().appendPattern(" HH:mm")
-                .optionalEnd()
-                .toFormatter();
-    }
+    private static final List<DateTimeFormatter> FORMATTERS = List.of(
+            DateTimeFormatter.ofPattern("uuuu-MM-dd HH:mm").withResolverStyle(ResolverStyle.STRICT),
+            DateTimeFormatter.ofPattern("EEEE, MMM dd uuuu HH:mm").withResolverStyle(ResolverStyle.STRICT));
 
     @Override
-    public LocalDateTime check(String date) {
-        for (String pattern : PATTERNS) {
-            try {
-                DateTimeFormatter dateTimeFormatter = buildDateTimeFormatter(pattern);
-                DateTimeFormatter strictDateTimeFormatter = dateTimeFormatter.withResolverStyle(ResolverStyle.STRICT);
-                LocalDateTime ld = LocalDateTime.parse(date, strictDateTimeFormatter);
-                return ld;
-            } catch (DateTimeParseException e) {
-                continue;
+    public Optional<LocalDateTime> parse(String dateTime) {
+        for (DateTimeFormatter formatter : FORMATTERS) {
+            Optional<LocalDateTime> parsed = StrictDateTimeParser.parseFields(formatter, dateTime)
+                    .flatMap(IsoDateTime::toDateTime);
+            if (parsed.isPresent()) {
+                return parsed;
             }
         }
         // Fail all the date time formats
-        throw new TimeFormatException();
+        return Optional.empty();
+    }
+
+    private static Optional<LocalDateTime> toDateTime(TemporalAccessor fields) {
+        Optional<LocalDate> date = StrictDateTimeParser.toDate(fields);
+        return date.flatMap(localDate -> StrictDateTimeParser.toTime(fields)
+                .map(localTime -> LocalDateTime.of(localDate, localTime)));
     }
 }
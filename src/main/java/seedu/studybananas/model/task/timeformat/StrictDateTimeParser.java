@@ -0,0 +1,90 @@
+package seedu.studybananas.model.task.timeformat;
+
+import static java.time.temporal.ChronoField.DAY_OF_MONTH;
+import static java.time.temporal.ChronoField.DAY_OF_WEEK;
+import static java.time.temporal.ChronoField.HOUR_OF_DAY;
+import static java.time.temporal.ChronoField.MINUTE_OF_HOUR;
+import static java.time.temporal.ChronoField.MONTH_OF_YEAR;
+import static java.time.temporal.ChronoField.NANO_OF_SECOND;
+import static java.time.temporal.ChronoField.SECOND_OF_MINUTE;
+import static java.time.temporal.ChronoField.YEAR;
+
+import java.text.ParsePosition;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.util.Optional;
+
+/**
+ * Parses dates and times with prebuilt formatters, without throwing exceptions for text that does not match.
+ *
+ * Text is first parsed into its fields, then the fields are checked as strictly as
+ * {@link java.time.format.ResolverStyle#STRICT} would, e.g. "2020-02-30" and "Monday, Oct 29 2020" are rejected.
+ */
+final class StrictDateTimeParser {
+
+    private StrictDateTimeParser() {} // prevents instantiation
+
+    /**
+     * Parses the whole of {@code text} into its fields with {@code formatter}.
+     * Returns {@code Optional.empty()} if the text does not match the formatter's pattern.
+     */
+    static Optional<TemporalAccessor> parseFields(DateTimeFormatter formatter, String text) {
+        ParsePosition position = new ParsePosition(0);
+        TemporalAccessor fields = formatter.parseUnresolved(text, position);
+        if (fields == null || position.getErrorIndex() >= 0 || position.getIndex() != text.length()) {
+            return Optional.empty();
+        }
+        return Optional.of(fields);
+    }
+
+    /**
+     * Returns the date in {@code fields}, which must have a year, month and day of month,
+     * and whose day of week, if any, must match the date.
+     */
+    static Optional<LocalDate> toDate(TemporalAccessor fields) {
+        if (!hasValidField(fields, YEAR) || !hasValidField(fields, MONTH_OF_YEAR)
+                || !hasValidField(fields, DAY_OF_MONTH)) {
+            return Optional.empty();
+        }
+        YearMonth yearMonth = YearMonth.of((int) fields.getLong(YEAR), (int) fields.getLong(MONTH_OF_YEAR));
+        int dayOfMonth = (int) fields.getLong(DAY_OF_MONTH);
+        if (!yearMonth.isValidDay(dayOfMonth)) {
+            return Optional.empty();
+        }
+
+        LocalDate date = yearMonth.atDay(dayOfMonth);
+        if (fields.isSupported(DAY_OF_WEEK)
+                && fields.getLong(DAY_OF_WEEK) != date.getDayOfWeek().getValue()) {
+            return Optional.empty();
+        }
+        return Optional.of(date);
+    }
+
+    /**
+     * Returns the time in {@code fields}, which must have an hour and minute, and may have seconds and nanoseconds.
+     */
+    static Optional<LocalTime> toTime(TemporalAccessor fields) {
+        if (!hasValidField(fields, HOUR_OF_DAY) || !hasValidField(fields, MINUTE_OF_HOUR)
+                || !hasValidOptionalField(fields, SECOND_OF_MINUTE) || !hasValidOptionalField(fields, NANO_OF_SECOND)) {
+            return Optional.empty();
+        }
+        return Optional.of(LocalTime.of((int) fields.getLong(HOUR_OF_DAY), (int) fields.getLong(MINUTE_OF_HOUR),
+                getOptionalField(fields, SECOND_OF_MINUTE), getOptionalField(fields, NANO_OF_SECOND)));
+    }
+
+    private static boolean hasValidField(TemporalAccessor fields, ChronoField field) {
+        return fields.isSupported(field) && field.range().isValidIntValue(fields.getLong(field));
+    }
+
+    private static boolean hasValidOptionalField(TemporalAccessor fields, ChronoField field) {
+        return !fields.isSupported(field) || field.range().isValidIntValue(fields.getLong(field));
+    }
+
+    private static int getOptionalField(TemporalAccessor fields, ChronoField field) {
+        return fields.isSupported(field) ? (int) fields.getLong(field) : 0;
+    }
+}
@@ -1,9 +1,22 @@
 package seedu.studybananas.model.task.timeformat;
 
 import java.time.LocalDateTime;
+import java.util.Optional;
 
 import seedu.studybananas.model.task.exceptions.TimeFormatException;
 
 public interface TimeFormat {
-    LocalDateTime check(String time) throws TimeFormatException;
+    /**
+     * Returns the date time represented by {@code time}, or {@code Optional.empty()} if it is not in this format.
+     */
+    Optional<LocalDateTime> parse(String time);
+
+    /**
+     * Returns the date time represented by {@code time}.
+     *
+     * @throws TimeFormatException if {@code time} is not in this format.
+     */
+    default LocalDateTime check(String time) throws TimeFormatException {
+        return parse(time).orElseThrow(TimeFormatException::new);
+    }
 }
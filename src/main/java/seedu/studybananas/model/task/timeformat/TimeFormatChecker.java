@@ -1,29 +1,36 @@
 package seedu.studybananas.model.task.timeformat;
 
 import java.time.LocalDateTime;
-import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import seedu.studybananas.model.task.exceptions.TimeFormatException;
 
 public class TimeFormatChecker {
-    private static final List<TimeFormat> VALID_FORMATS = Arrays.asList(new IsoDateTime(),
+    // The standard format is tried first as it is the format in which date times are saved
+    private static final List<TimeFormat> VALID_FORMATS = List.of(new StandardDateTime(), new IsoDateTime(),
             new IsoDate(), new WordDateTime());
 
     /**
-     * Check if the time format is supported by StudyBananas)
-     * @param time
+     * Parses {@code time} in the first supported format that it matches.
+     * Returns {@code Optional.empty()} if the time format is not supported by StudyBananas.
      */
-    public static boolean check(String time) {
+    public static Optional<LocalDateTime> parse(String time) {
         for (TimeFormat format : VALID_FORMATS) {
-            try {
-                LocalDateTime ldt = format.check(time);
-                return true;
-            } catch (TimeFormatException e) {
-                continue;
+            Optional<LocalDateTime> ldt = format.parse(time);
+            if (ldt.isPresent()) {
+                return ldt;
             }
         }
-        return false;
+        return Optional.empty();
+    }
+
+    /**
+     * Check if the time format is supported by StudyBananas)
+     * @param time
+     */
+    public static boolean check(String time) {
+        return parse(time).isPresent();
     }
 
     /**
@@ -31,14 +38,6 @@ public class TimeFormatChecker {
      * @param time
      */
     public static LocalDateTime mapToLocalDateTime(String time) {
-        for (TimeFormat format : VALID_FORMATS) {
-            try {
-                LocalDateTime ldt = format.check(time);
-                return ldt;
-            } catch (TimeFormatException e) {
-                continue;
-            }
-        }
-        throw new TimeFormatException();
+        return parse(time).orElseThrow(TimeFormatException::new);
     }
 }
@@ -4,18 +4,17 @@ import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.time.format.DateTimeParseException;
-import java.time.temporal.TemporalAdjuster;
+import java.time.format.DateTimeFormatter;
 import java.time.temporal.TemporalAdjusters;
-import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
-
-import seedu.studybananas.model.task.exceptions.TimeFormatException;
+import java.util.Optional;
+import java.util.regex.Pattern;
 
 public class WordDateTime implements TimeFormat {
-    private static final List<String> DAYS = Arrays.asList("^MON(DAY)?$", "^TUE(SDAY)?$", "^WED(NESDAY)?$",
-            "^THU(RSDAY)?$", "^FRI(DAY)?$", "^SAT(URDAY)?$", "^SUN(DAY)?$");
+    // Patterns of the days from Monday to Sunday, in the order of DayOfWeek
+    private static final List<Pattern> DAYS = List.of(Pattern.compile("^MON(DAY)?$"),
+            Pattern.compile("^TUE(SDAY)?$"), Pattern.compile("^WED(NESDAY)?$"), Pattern.compile("^THU(RSDAY)?$"),
+            Pattern.compile("^FRI(DAY)?$"), Pattern.compile("^SAT(URDAY)?$"), Pattern.compile("^SUN(DAY)?$"));
 
     private static final String TODAY = "TODAY";
 
@@ -25,17 +24,20 @@ public class WordDateTime implements TimeFormat {
     private static final String DEFAULT_TIME = "12:00";
 
     @Override
-    public LocalDateTime check(String date) {
+    public Optional<LocalDateTime> parse(String date) {
         String day = getDay(date);
         String dayUpperCase = day.toUpperCase();
-        String time = getTime(date);
+        Optional<LocalTime> time = parseTime(getTime(date));
+        if (time.isEmpty()) {
+            return Optional.empty();
+        }
         switch (dayUpperCase) {
         case TODAY:
-            return getLocalDateTimeFromWord(0, time);
+            return Optional.of(getLocalDateTimeFromWord(0, time.get()));
         case TOMORROW:
-            return getLocalDateTimeFromWord(1, time);
+            return Optional.of(getLocalDateTimeFromWord(1, time.get()));
         default:
-            return getLocalDateTimeFromWeekDay(dayUpperCase, time);
+            return getLocalDateTimeFromWeekDay(dayUpperCase, time.get());
         }
     }
 
@@ -46,53 +48,37 @@ public class WordDateTime implements TimeFormat {
     }
 
     private String getDay(String dateInput) {
-        try {
-            String[] dayAndTime = dateInput.split(" ");
-            // Day should be the first word in the date input
-            return dayAndTime[0];
-        } catch (ArrayIndexOutOfBoundsException e) {
-            // Empty space case
-            throw new TimeFormatException();
-        }
+        String[] dayAndTime = dateInput.split(" ");
+        // Day should be the first word in the date input, which is absent if the input is only spaces
+        return dayAndTime.length > 0 ? dayAndTime[0] : "";
     }
 
     private String getTime(String dateInput) {
         if (hasTime(dateInput)) {
             // Time should be the second word in the date input
-            String[] splittedInput = dateInput.split(" ");
-            assert !(splittedInput.length < 2) : "Both day and time have to be present";
             return dateInput.split(" ")[1];
         } else {
             return DEFAULT_TIME;
         }
     }
 
-    private LocalDateTime getLocalDateTimeFromWord(int dayFromNow, String time) {
-        try {
-            LocalTime localTime = LocalTime.parse(time);
-            LocalDate localDate = LocalDate.now().plusDays(dayFromNow);
-            return LocalDateTime.of(localDate, localTime);
-        } catch (DateTimeParseException | NullPointerException e) {
-            throw new TimeFormatException();
-        }
+    private Optional<LocalTime> parseTime(String time) {
+        return StrictDateTimeParser.parseFields(DateTimeFormatter.ISO_LOCAL_TIME, time)
+                .flatMap(StrictDateTimeParser::toTime);
     }
 
-    private LocalDateTime getLocalDateTimeFromWeekDay(String day, String time) {
-        try {
-            LocalTime localTime = LocalTime.parse(time);
-            LocalDate currentDate = LocalDate.now();
-            return DAYS.stream().filter(dayOfWeek -> day.matches(dayOfWeek)).map(dayOfWeek ->
-                    LocalDateTime.of(currentDate, localTime)
-                    .with(adjustDayDifference(dayOfWeek)))
-                    .collect(Collectors.toList()).get(0);
-        } catch (DateTimeParseException | NullPointerException | IndexOutOfBoundsException e) {
-            throw new TimeFormatException();
-        }
+    private LocalDateTime getLocalDateTimeFromWord(int dayFromNow, LocalTime time) {
+        LocalDate localDate = LocalDate.now().plusDays(dayFromNow);
+        return LocalDateTime.of(localDate, time);
     }
 
-    private TemporalAdjuster adjustDayDifference(String dayOfWeekString) {
-        int indexOfDay = DAYS.indexOf(dayOfWeekString) + 1;
-        DayOfWeek dayOfWeek = DayOfWeek.of(indexOfDay);
-        return TemporalAdjusters.next(dayOfWeek);
+    private Optional<LocalDateTime> getLocalDateTimeFromWeekDay(String day, LocalTime time) {
+        for (int i = 0; i < DAYS.size(); i++) {
+            if (DAYS.get(i).matcher(day).matches()) {
+                DayOfWeek dayOfWeek = DayOfWeek.of(i + 1);
+                return Optional.of(LocalDateTime.of(LocalDate.now(), time).with(TemporalAdjusters.next(dayOfWeek)));
+            }
+        }
+        return Optional.empty();
     }
 }
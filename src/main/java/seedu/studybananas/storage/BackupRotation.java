@@ -0,0 +1,48 @@
+package seedu.studybananas.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+
+import seedu.studybananas.commons.util.FileUtil;
+
+/**
+ * Keeps up to a number of backups of the files of a storage, see {@link FileUtil#rotateBackups(Path, int)}.
+ *
+ * The backups of a file are rotated at most once per session, before the file is first replaced, so that they
+ * hold the file as it was when the app started instead of being copied on every save. The backups of a file that
+ * failed to load are left as they are, so that a corrupted file does not take the place of a good backup.
+ */
+public class BackupRotation {
+    private final int backupCount;
+    // The files whose backups are not to be rotated again in this session
+    private final Set<Path> settledFiles = new HashSet<>();
+
+    public BackupRotation(int backupCount) {
+        this.backupCount = backupCount;
+    }
+
+    /**
+     * Rotates the backups of {@code file}, unless they have been rotated before in this session, or the file
+     * failed to load.
+     */
+    public synchronized void rotateOnce(Path file) throws IOException {
+        requireNonNull(file);
+        if (settledFiles.contains(file)) {
+            return;
+        }
+        FileUtil.rotateBackups(file, backupCount);
+        settledFiles.add(file);
+    }
+
+    /**
+     * Records that {@code file} failed to load, so that its backups are kept as they are for the rest of the session.
+     */
+    public synchronized void keepBackupsOf(Path file) {
+        requireNonNull(file);
+        settledFiles.add(file);
+    }
+}
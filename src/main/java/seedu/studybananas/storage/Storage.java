@@ -53,4 +53,17 @@ public interface Storage extends UserPrefsStorage, ScheduleStorage,
     @Override
     void saveQuizRecords(ReadOnlyQuizRecords quizRecords) throws IOException;
 
+    /**
+     * Throws the error of a save that failed in the background since this method was last called.
+     * Does nothing if saves are not written in the background.
+     */
+    void checkBackgroundSaveFailure() throws IOException;
+
+    /**
+     * Blocks until every save requested so far has been written.
+     *
+     * @throws IOException if a save could not be written.
+     */
+    void flush() throws IOException;
+
 }
@@ -0,0 +1,56 @@
+package seedu.studybananas.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import seedu.studybananas.commons.exceptions.DataConversionException;
+import seedu.studybananas.model.systemlevelmodel.ReadOnlyFlashcardBank;
+import seedu.studybananas.model.systemlevelmodel.ReadOnlyQuizRecords;
+import seedu.studybananas.storage.flashcardstorage.FlashcardBankStorage;
+import seedu.studybananas.storage.quizstorage.QuizRecordsStorage;
+
+/**
+ * Copies data between storages of different formats, e.g. from a JSON data file to a binary snapshot.
+ */
+public class StorageFormatConverter {
+
+    private StorageFormatConverter() {} // prevents instantiation
+
+    /**
+     * Saves the flashcard bank in {@code source} to {@code target}.
+     *
+     * @return false if {@code source} has no data file, in which case {@code target} is left unchanged.
+     * @throws DataConversionException if the data in {@code source} is not in the expected format.
+     */
+    public static boolean convertFlashcardBank(FlashcardBankStorage source, FlashcardBankStorage target)
+            throws DataConversionException, IOException {
+        requireNonNull(source);
+        requireNonNull(target);
+        Optional<ReadOnlyFlashcardBank> flashcardBank = source.readFlashcardBank();
+        if (flashcardBank.isEmpty()) {
+            return false;
+        }
+        target.saveFlashcardBank(flashcardBank.get());
+        return true;
+    }
+
+    /**
+     * Saves the quiz records in {@code source} to {@code target}.
+     *
+     * @return false if {@code source} has no data file, in which case {@code target} is left unchanged.
+     * @throws DataConversionException if the data in {@code source} is not in the expected format.
+     */
+    public static boolean convertQuizRecords(QuizRecordsStorage source, QuizRecordsStorage target)
+            throws DataConversionException, IOException {
+        requireNonNull(source);
+        requireNonNull(target);
+        Optional<ReadOnlyQuizRecords> quizRecords = source.readQuizRecords();
+        if (quizRecords.isEmpty()) {
+            return false;
+        }
+        target.saveQuizRecords(quizRecords.get());
+        return true;
+    }
+}
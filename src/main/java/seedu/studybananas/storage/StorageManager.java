@@ -39,6 +39,18 @@ public class StorageManager implements Storage {
         this.quizRecordsStorage = quizRecordsStorage;
     }
 
+    // ================ Background writes ==============================
+
+    @Override
+    public void checkBackgroundSaveFailure() throws IOException {
+        // Saves are written synchronously, so their errors have already been thrown.
+    }
+
+    @Override
+    public void flush() throws IOException {
+        // Saves are written synchronously, so there is nothing to wait for.
+    }
+
     // ================ UserPrefs methods ==============================
 
     @Override
@@ -74,6 +86,12 @@ public class StorageManager implements Storage {
         return scheduleStorage.readSchedule(filePath);
     }
 
+    @Override
+    public Optional<ReadOnlySchedule> readScheduleUpToCorruption() throws DataConversionException, IOException {
+        logger.fine("Attempting to read schedule up to corrupted data from file: " + getScheduleFilePath());
+        return scheduleStorage.readScheduleUpToCorruption();
+    }
+
     @Override
     public void saveSchedule(ReadOnlySchedule schedule) throws IOException {
         saveSchedule(schedule, scheduleStorage.getScheduleFilePath());
@@ -0,0 +1,250 @@
+package seedu.studybananas.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.studybananas.commons.core.LogsCenter;
+import seedu.studybananas.commons.exceptions.DataConversionException;
+import seedu.studybananas.model.flashcard.FlashcardSet;
+import seedu.studybananas.model.quiz.Quiz;
+import seedu.studybananas.model.systemlevelmodel.FlashcardBank;
+import seedu.studybananas.model.systemlevelmodel.QuizRecords;
+import seedu.studybananas.model.systemlevelmodel.ReadOnlyFlashcardBank;
+import seedu.studybananas.model.systemlevelmodel.ReadOnlyQuizRecords;
+import seedu.studybananas.model.systemlevelmodel.ReadOnlySchedule;
+import seedu.studybananas.model.systemlevelmodel.ScheduleHistory;
+import seedu.studybananas.model.task.Task;
+import seedu.studybananas.storage.flashcardstorage.FlashcardBankStorage;
+import seedu.studybananas.storage.quizstorage.QuizRecordsStorage;
+import seedu.studybananas.storage.schedulestorage.ScheduleStorage;
+
+/**
+ * A {@code StorageManager} that writes the schedule, flashcard bank and quiz records behind the caller's back.
+ *
+ * Each save takes a snapshot of the data on the calling thread and returns immediately. The snapshots are
+ * written by a single background thread, and only the latest snapshot for each file is written, so a burst
+ * of saves results in one write per store. A write that fails is kept and retried with the next batch, and
+ * its error is reported by the next call to {@link #checkBackgroundSaveFailure()} or {@link #flush()}.
+ * User prefs are still saved synchronously.
+ */
+public class WriteBehindStorageManager extends StorageManager {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindStorageManager.class);
+
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "StudyBananas storage writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Guarded by this. Keyed by file, so that a newer snapshot of a store replaces the pending one.
+    private final Map<Path, PendingSave> pendingSaves = new LinkedHashMap<>();
+    private boolean isWriteScheduled;
+    private IOException saveFailure;
+
+    /**
+     * Creates a {@code WriteBehindStorageManager} with the given {@code ScheduleStorage},
+     * {@code FlashcardBankStorage}, {@code QuizRecordsStorage}, and {@code UserPrefStorage}.
+     */
+    public WriteBehindStorageManager(ScheduleStorage scheduleStorage, FlashcardBankStorage flashcardBankStorage,
+                                     QuizRecordsStorage quizRecordsStorage, UserPrefsStorage userPrefsStorage) {
+        super(scheduleStorage, flashcardBankStorage, quizRecordsStorage, userPrefsStorage);
+    }
+
+    // ================ Background writes ==============================
+
+    @Override
+    public synchronized void checkBackgroundSaveFailure() throws IOException {
+        if (saveFailure != null) {
+            IOException failure = saveFailure;
+            saveFailure = null;
+            throw failure;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        Future<?> written = writer.submit(this::writePendingSaves);
+        try {
+            written.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for data to be saved", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Could not finish saving data", e.getCause());
+        }
+        checkBackgroundSaveFailure();
+    }
+
+    private synchronized void enqueue(Path filePath, PendingSave save) {
+        pendingSaves.put(filePath, save);
+        if (!isWriteScheduled) {
+            isWriteScheduled = true;
+            writer.execute(this::writePendingSaves);
+        }
+    }
+
+    /**
+     * Writes every pending snapshot. Runs on the writer thread only.
+     */
+    private void writePendingSaves() {
+        List<Map.Entry<Path, PendingSave>> saves;
+        synchronized (this) {
+            saves = new ArrayList<>(pendingSaves.entrySet());
+            pendingSaves.clear();
+            isWriteScheduled = false;
+        }
+
+        for (Map.Entry<Path, PendingSave> save : saves) {
+            try {
+                save.getValue().write();
+            } catch (IOException | RuntimeException e) {
+                logger.warning("Failed to save data to " + save.getKey() + ": " + e);
+                synchronized (this) {
+                    saveFailure = e instanceof IOException ? (IOException) e : new IOException(e);
+                    // Retry with the next batch, unless a newer snapshot has been queued meanwhile.
+                    pendingSaves.putIfAbsent(save.getKey(), save.getValue());
+                }
+            }
+        }
+    }
+
+    /**
+     * Waits for the writes queued so far, so that reads see the latest saved data.
+     */
+    private void awaitPendingSaves() {
+        try {
+            writer.submit(this::writePendingSaves).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.warning("Failed to finish pending saves: " + e.getCause());
+        }
+    }
+
+    // ================ Schedule methods ==============================
+
+    @Override
+    public Optional<ReadOnlySchedule> readSchedule(Path filePath) throws DataConversionException, IOException {
+        awaitPendingSaves();
+        return super.readSchedule(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlySchedule> readScheduleUpToCorruption() throws DataConversionException, IOException {
+        awaitPendingSaves();
+        return super.readScheduleUpToCorruption();
+    }
+
+    @Override
+    public void saveSchedule(ReadOnlySchedule schedule, Path filePath) {
+        requireNonNull(schedule);
+        requireNonNull(filePath);
+        ReadOnlySchedule snapshot = snapshotOf(schedule);
+        enqueue(filePath, () -> super.saveSchedule(snapshot, filePath));
+    }
+
+    // ================ FlashcardBank methods ==============================
+
+    @Override
+    public Optional<ReadOnlyFlashcardBank> readFlashcardBank(Path filePath) throws
+            DataConversionException, IOException {
+        awaitPendingSaves();
+        return super.readFlashcardBank(filePath);
+    }
+
+    @Override
+    public void saveFlashcardBank(ReadOnlyFlashcardBank flashcardBank, Path filePath) {
+        requireNonNull(flashcardBank);
+        requireNonNull(filePath);
+        FlashcardBank snapshot = snapshotOf(flashcardBank);
+        enqueue(filePath, () -> super.saveFlashcardBank(snapshot, filePath));
+    }
+
+    // ================ QuizRecords methods ==============================
+
+    @Override
+    public Optional<ReadOnlyQuizRecords> readQuizRecords(Path filePath) throws
+            DataConversionException, IOException {
+        awaitPendingSaves();
+        return super.readQuizRecords(filePath);
+    }
+
+    @Override
+    public void saveQuizRecords(ReadOnlyQuizRecords quizRecords, Path filePath) {
+        requireNonNull(quizRecords);
+        requireNonNull(filePath);
+        QuizRecords snapshot = snapshotOf(quizRecords);
+        enqueue(filePath, () -> super.saveQuizRecords(snapshot, filePath));
+    }
+
+    // ================ Snapshots ==============================
+
+    /**
+     * Returns a copy of {@code schedule} that is unaffected by later changes to it.
+     * Tasks are immutable, so only the list of tasks and the mark of the schedule in its history are copied.
+     */
+    private static ReadOnlySchedule snapshotOf(ReadOnlySchedule schedule) {
+        ObservableList<Task> tasks = FXCollections.unmodifiableObservableList(
+                FXCollections.observableList(List.copyOf(schedule.getTaskList())));
+        Optional<ScheduleHistory.Mark> historyMark = schedule.getHistoryMark();
+        return new ReadOnlySchedule() {
+            @Override
+            public ObservableList<Task> getTaskList() {
+                return tasks;
+            }
+
+            @Override
+            public Optional<ScheduleHistory.Mark> getHistoryMark() {
+                return historyMark;
+            }
+        };
+    }
+
+    /**
+     * Returns a copy of {@code flashcardBank} that is unaffected by later changes to its flashcard sets.
+     */
+    private static FlashcardBank snapshotOf(ReadOnlyFlashcardBank flashcardBank) {
+        List<FlashcardSet> flashcardSets = new ArrayList<>();
+        for (FlashcardSet flashcardSet : flashcardBank.getFlashcardSetList()) {
+            flashcardSets.add(flashcardSet.copy());
+        }
+        FlashcardBank snapshot = new FlashcardBank();
+        snapshot.setFlashcardSets(flashcardSets);
+        return snapshot;
+    }
+
+    /**
+     * Returns a copy of {@code quizRecords} that is unaffected by later changes to the quizzes' flashcard sets.
+     */
+    private static QuizRecords snapshotOf(ReadOnlyQuizRecords quizRecords) {
+        QuizRecords snapshot = new QuizRecords();
+        for (Quiz quiz : quizRecords.getQuizRecordsMap().values()) {
+            snapshot.addQuiz(new Quiz(quiz.getFlashcardSet().copy(), quiz.getTotalScore(), quiz.getPointsScored(),
+                    quiz.getResults().clone(), quiz.getUserAnswers().clone()));
+        }
+        return snapshot;
+    }
+
+    /**
+     * A snapshot waiting to be written.
+     */
+    @FunctionalInterface
+    private interface PendingSave {
+        void write() throws IOException;
+    }
+}
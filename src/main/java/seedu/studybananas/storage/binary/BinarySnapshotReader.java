@@ -0,0 +1,172 @@
+package seedu.studybananas.storage.binary;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import seedu.studybananas.commons.exceptions.IllegalValueException;
+
+/**
+ * Reads a binary snapshot written by {@link BinarySnapshotWriter}.
+ *
+ * Only the offsets of the string table are read up front. Each string is decoded the first time
+ * it is referenced and then shared by every later reference to it.
+ */
+public class BinarySnapshotReader {
+
+    public static final String MESSAGE_NOT_A_SNAPSHOT = "File is not a StudyBananas binary snapshot";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary snapshot version: %d";
+    public static final String MESSAGE_WRONG_KIND = "Binary snapshot holds data of kind %d instead of %d";
+    public static final String MESSAGE_CORRUPTED = "Binary snapshot is corrupted";
+
+    private final ByteBuffer buffer;
+    private final int[] stringOffsets;
+    private final int[] stringLengths;
+    private final String[] decodedStrings;
+    private final int bodyEnd;
+
+    /**
+     * Reads the header and string table of the snapshot in {@code buffer}, which must hold data of {@code kind}.
+     * The buffer is positioned at the start of the body afterwards.
+     *
+     * @throws IllegalValueException if the buffer does not hold a valid snapshot of the expected kind.
+     */
+    public BinarySnapshotReader(ByteBuffer buffer, byte kind) throws IllegalValueException {
+        requireNonNull(buffer);
+        this.buffer = buffer;
+        try {
+            if (buffer.getInt() != BinarySnapshotWriter.MAGIC) {
+                throw new IllegalValueException(MESSAGE_NOT_A_SNAPSHOT);
+            }
+            short version = buffer.getShort();
+            if (version != BinarySnapshotWriter.FORMAT_VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+            byte actualKind = buffer.get();
+            if (actualKind != kind) {
+                throw new IllegalValueException(String.format(MESSAGE_WRONG_KIND, actualKind, kind));
+            }
+
+            int stringCount = buffer.getInt();
+            checkLength(stringCount);
+            stringOffsets = new int[stringCount];
+            stringLengths = new int[stringCount];
+            decodedStrings = new String[stringCount];
+            for (int i = 0; i < stringCount; i++) {
+                stringLengths[i] = buffer.getInt();
+                checkLength(stringLengths[i]);
+                stringOffsets[i] = buffer.position();
+                buffer.position(buffer.position() + stringLengths[i]);
+            }
+
+            int bodyLength = buffer.getInt();
+            checkLength(bodyLength);
+            bodyEnd = buffer.position() + bodyLength;
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+    }
+
+    private void checkLength(int length) throws IllegalValueException {
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+    }
+
+    /**
+     * Reads a value written by {@link BinarySnapshotWriter#writeInt(int)}.
+     */
+    public int readInt() throws IllegalValueException {
+        checkWithinBody(Integer.BYTES);
+        return buffer.getInt();
+    }
+
+    /**
+     * Reads a value written by {@link BinarySnapshotWriter#writeBoolean(boolean)}.
+     */
+    public boolean readBoolean() throws IllegalValueException {
+        checkWithinBody(1);
+        return buffer.get() != 0;
+    }
+
+    /**
+     * Reads a string written by {@link BinarySnapshotWriter#writeString(String)}, which may be null.
+     */
+    public String readString() throws IllegalValueException {
+        int index = readInt();
+        if (index == BinarySnapshotWriter.NULL_STRING) {
+            return null;
+        }
+        if (!isValidStringIndex(index)) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+        if (decodedStrings[index] == null) {
+            decodedStrings[index] = decodeString(index);
+        }
+        return decodedStrings[index];
+    }
+
+    /**
+     * Returns true if {@code index} refers to a string in the string table.
+     */
+    public boolean isValidStringIndex(int index) {
+        return index >= 0 && index < decodedStrings.length;
+    }
+
+    /**
+     * Decodes the string at {@code index} in the string table, which must be valid, without caching it.
+     * Unlike the sequential read methods, this can be called from any thread.
+     */
+    public String decodeString(int index) {
+        byte[] bytes = new byte[stringLengths[index]];
+        buffer.duplicate().position(stringOffsets[index]).get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the int at {@code position} in the body, without moving the read position.
+     * Unlike the sequential read methods, this can be called from any thread.
+     *
+     * @throws IndexOutOfBoundsException if {@code position} is outside the body.
+     */
+    public int getInt(int position) {
+        if (position < 0 || position > bodyEnd - Integer.BYTES) {
+            throw new IndexOutOfBoundsException(MESSAGE_CORRUPTED);
+        }
+        return buffer.getInt(position);
+    }
+
+    /**
+     * Returns the current read position, for use with {@link #getInt(int)}.
+     */
+    public int position() {
+        return buffer.position();
+    }
+
+    /**
+     * Skips {@code byteCount} bytes of the body.
+     */
+    public void skip(int byteCount) throws IllegalValueException {
+        checkWithinBody(byteCount);
+        buffer.position(buffer.position() + byteCount);
+    }
+
+    /**
+     * Reads a length prefix for {@code elementSize}-byte elements, checking that they fit in the rest of the body.
+     */
+    public int readLength(int elementSize) throws IllegalValueException {
+        int length = readInt();
+        if (length < 0 || (long) length * elementSize > bodyEnd - buffer.position()) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+        return length;
+    }
+
+    private void checkWithinBody(int size) throws IllegalValueException {
+        if (size < 0 || (long) buffer.position() + size > bodyEnd) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.studybananas.storage.binary;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds a binary snapshot of the app's data.
+ *
+ * A snapshot consists of a header, a string table and a body:
+ * <pre>
+ * header:       int MAGIC, short FORMAT_VERSION, byte kind
+ * string table: int count, then for each string: int length in bytes, UTF-8 bytes
+ * body:         int length in bytes, then the values written to this writer
+ * </pre>
+ * All numbers are big-endian. Strings in the body are written as indexes into the string table,
+ * so text that appears many times, such as a flashcard set copied into its quiz records, is stored once.
+ */
+public class BinarySnapshotWriter {
+
+    /** Marks the start of a snapshot file, "SBNB" in ASCII. */
+    public static final int MAGIC = 0x53424E42;
+    public static final short FORMAT_VERSION = 1;
+    /** Index written in place of a null string. */
+    public static final int NULL_STRING = -1;
+
+    private final byte kind;
+    private final Map<String, Integer> stringIndexes = new HashMap<>();
+    private final List<String> strings = new ArrayList<>();
+    private final ByteArrayOutputStream bodyBytes = new ByteArrayOutputStream();
+    private final DataOutputStream body = new DataOutputStream(bodyBytes);
+
+    /**
+     * Creates a writer for a snapshot holding data of the given {@code kind}.
+     */
+    public BinarySnapshotWriter(byte kind) {
+        this.kind = kind;
+    }
+
+    public void writeInt(int value) throws IOException {
+        body.writeInt(value);
+    }
+
+    public void writeBoolean(boolean value) throws IOException {
+        body.writeBoolean(value);
+    }
+
+    /**
+     * Writes {@code value}, which may be null, as an index into the string table.
+     */
+    public void writeString(String value) throws IOException {
+        if (value == null) {
+            body.writeInt(NULL_STRING);
+            return;
+        }
+        Integer index = stringIndexes.get(value);
+        if (index == null) {
+            index = strings.size();
+            strings.add(value);
+            stringIndexes.put(value, index);
+        }
+        body.writeInt(index);
+    }
+
+    /**
+     * Writes the complete snapshot to {@code out}, without closing it.
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        requireNonNull(out);
+        DataOutputStream snapshot = new DataOutputStream(out);
+        snapshot.writeInt(MAGIC);
+        snapshot.writeShort(FORMAT_VERSION);
+        snapshot.writeByte(kind);
+
+        snapshot.writeInt(strings.size());
+        for (String string : strings) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            snapshot.writeInt(bytes.length);
+            snapshot.write(bytes);
+        }
+
+        body.flush();
+        snapshot.writeInt(bodyBytes.size());
+        bodyBytes.writeTo(snapshot);
+        snapshot.flush();
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.studybananas.storage.binary;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.studybananas.commons.exceptions.IllegalValueException;
+import seedu.studybananas.model.flashcard.Answer;
+import seedu.studybananas.model.flashcard.Flashcard;
+import seedu.studybananas.model.flashcard.FlashcardSet;
+import seedu.studybananas.model.flashcard.FlashcardSetName;
+import seedu.studybananas.model.flashcard.Question;
+
+/**
+ * Encodes {@code FlashcardSet}s in binary snapshots.
+ * A set is written as its name followed by a length-prefixed list of question and answer pairs.
+ */
+public class FlashcardSetCodec {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Flashcard set's %s field is missing!";
+
+    private FlashcardSetCodec() {} // prevents instantiation
+
+    /**
+     * Writes {@code flashcardSet} to {@code writer}.
+     */
+    public static void write(BinarySnapshotWriter writer, FlashcardSet flashcardSet) throws IOException {
+        writer.writeString(flashcardSet.getFlashcardSetName().name);
+        writer.writeInt(flashcardSet.getSize());
+        for (Flashcard flashcard : flashcardSet.getFlashcards()) {
+            writer.writeString(flashcard.getQuestion().question);
+            writer.writeString(flashcard.getAnswer().answer);
+        }
+    }
+
+    /**
+     * Reads a flashcard set written by {@link #write(BinarySnapshotWriter, FlashcardSet)}.
+     *
+     * @throws IllegalValueException if the data is corrupted or violates the model's constraints.
+     */
+    public static FlashcardSet read(BinarySnapshotReader reader) throws IllegalValueException {
+        String name = requirePresent(reader.readString(), FlashcardSetName.class);
+        if (!FlashcardSetName.isValidName(name)) {
+            throw new IllegalValueException(FlashcardSetName.MESSAGE_CONSTRAINTS);
+        }
+
+        int size = reader.readLength(2 * Integer.BYTES);
+        List<Flashcard> flashcards = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String question = requirePresent(reader.readString(), Question.class);
+            if (!Question.isValidQuestion(question)) {
+                throw new IllegalValueException(Question.MESSAGE_CONSTRAINTS);
+            }
+            String answer = requirePresent(reader.readString(), Answer.class);
+            if (!Answer.isValidAnswer(answer)) {
+                throw new IllegalValueException(Answer.MESSAGE_CONSTRAINTS);
+            }
+            flashcards.add(new Flashcard(new Question(question), new Answer(answer)));
+        }
+        return new FlashcardSet(new FlashcardSetName(name), flashcards);
+    }
+
+    private static String requirePresent(String value, Class<?> field) throws IllegalValueException {
+        if (value == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, field.getSimpleName()));
+        }
+        return value;
+    }
+}
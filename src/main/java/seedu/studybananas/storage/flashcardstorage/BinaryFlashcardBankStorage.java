@@ -0,0 +1,132 @@
+package seedu.studybananas.storage.flashcardstorage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.studybananas.commons.core.LogsCenter;
+import seedu.studybananas.commons.exceptions.DataConversionException;
+import seedu.studybananas.commons.exceptions.IllegalValueException;
+import seedu.studybananas.commons.util.FileUtil;
+import seedu.studybananas.model.flashcard.FlashcardSet;
+import seedu.studybananas.model.flashcard.exceptions.CorruptedFlashcardException;
+import seedu.studybananas.model.systemlevelmodel.FlashcardBank;
+import seedu.studybananas.model.systemlevelmodel.ReadOnlyFlashcardBank;
+import seedu.studybananas.storage.BackupRotation;
+import seedu.studybananas.storage.binary.BinarySnapshotReader;
+import seedu.studybananas.storage.binary.BinarySnapshotWriter;
+import seedu.studybananas.storage.binary.FlashcardSetCodec;
+
+/**
+ * A class to access FlashcardBank data stored as a binary snapshot on the hard disk.
+ * The body of the snapshot is a length-prefixed list of flashcard sets, see {@link FlashcardSetCodec}.
+ */
+public class BinaryFlashcardBankStorage implements FlashcardBankStorage {
+
+    /** Identifies flashcard bank snapshots, see {@link BinarySnapshotWriter}. */
+    public static final byte KIND = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryFlashcardBankStorage.class);
+
+    private final Path filePath;
+    private final BackupRotation backups;
+
+    public BinaryFlashcardBankStorage(Path filePath) {
+        this(filePath, 0);
+    }
+
+    /**
+     * Creates a {@code BinaryFlashcardBankStorage} that keeps up to {@code backupCount} backups
+     * of the flashcard bank file, see {@link BackupRotation}.
+     */
+    public BinaryFlashcardBankStorage(Path filePath, int backupCount) {
+        this.filePath = filePath;
+        this.backups = new BackupRotation(backupCount);
+    }
+
+    public Path getFlashcardBankFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyFlashcardBank> readFlashcardBank() throws DataConversionException {
+        return readFlashcardBank(filePath);
+    }
+
+    /**
+     * Similar to {@link #readFlashcardBank()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyFlashcardBank> readFlashcardBank(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            BinarySnapshotReader reader = new BinarySnapshotReader(ByteBuffer.wrap(Files.readAllBytes(filePath)), KIND);
+            return Optional.of(decodeFlashcardBank(reader));
+        } catch (IllegalValueException | IllegalArgumentException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            backups.keepBackupsOf(filePath);
+            throw new DataConversionException(e);
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            backups.keepBackupsOf(filePath);
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Decodes the flashcard bank in the body of the snapshot read by {@code reader}.
+     */
+    protected FlashcardBank decodeFlashcardBank(BinarySnapshotReader reader) throws IllegalValueException {
+        FlashcardBank flashcardBank = new FlashcardBank();
+        int flashcardSetCount = reader.readLength(2 * Integer.BYTES);
+        for (int i = 0; i < flashcardSetCount; i++) {
+            FlashcardSet flashcardSet = FlashcardSetCodec.read(reader);
+            if (flashcardBank.hasFlashcardSet(flashcardSet)) {
+                throw new IllegalValueException(JsonSerializableFlashcardBank.MESSAGE_DUPLICATE_FLASHCARD_SETS);
+            }
+            flashcardBank.addFlashcardSet(flashcardSet);
+        }
+        return flashcardBank;
+    }
+
+    @Override
+    public void saveFlashcardBank(ReadOnlyFlashcardBank flashcardBank) throws IOException {
+        saveFlashcardBank(flashcardBank, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveFlashcardBank(ReadOnlyFlashcardBank)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveFlashcardBank(ReadOnlyFlashcardBank flashcardBank, Path filePath) throws IOException {
+        requireNonNull(flashcardBank);
+        requireNonNull(filePath);
+
+        BinarySnapshotWriter writer = new BinarySnapshotWriter(KIND);
+        writer.writeInt(flashcardBank.getFlashcardSetList().size());
+        try {
+            for (FlashcardSet flashcardSet : flashcardBank.getFlashcardSetList()) {
+                FlashcardSetCodec.write(writer, flashcardSet);
+            }
+        } catch (CorruptedFlashcardException e) {
+            // A set paged in from a corrupted snapshot, which is kept as it is
+            throw new IOException(e.getMessage(), e);
+        }
+
+        backups.rotateOnce(filePath);
+        FileUtil.writeToFileAtomically(filePath, writer::writeTo);
+    }
+}
@@ -10,9 +10,9 @@ import java.util.logging.Logger;
 import seedu.studybananas.commons.core.LogsCenter;
 import seedu.studybananas.commons.exceptions.DataConversionException;
 import seedu.studybananas.commons.exceptions.IllegalValueException;
-import seedu.studybananas.commons.util.FileUtil;
 import seedu.studybananas.commons.util.JsonUtil;
 import seedu.studybananas.model.systemlevelmodel.ReadOnlyFlashcardBank;
+import seedu.studybananas.storage.BackupRotation;
 
 
 public class JsonFlashcardBankStorage implements FlashcardBankStorage {
@@ -20,9 +20,19 @@ public class JsonFlashcardBankStorage implements FlashcardBankStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonFlashcardBankStorage.class);
 
     private final Path filePath;
+    private final BackupRotation backups;
 
     public JsonFlashcardBankStorage(Path filePath) {
+        this(filePath, 0);
+    }
+
+    /**
+     * Creates a {@code JsonFlashcardBankStorage} that keeps up to {@code backupCount} backups
+     * of the flashcard bank file, see {@link BackupRotation}.
+     */
+    public JsonFlashcardBankStorage(Path filePath, int backupCount) {
         this.filePath = filePath;
+        this.backups = new BackupRotation(backupCount);
     }
 
     public Path getFlashcardBankFilePath() {
@@ -43,8 +53,13 @@ public class JsonFlashcardBankStorage implements FlashcardBankStorage {
     public Optional<ReadOnlyFlashcardBank> readFlashcardBank(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableFlashcardBank> jsonFlashcardBank = JsonUtil.readJsonFile(
-                filePath, JsonSerializableFlashcardBank.class);
+        Optional<JsonSerializableFlashcardBank> jsonFlashcardBank;
+        try {
+            jsonFlashcardBank = JsonUtil.readJsonFile(filePath, JsonSerializableFlashcardBank.class);
+        } catch (DataConversionException dce) {
+            backups.keepBackupsOf(filePath);
+            throw dce;
+        }
         if (!jsonFlashcardBank.isPresent()) {
             return Optional.empty();
         }
@@ -53,6 +68,7 @@ public class JsonFlashcardBankStorage implements FlashcardBankStorage {
             return Optional.of(jsonFlashcardBank.get().toModelType());
         } catch (IllegalValueException | IllegalArgumentException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            backups.keepBackupsOf(filePath);
             throw new DataConversionException(ive);
         }
     }
@@ -71,7 +87,7 @@ public class JsonFlashcardBankStorage implements FlashcardBankStorage {
         requireNonNull(flashcardBank);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
+        backups.rotateOnce(filePath);
         JsonUtil.saveJsonFile(new JsonSerializableFlashcardBank(flashcardBank), filePath);
     }
 }
@@ -0,0 +1,119 @@
+package seedu.studybananas.storage.flashcardstorage;
+
+import java.nio.file.Path;
+import java.util.function.Predicate;
+
+import seedu.studybananas.commons.exceptions.IllegalValueException;
+import seedu.studybananas.model.flashcard.Answer;
+import seedu.studybananas.model.flashcard.Flashcard;
+import seedu.studybananas.model.flashcard.FlashcardSet;
+import seedu.studybananas.model.flashcard.FlashcardSetName;
+import seedu.studybananas.model.flashcard.FlashcardSetPage;
+import seedu.studybananas.model.flashcard.Question;
+import seedu.studybananas.model.flashcard.exceptions.CorruptedFlashcardException;
+import seedu.studybananas.model.systemlevelmodel.FlashcardBank;
+import seedu.studybananas.storage.binary.BinarySnapshotReader;
+
+/**
+ * A class to access FlashcardBank data stored as a binary snapshot on the hard disk, which pages flashcards in
+ * from the bytes of the snapshot as they are needed.
+ *
+ * Reading the flashcard bank copies the snapshot into memory, but only decodes the names of the flashcard sets
+ * and notes where their flashcards start. The flashcards of each set stay encoded until the set is opened, see
+ * {@link FlashcardSet#decode()}, and are only checked then, so a corrupted flashcard is reported when its set is
+ * opened rather than on startup. The file itself is not held open, so it can be replaced by later saves.
+ * The snapshot format is the one written by {@link BinaryFlashcardBankStorage}.
+ */
+public class PagedFlashcardBankStorage extends BinaryFlashcardBankStorage {
+
+    public PagedFlashcardBankStorage(Path filePath) {
+        super(filePath);
+    }
+
+    /**
+     * Creates a {@code PagedFlashcardBankStorage} that keeps up to {@code backupCount} backups
+     * of the flashcard bank file.
+     */
+    public PagedFlashcardBankStorage(Path filePath, int backupCount) {
+        super(filePath, backupCount);
+    }
+
+    /**
+     * Similar to {@link BinaryFlashcardBankStorage#decodeFlashcardBank(BinarySnapshotReader)}, but the returned
+     * flashcard sets are paged out. Only the names of the sets and the positions of their flashcards are read.
+     */
+    @Override
+    protected FlashcardBank decodeFlashcardBank(BinarySnapshotReader reader) throws IllegalValueException {
+        FlashcardBank flashcardBank = new FlashcardBank();
+        int flashcardSetCount = reader.readLength(2 * Integer.BYTES);
+        for (int i = 0; i < flashcardSetCount; i++) {
+            String name = reader.readString();
+            if (name == null || !FlashcardSetName.isValidName(name)) {
+                throw new IllegalValueException(FlashcardSetName.MESSAGE_CONSTRAINTS);
+            }
+            int size = reader.readLength(SnapshotFlashcardSetPage.FLASHCARD_BYTES);
+            SnapshotFlashcardSetPage page = new SnapshotFlashcardSetPage(reader, reader.position(), size);
+            reader.skip(size * SnapshotFlashcardSetPage.FLASHCARD_BYTES);
+
+            FlashcardSet flashcardSet = new FlashcardSet(new FlashcardSetName(name), page);
+            if (flashcardBank.hasFlashcardSet(flashcardSet)) {
+                throw new IllegalValueException(JsonSerializableFlashcardBank.MESSAGE_DUPLICATE_FLASHCARD_SETS);
+            }
+            flashcardBank.addFlashcardSet(flashcardSet);
+        }
+        return flashcardBank;
+    }
+
+    /**
+     * The flashcards of a set in a snapshot, written as question and answer string table indexes.
+     * Each flashcard is checked as it is decoded.
+     */
+    private static class SnapshotFlashcardSetPage implements FlashcardSetPage {
+        private static final int FLASHCARD_BYTES = 2 * Integer.BYTES;
+
+        private final BinarySnapshotReader reader;
+        private final int position;
+        private final int size;
+
+        SnapshotFlashcardSetPage(BinarySnapshotReader reader, int position, int size) {
+            this.reader = reader;
+            this.position = position;
+            this.size = size;
+        }
+
+        @Override
+        public int getSize() {
+            return size;
+        }
+
+        @Override
+        public Flashcard getFlashcard(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+            }
+            int questionPosition = position + index * FLASHCARD_BYTES;
+            String question = decodeString(reader.getInt(questionPosition), Question::isValidQuestion,
+                    Question.MESSAGE_CONSTRAINTS);
+            String answer = decodeString(reader.getInt(questionPosition + Integer.BYTES), Answer::isValidAnswer,
+                    Answer.MESSAGE_CONSTRAINTS);
+            return new Flashcard(new Question(question), new Answer(answer));
+        }
+
+        /**
+         * Decodes the string at {@code stringIndex} of the string table, checking that it is accepted by
+         * {@code isValid}.
+         *
+         * @throws CorruptedFlashcardException with {@code message} if it is not.
+         */
+        private String decodeString(int stringIndex, Predicate<String> isValid, String message) {
+            if (!reader.isValidStringIndex(stringIndex)) {
+                throw new CorruptedFlashcardException(BinarySnapshotReader.MESSAGE_CORRUPTED);
+            }
+            String decoded = reader.decodeString(stringIndex);
+            if (!isValid.test(decoded)) {
+                throw new CorruptedFlashcardException(message);
+            }
+            return decoded;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package seedu.studybananas.storage.quizstorage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.studybananas.commons.core.LogsCenter;
+import seedu.studybananas.commons.exceptions.DataConversionException;
+import seedu.studybananas.commons.exceptions.IllegalValueException;
+import seedu.studybananas.commons.util.FileUtil;
+import seedu.studybananas.model.flashcard.FlashcardSet;
+import seedu.studybananas.model.quiz.Quiz;
+import seedu.studybananas.model.systemlevelmodel.QuizRecords;
+import seedu.studybananas.model.systemlevelmodel.ReadOnlyQuizRecords;
+import seedu.studybananas.storage.BackupRotation;
+import seedu.studybananas.storage.binary.BinarySnapshotReader;
+import seedu.studybananas.storage.binary.BinarySnapshotWriter;
+import seedu.studybananas.storage.binary.FlashcardSetCodec;
+
+/**
+ * A class to access QuizRecords data stored as a binary snapshot on the hard disk.
+ *
+ * The body of the snapshot is a length-prefixed list of quizzes. Each quiz is written as its flashcard set,
+ * see {@link FlashcardSetCodec}, its total score and points scored, then a length-prefixed list of results
+ * and a length-prefixed list of the user's answers.
+ */
+public class BinaryQuizRecordsStorage implements QuizRecordsStorage {
+
+    /** Identifies quiz records snapshots, see {@link BinarySnapshotWriter}. */
+    public static final byte KIND = 2;
+
+    public static final String MESSAGE_MISSING_FIELD = "Quiz's %s field is missing!";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryQuizRecordsStorage.class);
+
+    private final Path filePath;
+    private final BackupRotation backups;
+
+    public BinaryQuizRecordsStorage(Path filePath) {
+        this(filePath, 0);
+    }
+
+    /**
+     * Creates a {@code BinaryQuizRecordsStorage} that keeps up to {@code backupCount} backups
+     * of the quiz records file, see {@link BackupRotation}.
+     */
+    public BinaryQuizRecordsStorage(Path filePath, int backupCount) {
+        this.filePath = filePath;
+        this.backups = new BackupRotation(backupCount);
+    }
+
+    public Path getQuizRecordsFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyQuizRecords> readQuizRecords() throws DataConversionException {
+        return readQuizRecords(filePath);
+    }
+
+    /**
+     * Similar to {@link #readQuizRecords}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyQuizRecords> readQuizRecords(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            BinarySnapshotReader reader = new BinarySnapshotReader(ByteBuffer.wrap(Files.readAllBytes(filePath)), KIND);
+            return Optional.of(readQuizRecords(reader));
+        } catch (IllegalValueException | IllegalArgumentException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            backups.keepBackupsOf(filePath);
+            throw new DataConversionException(e);
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            backups.keepBackupsOf(filePath);
+            throw new DataConversionException(e);
+        }
+    }
+
+    private static QuizRecords readQuizRecords(BinarySnapshotReader reader) throws IllegalValueException {
+        QuizRecords quizRecords = new QuizRecords();
+        int quizCount = reader.readLength(4 * Integer.BYTES);
+        for (int i = 0; i < quizCount; i++) {
+            quizRecords.addQuiz(readQuiz(reader));
+        }
+        return quizRecords;
+    }
+
+    private static Quiz readQuiz(BinarySnapshotReader reader) throws IllegalValueException {
+        FlashcardSet flashcardSet = FlashcardSetCodec.read(reader);
+        int totalScore = reader.readInt();
+        if (totalScore == 0) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_FIELD, "total score"));
+        }
+        int pointsScored = reader.readInt();
+
+        boolean[] scoreboard = new boolean[reader.readLength(1)];
+        if (scoreboard.length == 0) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_FIELD, "scoreboard"));
+        }
+        for (int i = 0; i < scoreboard.length; i++) {
+            scoreboard[i] = reader.readBoolean();
+        }
+
+        String[] userAnswers = new String[reader.readLength(Integer.BYTES)];
+        if (userAnswers.length == 0) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_FIELD, "user answers"));
+        }
+        for (int i = 0; i < userAnswers.length; i++) {
+            userAnswers[i] = reader.readString();
+        }
+
+        return new Quiz(flashcardSet, totalScore, pointsScored, scoreboard, userAnswers);
+    }
+
+    @Override
+    public void saveQuizRecords(ReadOnlyQuizRecords quizRecords) throws IOException {
+        saveQuizRecords(quizRecords, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveQuizRecords(ReadOnlyQuizRecords)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveQuizRecords(ReadOnlyQuizRecords quizRecords, Path filePath) throws IOException {
+        requireNonNull(quizRecords);
+        requireNonNull(filePath);
+
+        Collection<Quiz> quizzes = quizRecords.getQuizRecordsMap().values();
+        BinarySnapshotWriter writer = new BinarySnapshotWriter(KIND);
+        writer.writeInt(quizzes.size());
+        for (Quiz quiz : quizzes) {
+            writeQuiz(writer, quiz);
+        }
+
+        backups.rotateOnce(filePath);
+        FileUtil.writeToFileAtomically(filePath, writer::writeTo);
+    }
+
+    private static void writeQuiz(BinarySnapshotWriter writer, Quiz quiz) throws IOException {
+        FlashcardSetCodec.write(writer, quiz.getFlashcardSet());
+        writer.writeInt(quiz.getTotalScore());
+        writer.writeInt(quiz.getPointsScored());
+
+        boolean[] scoreboard = quiz.getResults();
+        writer.writeInt(scoreboard.length);
+        for (boolean isCorrect : scoreboard) {
+            writer.writeBoolean(isCorrect);
+        }
+
+        String[] userAnswers = quiz.getUserAnswers();
+        writer.writeInt(userAnswers.length);
+        for (String userAnswer : userAnswers) {
+            writer.writeString(userAnswer);
+        }
+    }
+}
@@ -10,18 +10,28 @@ import java.util.logging.Logger;
 import seedu.studybananas.commons.core.LogsCenter;
 import seedu.studybananas.commons.exceptions.DataConversionException;
 import seedu.studybananas.commons.exceptions.IllegalValueException;
-import seedu.studybananas.commons.util.FileUtil;
 import seedu.studybananas.commons.util.JsonUtil;
 import seedu.studybananas.model.systemlevelmodel.ReadOnlyQuizRecords;
+import seedu.studybananas.storage.BackupRotation;
 
 public class JsonQuizRecordsStorage implements QuizRecordsStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonQuizRecordsStorage.class);
 
     private final Path filePath;
+    private final BackupRotation backups;
 
     public JsonQuizRecordsStorage(Path filePath) {
+        this(filePath, 0);
+    }
+
+    /**
+     * Creates a {@code JsonQuizRecordsStorage} that keeps up to {@code backupCount} backups of the quiz records file,
+     * see {@link BackupRotation}.
+     */
+    public JsonQuizRecordsStorage(Path filePath, int backupCount) {
         this.filePath = filePath;
+        this.backups = new BackupRotation(backupCount);
     }
 
     public Path getQuizRecordsFilePath() {
@@ -43,8 +53,13 @@ public class JsonQuizRecordsStorage implements QuizRecordsStorage {
     public Optional<ReadOnlyQuizRecords> readQuizRecords(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableQuizRecords> jsonQuizRecords = JsonUtil.readJsonFile(
-                filePath, JsonSerializableQuizRecords.class);
+        Optional<JsonSerializableQuizRecords> jsonQuizRecords;
+        try {
+            jsonQuizRecords = JsonUtil.readJsonFile(filePath, JsonSerializableQuizRecords.class);
+        } catch (DataConversionException dce) {
+            backups.keepBackupsOf(filePath);
+            throw dce;
+        }
         if (!jsonQuizRecords.isPresent()) {
             return Optional.empty();
         }
@@ -53,6 +68,7 @@ public class JsonQuizRecordsStorage implements QuizRecordsStorage {
             return Optional.of(jsonQuizRecords.get().toModelType());
         } catch (IllegalValueException | IllegalArgumentException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            backups.keepBackupsOf(filePath);
             throw new DataConversionException(ive);
         }
     }
@@ -72,7 +88,7 @@ public class JsonQuizRecordsStorage implements QuizRecordsStorage {
         requireNonNull(quizRecords);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
+        backups.rotateOnce(filePath);
         JsonUtil.saveJsonFile(new JsonSerializableQuizRecords(quizRecords), filePath);
     }
 }
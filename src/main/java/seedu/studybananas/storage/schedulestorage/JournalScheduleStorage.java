@@ -0,0 +1,288 @@
+package seedu.studybananas.storage.schedulestorage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.studybananas.commons.core.LogsCenter;
+import seedu.studybananas.commons.exceptions.DataConversionException;
+import seedu.studybananas.commons.exceptions.IllegalValueException;
+import seedu.studybananas.commons.util.FileUtil;
+import seedu.studybananas.commons.util.JsonUtil;
+import seedu.studybananas.model.systemlevelmodel.ReadOnlySchedule;
+import seedu.studybananas.model.systemlevelmodel.Schedule;
+import seedu.studybananas.model.systemlevelmodel.ScheduleChange;
+import seedu.studybananas.model.systemlevelmodel.ScheduleHistory;
+
+/**
+ * A {@code ScheduleStorage} that keeps the schedule as a JSON snapshot (in the same format as
+ * {@link JsonScheduleStorage}) plus an append-only journal of the mutations made since that snapshot.
+ *
+ * Every save looks up the changes made since the previous save in the {@link ScheduleHistory} of the schedule,
+ * which records them as they are made, and appends them to the journal in the order they were made, one
+ * compact JSON add, edit or delete record per line, instead of rewriting every task. Replaying the records in
+ * that order repeats the changes exactly, so an edit cannot clash with a task that is only moved away by a later
+ * record. The cost of a save depends only on the number of changes since the previous save.
+ *
+ * The history carries on from the schedule read to the copies made of it, so the first save after the schedule
+ * has been read appends to its journal as well. When the journal grows past the compaction threshold, or when the
+ * changes are not known, e.g. after all tasks are replaced, a fresh snapshot is written and the journal is
+ * discarded. Reading replays the journal on top of the snapshot.
+ */
+public class JournalScheduleStorage implements ScheduleStorage {
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 100;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalScheduleStorage.class);
+
+    private final Path filePath;
+    private final JsonScheduleStorage snapshotStorage;
+    private final int compactionThreshold;
+
+    // The schedule as of the last save to or read from filePath, or null if the next save must write a snapshot.
+    private ScheduleHistory.Mark savedMark;
+    private int journalLength;
+
+    public JournalScheduleStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournalScheduleStorage} that compacts its journal into the snapshot at {@code filePath}
+     * once it holds more than {@code compactionThreshold} records.
+     */
+    public JournalScheduleStorage(Path filePath, int compactionThreshold) {
+        this(filePath, compactionThreshold, 0);
+    }
+
+    /**
+     * Creates a {@code JournalScheduleStorage} as in {@link #JournalScheduleStorage(Path, int)},
+     * which also keeps up to {@code backupCount} backups of the snapshot as it was before each compaction.
+     */
+    public JournalScheduleStorage(Path filePath, int compactionThreshold, int backupCount) {
+        requireNonNull(filePath);
+        assert compactionThreshold >= 0;
+        this.filePath = filePath;
+        this.snapshotStorage = new JsonScheduleStorage(filePath, backupCount);
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * Returns the path of the journal kept alongside the snapshot at {@code snapshotFilePath}.
+     */
+    public static Path getJournalFilePath(Path snapshotFilePath) {
+        return snapshotFilePath.resolveSibling(snapshotFilePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getScheduleFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlySchedule> readSchedule() throws DataConversionException {
+        return readSchedule(filePath);
+    }
+
+    /**
+     * Similar to {@link #readSchedule()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataConversionException if the snapshot or the journal is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlySchedule> readSchedule(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlySchedule> snapshot = snapshotStorage.readSchedule(filePath);
+        Path journalFilePath = getJournalFilePath(filePath);
+        boolean isSavedTo = filePath.equals(this.filePath);
+        if (!Files.exists(journalFilePath)) {
+            if (isSavedTo) {
+                savedMark = snapshot.flatMap(ReadOnlySchedule::getHistoryMark).orElse(null);
+                journalLength = 0;
+            }
+            return snapshot;
+        }
+
+        Schedule schedule = snapshot.map(Schedule::new).orElseGet(Schedule::new);
+        Replay replay = replayJournal(journalFilePath, schedule, false);
+        if (isSavedTo) {
+            // Records cannot be appended after an incomplete one
+            savedMark = replay.isComplete ? schedule.getHistoryMark().get() : null;
+            journalLength = replay.recordCount;
+        }
+        return Optional.of(schedule);
+    }
+
+    /**
+     * Returns the snapshot with the records of the journal up to the first one that is not in the correct format
+     * replayed on top of it, dropping that record and every record after it.
+     * The next save writes a fresh snapshot and discards the journal.
+     *
+     * @throws DataConversionException if the snapshot is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlySchedule> readScheduleUpToCorruption() throws DataConversionException {
+        Optional<ReadOnlySchedule> snapshot = snapshotStorage.readSchedule(filePath);
+        Path journalFilePath = getJournalFilePath(filePath);
+        if (!Files.exists(journalFilePath)) {
+            return snapshot;
+        }
+
+        Schedule schedule = snapshot.map(Schedule::new).orElseGet(Schedule::new);
+        replayJournal(journalFilePath, schedule, true);
+        // The journal cannot be appended to past the corrupted record
+        savedMark = null;
+        return Optional.of(schedule);
+    }
+
+    /**
+     * Applies every record of the journal at {@code journalFilePath} to {@code schedule}.
+     * A malformed last line is assumed to be an interrupted append and is ignored. Any other record that is not
+     * in the correct format stops the replay if {@code isStoppedAtCorruption} is true.
+     *
+     * @throws DataConversionException if the journal cannot be read, or has a record that is not in the correct
+     *     format and {@code isStoppedAtCorruption} is false.
+     */
+    private Replay replayJournal(Path journalFilePath, Schedule schedule, boolean isStoppedAtCorruption)
+            throws DataConversionException {
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(journalFilePath);
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + journalFilePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+
+        int replayed = 0;
+        boolean isComplete = true;
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.isBlank()) {
+                continue;
+            }
+
+            JsonAdaptedTaskMutation mutation;
+            try {
+                mutation = JsonUtil.fromJsonString(line, JsonAdaptedTaskMutation.class);
+            } catch (IOException e) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Ignoring incomplete last record of journal " + journalFilePath);
+                    isComplete = false;
+                    break;
+                }
+                logger.info("Illegal record found in " + journalFilePath + ": " + e.getMessage());
+                if (isStoppedAtCorruption) {
+                    logDroppedRecords(journalFilePath, i, lines.size());
+                    isComplete = false;
+                    break;
+                }
+                throw new DataConversionException(e);
+            }
+
+            try {
+                mutation.applyTo(schedule);
+            } catch (IllegalValueException | IllegalArgumentException e) {
+                logger.info("Illegal values found in " + journalFilePath + ": " + e.getMessage());
+                if (isStoppedAtCorruption) {
+                    logDroppedRecords(journalFilePath, i, lines.size());
+                    isComplete = false;
+                    break;
+                }
+                throw new DataConversionException(e);
+            }
+            replayed++;
+        }
+        return new Replay(replayed, isComplete);
+    }
+
+    private static void logDroppedRecords(Path journalFilePath, int firstDroppedLine, int lineCount) {
+        logger.warning(String.format("Dropping lines %d to %d of journal %s, from the first corrupted record",
+                firstDroppedLine + 1, lineCount, journalFilePath));
+    }
+
+    @Override
+    public void saveSchedule(ReadOnlySchedule schedule) throws IOException {
+        saveSchedule(schedule, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveSchedule(ReadOnlySchedule)}.
+     * Saving to a location other than {@link #getScheduleFilePath()} always writes a plain snapshot.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveSchedule(ReadOnlySchedule schedule, Path filePath) throws IOException {
+        requireNonNull(schedule);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            snapshotStorage.saveSchedule(schedule, filePath);
+            return;
+        }
+
+        Optional<ScheduleHistory.Mark> mark = schedule.getHistoryMark();
+        Optional<List<ScheduleChange>> changes = savedMark == null
+                ? Optional.empty()
+                : mark.flatMap(currentMark -> currentMark.getChangesSince(savedMark));
+        if (changes.isEmpty() || journalLength + changes.get().size() > compactionThreshold) {
+            compact(schedule);
+        } else {
+            appendChanges(changes.get());
+        }
+        savedMark = mark.orElse(null);
+    }
+
+    private void appendChanges(List<ScheduleChange> changes) throws IOException {
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        StringBuilder records = new StringBuilder();
+        for (ScheduleChange change : changes) {
+            records.append(JsonUtil.toCompactJsonString(JsonAdaptedTaskMutation.of(change))).append("\n");
+        }
+
+        try {
+            FileUtil.appendToFile(getJournalFilePath(filePath), records.toString());
+        } catch (IOException ioe) {
+            // The journal may now end with a partial record; start afresh from a snapshot next time.
+            savedMark = null;
+            throw ioe;
+        }
+        journalLength += changes.size();
+    }
+
+    /**
+     * Writes {@code schedule} as a full snapshot and discards the journal.
+     */
+    private void compact(ReadOnlySchedule schedule) throws IOException {
+        logger.fine("Compacting schedule journal into " + filePath);
+        // A failed snapshot leaves nothing reliable to append to.
+        savedMark = null;
+        snapshotStorage.saveSchedule(schedule, filePath);
+        Files.deleteIfExists(getJournalFilePath(filePath));
+        journalLength = 0;
+    }
+
+    /**
+     * The outcome of replaying a journal.
+     */
+    private static class Replay {
+        private final int recordCount;
+        // Whether every line of the journal was replayed
+        private final boolean isComplete;
+
+        Replay(int recordCount, boolean isComplete) {
+            this.recordCount = recordCount;
+            this.isComplete = isComplete;
+        }
+    }
+}
@@ -35,9 +35,6 @@ public class JsonAdaptedDateTime {
      * @throws IllegalValueException if there were any data constraints violated in the adapted dateTime.
      */
     public DateTime toModelType() throws IllegalValueException {
-        if (!DateTime.isValidDateTime(dateTime)) {
-            throw new IllegalValueException(DateTime.MESSAGE_CONSTRAINTS);
-        }
-        return new DateTime(dateTime);
+        return DateTime.parse(dateTime).orElseThrow(() -> new IllegalValueException(DateTime.MESSAGE_CONSTRAINTS));
     }
 }
@@ -0,0 +1,132 @@
+package seedu.studybananas.storage.schedulestorage;
+
+import static java.util.Objects.requireNonNull;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.studybananas.commons.exceptions.IllegalValueException;
+import seedu.studybananas.model.systemlevelmodel.Schedule;
+import seedu.studybananas.model.systemlevelmodel.ScheduleChange;
+import seedu.studybananas.model.task.Task;
+
+/**
+ * Jackson-friendly version of a single add, edit or delete mutation of a {@link Schedule}.
+ * One of these is written per line of a schedule journal.
+ */
+public class JsonAdaptedTaskMutation {
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Mutation's %s field is missing!";
+    public static final String MESSAGE_INVALID_TYPE = "Mutation type should be one of ADD, EDIT or DELETE.";
+
+    /**
+     * Kinds of mutation that can be recorded.
+     */
+    public enum Type {
+        ADD, EDIT, DELETE
+    }
+
+    private final Type type;
+    private final JsonAdaptedTask target;
+    private final JsonAdaptedTask task;
+
+    /**
+     * Constructs a {@code JsonAdaptedTaskMutation} with the given mutation details.
+     */
+    @JsonCreator
+    public JsonAdaptedTaskMutation(@JsonProperty("type") Type type,
+                                   @JsonProperty("target") JsonAdaptedTask target,
+                                   @JsonProperty("task") JsonAdaptedTask task) {
+        this.type = type;
+        this.target = target;
+        this.task = task;
+    }
+
+    /**
+     * Records {@code change}.
+     */
+    public static JsonAdaptedTaskMutation of(ScheduleChange change) {
+        requireNonNull(change);
+        switch (change.getType()) {
+        case ADD:
+            return ofAdd(change.getTask());
+        case EDIT:
+            return ofEdit(change.getTarget().get(), change.getTask());
+        case DELETE:
+            return ofDelete(change.getTask());
+        default:
+            throw new AssertionError("Unknown schedule change: " + change.getType());
+        }
+    }
+
+    /**
+     * Records the addition of {@code added}.
+     */
+    public static JsonAdaptedTaskMutation ofAdd(Task added) {
+        requireNonNull(added);
+        return new JsonAdaptedTaskMutation(Type.ADD, null, new JsonAdaptedTask(added));
+    }
+
+    /**
+     * Records the replacement of {@code target} by {@code edited}.
+     */
+    public static JsonAdaptedTaskMutation ofEdit(Task target, Task edited) {
+        requireNonNull(target);
+        requireNonNull(edited);
+        return new JsonAdaptedTaskMutation(Type.EDIT, new JsonAdaptedTask(target), new JsonAdaptedTask(edited));
+    }
+
+    /**
+     * Records the removal of {@code deleted}.
+     */
+    public static JsonAdaptedTaskMutation ofDelete(Task deleted) {
+        requireNonNull(deleted);
+        return new JsonAdaptedTaskMutation(Type.DELETE, null, new JsonAdaptedTask(deleted));
+    }
+
+    /**
+     * Applies this mutation to {@code schedule}.
+     * Mutations that are already reflected in {@code schedule} are skipped, so that replaying a journal
+     * over a snapshot which already contains some of its mutations is harmless.
+     *
+     * @throws IllegalValueException if the recorded tasks are invalid or cannot be applied to {@code schedule}.
+     */
+    public void applyTo(Schedule schedule) throws IllegalValueException {
+        if (type == null) {
+            throw new IllegalValueException(MESSAGE_INVALID_TYPE);
+        }
+        if (task == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "task"));
+        }
+        Task modelTask = task.toModelType();
+
+        try {
+            switch (type) {
+            case ADD:
+                if (!schedule.hasTask(modelTask)) {
+                    schedule.addTask(modelTask);
+                }
+                break;
+            case DELETE:
+                if (schedule.getTaskList().contains(modelTask)) {
+                    schedule.removeTask(modelTask);
+                }
+                break;
+            case EDIT:
+                if (target == null) {
+                    throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "target"));
+                }
+                Task modelTarget = target.toModelType();
+                int index = schedule.getTaskList().indexOf(modelTarget);
+                if (index != -1) {
+                    // Edit the stored instance, as overlap checks exclude the target by reference.
+                    schedule.setTask(schedule.getTaskList().get(index), modelTask);
+                }
+                break;
+            default:
+                throw new IllegalValueException(MESSAGE_INVALID_TYPE);
+            }
+        } catch (RuntimeException e) {
+            throw new IllegalValueException("Journal mutation cannot be applied: " + e.getMessage());
+        }
+    }
+}
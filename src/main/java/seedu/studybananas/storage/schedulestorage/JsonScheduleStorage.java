@@ -10,17 +10,27 @@ import java.util.logging.Logger;
 import seedu.studybananas.commons.core.LogsCenter;
 import seedu.studybananas.commons.exceptions.DataConversionException;
 import seedu.studybananas.commons.exceptions.IllegalValueException;
-import seedu.studybananas.commons.util.FileUtil;
 import seedu.studybananas.commons.util.JsonUtil;
 import seedu.studybananas.model.systemlevelmodel.ReadOnlySchedule;
+import seedu.studybananas.storage.BackupRotation;
 
 public class JsonScheduleStorage implements ScheduleStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonScheduleStorage.class);
 
     private final Path filePath;
+    private final BackupRotation backups;
 
     public JsonScheduleStorage(Path filePath) {
+        this(filePath, 0);
+    }
+
+    /**
+     * Creates a {@code JsonScheduleStorage} that keeps up to {@code backupCount} backups of the schedule file,
+     * see {@link BackupRotation}.
+     */
+    public JsonScheduleStorage(Path filePath, int backupCount) {
         this.filePath = filePath;
+        this.backups = new BackupRotation(backupCount);
     }
 
     public Path getScheduleFilePath() {
@@ -41,8 +51,13 @@ public class JsonScheduleStorage implements ScheduleStorage {
     public Optional<ReadOnlySchedule> readSchedule(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableSchedule> jsonSchedule = JsonUtil.readJsonFile(
-                filePath, JsonSerializableSchedule.class);
+        Optional<JsonSerializableSchedule> jsonSchedule;
+        try {
+            jsonSchedule = JsonUtil.readJsonFile(filePath, JsonSerializableSchedule.class);
+        } catch (DataConversionException dce) {
+            backups.keepBackupsOf(filePath);
+            throw dce;
+        }
         if (!jsonSchedule.isPresent()) {
             return Optional.empty();
         }
@@ -51,9 +66,11 @@ public class JsonScheduleStorage implements ScheduleStorage {
             return Optional.of(jsonSchedule.get().toModelType());
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            backups.keepBackupsOf(filePath);
             throw new DataConversionException(ive);
         } catch (IllegalArgumentException iae) {
             logger.info("Illegal values found in " + filePath + ": " + iae.getMessage());
+            backups.keepBackupsOf(filePath);
             throw new DataConversionException(iae);
         }
     }
@@ -72,7 +89,7 @@ public class JsonScheduleStorage implements ScheduleStorage {
         requireNonNull(schedule);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
+        backups.rotateOnce(filePath);
         JsonUtil.saveJsonFile(new JsonSerializableSchedule(schedule), filePath);
     }
 }
@@ -30,6 +30,17 @@ public interface ScheduleStorage {
      */
     Optional<ReadOnlySchedule> readSchedule(Path filePath) throws DataConversionException, IOException;
 
+    /**
+     * Returns as much of the Schedule data as can be read, for when {@link #readSchedule()} finds the data in
+     * storage not in the expected format. By default, nothing can be read in that case.
+     *   Returns {@code Optional.empty()} if storage file is not found.
+     * @throws DataConversionException if none of the data in storage is in the expected format.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    default Optional<ReadOnlySchedule> readScheduleUpToCorruption() throws DataConversionException, IOException {
+        return readSchedule();
+    }
+
     /**
      * Saves the given {@link ReadOnlySchedule} to the storage.
      * @param schedule cannot be null.
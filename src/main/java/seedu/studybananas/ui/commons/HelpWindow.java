@@ -42,6 +42,8 @@ public class HelpWindow extends UiPart<Stage> {
                     + "t: <time>\ndur:<duration>", "add a new task to your schedule"),
             new CommandInfo("delete task", "<index>", "delete your task by index"),
             new CommandInfo("search task", "queryKey", "search tasks by their title"),
+            new CommandInfo("search task fuzzy:", "queryKey",
+                    "search tasks by the start of the words in their title and description, allowing typos"),
             new CommandInfo("edit task", "<index>\nT: <title>\nd: <description>\n"
                     + "t: <time>\ndur:<duration>", "edit task "),
             new CommandInfo("add flset", "name: <setname>", "create a new flashcard set"),
@@ -50,6 +52,8 @@ public class HelpWindow extends UiPart<Stage> {
                     "add a flashcard to the flashcard set"),
             new CommandInfo("delete fl", "flset: <setindex>\nfl: <flIndex>",
                     "delete flashcard from a given flashcard set"),
+            new CommandInfo("search fl", "queryKey",
+                    "search flashcards in all sets by their question and answer"),
             new CommandInfo("quiz flset:", "<setindex>",
                     "start the quiz for given flashcard set"),
             new CommandInfo("quiz score flset:", "<setindex>",
@@ -31,11 +31,8 @@ public class QuizDescription extends UiPart<Region> {
      */
     public QuizDescription(String description, Command quizStartCommand, Logic logic) {
         super(FXML);
-        assert quizStartCommand instanceof StartCommand : "You should only construct a QuizDescription Label "
-                + "if the description is start command";
-        this.description.setText(description);
-        this.quizStartCommand = quizStartCommand;
         this.logic = logic;
+        setQuiz(description, quizStartCommand);
 
         // weird bug!
         this.description.setTextFill(Paint.valueOf("#ffffff"));
@@ -44,6 +41,17 @@ public class QuizDescription extends UiPart<Region> {
         commandResultState = SingletonCommandResultState.getInstance();
     }
 
+    /**
+     * Shows {@code description} and starts the quiz of {@code quizStartCommand} when clicked,
+     * so that the label can be reused for another quiz.
+     */
+    public void setQuiz(String description, Command quizStartCommand) {
+        assert quizStartCommand instanceof StartCommand : "You should only construct a QuizDescription Label "
+                + "if the description is start command";
+        this.description.setText(description);
+        this.quizStartCommand = quizStartCommand;
+    }
+
     @FXML
     private void handleMouseClicked() {
         try {
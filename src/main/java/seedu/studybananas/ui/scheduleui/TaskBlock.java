@@ -0,0 +1,69 @@
+package seedu.studybananas.ui.scheduleui;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.studybananas.ui.util.ScheduleUiUtil.MARGIN_PER_MINUTE;
+import static seedu.studybananas.ui.util.ScheduleUiUtil.getMarginFromEpochMinute;
+import static seedu.studybananas.ui.util.ScheduleUiUtil.toAmPmTime;
+
+import java.time.format.DateTimeFormatter;
+import java.util.Optional;
+
+import seedu.studybananas.model.task.Task;
+
+/**
+ * The box a task takes up in the {@code TimeScale}, from where the task starts today to where it ends,
+ * but at least tall enough to show its title.
+ */
+class TaskBlock {
+    static final double LEFT = 40.0;
+    static final double WIDTH = 315.0;
+    static final double MINIMUM_HEIGHT = 13.0; // The height of the title.
+
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
+
+    private final Task task;
+    private final double top;
+    private final double height;
+
+    /**
+     * Creates the block of {@code task}, which must happen today and have a date time and a duration.
+     */
+    TaskBlock(Task task) {
+        requireNonNull(task);
+        assert task.getDateTime().isPresent() && task.getDuration().isPresent() && task.happensToday()
+                : "task must happen today and has duration and a startTime.";
+        this.task = task;
+        this.top = getMarginFromEpochMinute(task.getStartEpochMinute());
+        this.height = Math.max(MINIMUM_HEIGHT, task.getNumberOfMinuteHappenToday() * MARGIN_PER_MINUTE);
+    }
+
+    Task getTask() {
+        return task;
+    }
+
+    double getTop() {
+        return top;
+    }
+
+    double getHeight() {
+        return height;
+    }
+
+    /**
+     * Returns the start time of the task in the format of hh:mm AM/PM, if the block is tall enough to show it,
+     * i.e. the task lasts at least an hour today.
+     */
+    Optional<String> getStartTime() {
+        if (!task.isLongerThanAnHour()) {
+            return Optional.empty();
+        }
+        return Optional.of(toAmPmTime(TIME_FORMATTER.format(task.getDateTime().get().dateTime)));
+    }
+
+    /**
+     * Returns true if the point ({@code x}, {@code y}) of the {@code TimeScale} is within the block.
+     */
+    boolean contains(double x, double y) {
+        return x >= LEFT && x < LEFT + WIDTH && y >= top && y < top + height;
+    }
+}
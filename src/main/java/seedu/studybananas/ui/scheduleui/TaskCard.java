@@ -1,20 +1,27 @@
 package seedu.studybananas.ui.scheduleui;
 
-import static seedu.studybananas.ui.util.ScheduleUiUtil.constructQuizDescription;
 import static seedu.studybananas.ui.util.ScheduleUiUtil.replaceComponent;
 import static seedu.studybananas.ui.util.ScheduleUiUtil.toAmPmTime;
 
+import java.util.Optional;
+
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import seedu.studybananas.logic.Logic;
-import seedu.studybananas.logic.parser.exceptions.ParseException;
 import seedu.studybananas.model.task.Task;
 import seedu.studybananas.ui.UiPart;
+import seedu.studybananas.ui.util.QuizLinkCache;
+import seedu.studybananas.ui.util.QuizLinkCache.QuizLink;
 import seedu.studybananas.ui.util.SingletonCommandResultState;
 import seedu.studybananas.ui.util.SingletonUiState;
 
+/**
+ * A card showing a {@code Task}. A card can be rebound to another task with {@link #setTask(Task, int)},
+ * so that a list cell keeps one card for all the tasks it shows.
+ */
 public class TaskCard extends UiPart<Region> {
     private static final String FXML = "TaskListCard.fxml";
     private static final String[] BACKGROUND_COLOR = new String[]{
@@ -22,7 +29,14 @@ public class TaskCard extends UiPart<Region> {
         "#3366ff;", //blue
         "#cc66ff", //purple
     };
-    public final Task task;
+    private static final String[] BACKGROUND_STYLE = new String[]{
+        "-fx-background-color: " + BACKGROUND_COLOR[0],
+        "-fx-background-color: " + BACKGROUND_COLOR[1],
+        "-fx-background-color: " + BACKGROUND_COLOR[2],
+    };
+
+    private Task task;
+    private int backgroundColorIndex = -1;
 
     @FXML
     private Label id;
@@ -41,18 +55,48 @@ public class TaskCard extends UiPart<Region> {
     @FXML
     private Label duration;
 
+    // The description label, or the quiz description shown in its place
+    private Node currentDescription;
+    // Created for the first quiz task shown, then reused
+    private QuizDescription quizDescription;
+
     private SingletonCommandResultState commandResultState;
     private SingletonUiState uiState;
     private Logic logic;
+    private QuizLinkCache quizLinks;
+
+    /**
+     * Creates a {@code TaskCard} showing no task yet, finding the quizzes descriptions link to in {@code quizLinks}.
+     */
+    public TaskCard(Logic logic, QuizLinkCache quizLinks) {
+        super(FXML);
+        this.logic = logic;
+        this.quizLinks = quizLinks;
+        currentDescription = description;
+
+        // observe the states
+        commandResultState = SingletonCommandResultState.getInstance();
+        uiState = SingletonUiState.getInstance();
+    }
 
     /**
      * Creates a {@code TaskCode} with the given {@code Task} and index to display.
      */
     public TaskCard(Task task, int displayedIndex, Logic logic) {
-        super(FXML);
+        this(logic, new QuizLinkCache(logic));
+        setTask(task, displayedIndex);
+    }
+
+    /**
+     * Shows {@code task} with {@code displayedIndex} in this card, in place of the task shown before.
+     */
+    public void setTask(Task task, int displayedIndex) {
         this.task = task;
-        this.logic = logic;
-        cardPane.setStyle("-fx-background-color: " + BACKGROUND_COLOR[displayedIndex % 3]);
+        int colorIndex = displayedIndex % BACKGROUND_COLOR.length;
+        if (colorIndex != backgroundColorIndex) {
+            cardPane.setStyle(BACKGROUND_STYLE[colorIndex]);
+            backgroundColorIndex = colorIndex;
+        }
         id.setText(String.valueOf(displayedIndex));
         title.setText(task.getTitle().title);
         date.setText(task.getDateTime().map(time -> time.getUiFormatDate()).orElse(""));
@@ -62,18 +106,29 @@ public class TaskCard extends UiPart<Region> {
         //set up description
         String descriptionStr = task.getDescription().map(des-> des.description).orElse("");
         handleDescription(descriptionStr);
-
-        // observe the states
-        commandResultState = SingletonCommandResultState.getInstance();
-        uiState = SingletonUiState.getInstance();
     }
 
     private void handleDescription(String description) {
-        try {
-            QuizDescription descripLabel = constructQuizDescription(description, logic);
-            replaceComponent(this.description, descripLabel.getRoot(), descriptionPane);
-        } catch (ParseException | IndexOutOfBoundsException e) {
+        Optional<QuizLink> quizLink = quizLinks.getQuizLink(description);
+        if (quizLink.isEmpty()) {
             this.description.setText(description);
+            showDescription(this.description);
+            return;
+        }
+
+        QuizLink link = quizLink.get();
+        if (quizDescription == null) {
+            quizDescription = new QuizDescription(link.getText(), link.getQuizStartCommand(), logic);
+        } else {
+            quizDescription.setQuiz(link.getText(), link.getQuizStartCommand());
+        }
+        showDescription(quizDescription.getRoot());
+    }
+
+    private void showDescription(Node descriptionToShow) {
+        if (currentDescription != descriptionToShow) {
+            replaceComponent(currentDescription, descriptionToShow, descriptionPane);
+            currentDescription = descriptionToShow;
         }
     }
 
@@ -11,6 +11,7 @@ import seedu.studybananas.commons.core.LogsCenter;
 import seedu.studybananas.logic.Logic;
 import seedu.studybananas.model.task.Task;
 import seedu.studybananas.ui.UiPart;
+import seedu.studybananas.ui.util.QuizLinkCache;
 
 /**
  * Panel containing the list of persons.
@@ -23,6 +24,8 @@ public class TaskListPanel extends UiPart<Region> {
     private ListView<Task> taskListView;
 
     private Logic logic;
+    // Shared by the cards of all cells, so each description is resolved once
+    private QuizLinkCache quizLinks;
 
 
     /**
@@ -30,16 +33,21 @@ public class TaskListPanel extends UiPart<Region> {
      */
     public TaskListPanel(ObservableList<Task> taskList, Logic logic) {
         super(FXML);
+        this.logic = logic;
+        this.quizLinks = new QuizLinkCache(logic);
         taskListView.setSelectionModel(null);
         taskListView.setItems(taskList);
         taskListView.setCellFactory(listView -> new TaskListViewCell());
-        this.logic = logic;
     }
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Task} using a {@code TaskCard}.
+     * The list view only creates as many cells as fit on screen, and each cell keeps a single card
+     * that is rebound to the task the cell shows, so scrolling does not load new cards.
      */
     class TaskListViewCell extends ListCell<Task> {
+        private final TaskCard taskCard = new TaskCard(logic, quizLinks);
+
         @Override
         protected void updateItem(Task task, boolean empty) {
             super.updateItem(task, empty);
@@ -48,7 +56,8 @@ public class TaskListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new TaskCard(task, getIndex() + 1, logic).getRoot());
+                taskCard.setTask(task, getIndex() + 1);
+                setGraphic(taskCard.getRoot());
             }
         }
     }
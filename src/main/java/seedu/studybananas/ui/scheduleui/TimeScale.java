@@ -1,49 +1,91 @@
 package seedu.studybananas.ui.scheduleui;
 
+import static seedu.studybananas.ui.util.ScheduleUiUtil.INITIAL_PADDING;
+import static seedu.studybananas.ui.util.ScheduleUiUtil.MARGIN_PER_HOUR;
+import static seedu.studybananas.ui.util.ScheduleUiUtil.getMarginFromTime;
+import static seedu.studybananas.ui.util.ScheduleUiUtil.toAmPmTime;
+
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
-import javafx.geometry.Insets;
-import javafx.scene.Node;
+import javafx.geometry.VPos;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.control.ScrollPane;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.Text;
 import seedu.studybananas.model.task.Task;
 import seedu.studybananas.ui.UiPart;
-
-public class TimeScale extends UiPart<Region> {
+import seedu.studybananas.ui.util.Observable;
+import seedu.studybananas.ui.util.Observer;
+import seedu.studybananas.ui.util.SingletonClickedTaskState;
+
+/**
+ * The timeline of today, showing the hours of the day, the tasks happening today and the current time.
+ * The whole timeline is drawn on a single {@code Canvas}, so a day packed with tasks does not need a node per
+ * task, and it is redrawn in one pass whenever the tasks or the current time change.
+ * Clicks are mapped back to the task drawn at the clicked point.
+ *
+ * The clicked task is highlighted on a layer of its own above the timeline, so clicking a task only repaints
+ * the block highlighted before and the block clicked, however many tasks there are.
+ */
+public class TimeScale extends UiPart<Region> implements Observer<Task> {
     private static final String FXML = "TimeScale.fxml";
 
-    // Solution adapted from Stack Overflow
-    // https://stackoverflow.com/questions/25498747/javafx-gridpane-observablelist-and-listchangelistener
-    private final ListChangeListener<Task> taskListener = new ListChangeListener<Task>() {
-        @Override
-        public void onChanged(Change<? extends Task> c) {
-            while (c.next()) {
-                if (c.wasRemoved()) {
-                    for (Task task : c.getRemoved()) {
-                        removeTaskFromTimeScale(task);
-                    }
-                }
-
-                if (c.wasAdded()) {
-                    for (Task task : c.getAddedSubList()) {
-                        addTaskToTimeScale(task);
-                    }
-                }
-
-
-                return;
-            }
-        }
-    };
-
-    private List<TimeScaleCell> timeScaleCells = new ArrayList<>();
-    private CurrentTimePointer currentTimePointer;
-    private ObservableList<Task> tasks;
+    private static final int HOURS_PER_DAY = 24;
+    private static final double WIDTH = 400.0;
+    // Leaves room below the repeated 12 AM at the end of the day
+    private static final double HEIGHT = (HOURS_PER_DAY + 1) * MARGIN_PER_HOUR;
+
+    private static final Font HOUR_FONT = Font.font(10.0);
+    private static final Color HOUR_COLOR = Color.web("#cdcdcd");
+    private static final Color HOUR_LINE_COLOR = Color.web("#0000001c");
+    private static final double HOUR_LABEL_LEFT = 10.0;
+    private static final double HOUR_LINE_LEFT = 45.0;
+    private static final double RIGHT_PADDING = 10.0;
+    // Hour labels this close to the current time are hidden behind the current time pointer
+    private static final int MINUTES_HIDDEN_BY_POINTER = 15;
+
+    private static final Font POINTER_FONT = Font.font("Arial", FontWeight.BOLD, 10.0);
+    private static final Color POINTER_COLOR = Color.RED;
+    private static final double POINTER_LABEL_LEFT = 5.0;
+    private static final double POINTER_DOT_RADIUS = 5.0;
+    private static final double POINTER_SPACING = 5.0;
+
+    private static final Font TASK_TITLE_FONT = Font.font("Arial", FontWeight.BOLD, 13.0);
+    private static final Font TASK_TIME_FONT = Font.font("Arial", 13.0);
+    private static final Color TASK_COLOR = Color.web("#00a3cc");
+    private static final Color TASK_BACKGROUND_COLOR = Color.rgb(204, 245, 255, 0.5);
+    private static final Color CLICKED_TASK_TEXT_COLOR = Color.WHITE;
+    private static final double TASK_BORDER_WIDTH = 3.0;
+    private static final double TASK_TEXT_PADDING = 10.0;
+    private static final double TASK_LINE_HEIGHT = 16.0;
+
+    private final ListChangeListener<Task> taskListener = change -> redraw();
+
+    private final ObservableList<Task> tasks;
+    private final Canvas canvas = new Canvas(WIDTH, HEIGHT);
+    private final Canvas clickedTaskLayer = new Canvas(WIDTH, HEIGHT);
+    private final SingletonClickedTaskState taskState;
+
+    // The blocks as last drawn, in drawing order, for finding the task that is clicked
+    private List<TaskBlock> taskBlocks = new ArrayList<>();
+    private Map<Task, TaskBlock> taskBlocksByTask = new HashMap<>();
+    private Task clickedTask;
+    // The block highlighted on the clicked task layer, or null if none is
+    private TaskBlock clickedBlock;
+    // The time the current time pointer points at, in the format of HH:mm, or null if it is not shown
+    private String currentTime;
 
     @FXML
     private StackPane timeScale;
@@ -59,132 +101,191 @@ public class TimeScale extends UiPart<Region> {
         super(FXML);
         this.tasks = tasks;
 
-        //ui set-up
-        init();
-        setMargin();
+        //style, temporary, todo: move to fxml/css
+        scrollPane.setHbarPolicy(ScrollPane.ScrollBarPolicy.NEVER);
+        scrollPane.setFitToWidth(true);
+
+        // observe the clicked task and the tasks
+        taskState = SingletonClickedTaskState.getInstance();
+        subscribe(taskState);
+        tasks.addListener(taskListener);
 
-        //listener set-up
-        handleListener();
+        timeScale.getChildren().addAll(canvas, clickedTaskLayer);
+        clickedTaskLayer.setMouseTransparent(true);
+        canvas.setOnMouseClicked(event -> getTaskAt(event.getX(), event.getY()).ifPresent(taskState::updateState));
 
+        redraw();
     }
 
-    private void init() {
-        //set morning
-        timeScaleCells.add(new TimeScaleCell("12 AM"));
-        for (int i = 1; i < 12; i++) {
-            timeScaleCells.add(new TimeScaleCell(i + " AM"));
-        }
-
-        //set noon
-        timeScaleCells.add(new TimeScaleCell("Noon"));
+    /**
+     * Moves the current time pointer to {@code time}.
+     * @param time time has to be in the format of HH:mm.
+     */
+    public void setCurrentTime(String time) {
+        assert time.matches("^([0-1][0-9]|2[0-3]):[0-5][0-9]$");
+        currentTime = time;
+        redraw();
+    }
 
-        //set afternnon
-        for (int i = 1; i < 12; i++) {
-            timeScaleCells.add(new TimeScaleCell(i + " PM"));
+    /**
+     * Returns the task drawn at the point ({@code x}, {@code y}), the one on top if blocks overlap.
+     */
+    private Optional<Task> getTaskAt(double x, double y) {
+        if (clickedBlock != null && clickedBlock.contains(x, y)) {
+            return Optional.of(clickedBlock.getTask());
         }
-
-        //repeat 12 AM
-        timeScaleCells.add(new TimeScaleCell("12 AM"));
-
-        //style, temporary, todo: move to fxml/css
-        scrollPane.setHbarPolicy(ScrollPane.ScrollBarPolicy.NEVER);
-        scrollPane.setFitToWidth(true);
-
+        for (int i = taskBlocks.size() - 1; i >= 0; i--) {
+            if (taskBlocks.get(i).contains(x, y)) {
+                return Optional.of(taskBlocks.get(i).getTask());
+            }
+        }
+        return Optional.empty();
     }
 
     /**
-     * Add tasks to time scale.
+     * Draws the timeline. The sequence matters, tasks must be on top.
      */
-    public void addInitialTasksToTimeScale() {
-        //add taskCell
-        for (Task task : tasks) {
-            addTaskToTimeScale(task);
+    private void redraw() {
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.clearRect(0, 0, WIDTH, HEIGHT);
+        drawHours(gc);
+        if (currentTime != null) {
+            drawCurrentTimePointer(gc);
         }
-    }
 
-    private void addTaskToTimeScale(Task task) {
-        TaskCell taskCell = new TaskCell(task);
+        List<TaskBlock> blocks = new ArrayList<>(tasks.size());
+        Map<Task, TaskBlock> blocksByTask = new HashMap<>();
+        for (Task task : tasks) {
+            TaskBlock block = new TaskBlock(task);
+            drawTaskBlock(gc, block, false);
+            blocks.add(block);
+            blocksByTask.put(task, block);
+        }
+        taskBlocks = blocks;
+        taskBlocksByTask = blocksByTask;
 
-        //bind the TaskCell to the Task
-        task.setTaskCellBind(taskCell);
+        // the clicked task may have moved or gone
+        drawClickedTask();
+    }
 
-        timeScale.getChildren().add(taskCell.getRoot());
-        timeScale.setMargin(taskCell.getRoot(), new Insets(taskCell.marginTop(), 0, 0, 40));
+    /**
+     * Moves the highlight from the block highlighted before to the block of the clicked task, if it is shown.
+     */
+    private void drawClickedTask() {
+        GraphicsContext gc = clickedTaskLayer.getGraphicsContext2D();
+        if (clickedBlock != null) {
+            gc.clearRect(TaskBlock.LEFT, clickedBlock.getTop(), TaskBlock.WIDTH, clickedBlock.getHeight());
+        }
+        clickedBlock = clickedTask == null ? null : taskBlocksByTask.get(clickedTask);
+        if (clickedBlock != null) {
+            drawTaskBlock(gc, clickedBlock, true);
+        }
     }
 
-    private void addTaskToTimeScale(int taskId) {
-        addTaskToTimeScale(tasks.get(taskId));
+    private void drawHours(GraphicsContext gc) {
+        gc.setFont(HOUR_FONT);
+        gc.setTextBaseline(VPos.CENTER);
+        gc.setLineWidth(1.0);
+        gc.setStroke(HOUR_LINE_COLOR);
+        gc.setFill(HOUR_COLOR);
+        for (int hour = 0; hour <= HOURS_PER_DAY; hour++) {
+            double y = INITIAL_PADDING + hour * MARGIN_PER_HOUR;
+            if (!isHiddenByPointer(hour)) {
+                gc.fillText(getHourLabel(hour), HOUR_LABEL_LEFT, y);
+            }
+            gc.strokeLine(HOUR_LINE_LEFT, y, WIDTH - RIGHT_PADDING, y);
+        }
     }
 
-    private void removeTaskFromTimeScale(Task task) {
-        timeScale.getChildren().remove(task.getTaskCellBind().getRoot());
+    private void drawCurrentTimePointer(GraphicsContext gc) {
+        String label = toAmPmTime(currentTime);
+        double y = getMarginFromTime(currentTime);
+        double dotCenter = POINTER_LABEL_LEFT + getTextWidth(label, POINTER_FONT) + POINTER_SPACING
+                + POINTER_DOT_RADIUS;
+
+        gc.setFont(POINTER_FONT);
+        gc.setTextBaseline(VPos.CENTER);
+        gc.setFill(POINTER_COLOR);
+        gc.setStroke(POINTER_COLOR);
+        gc.setLineWidth(1.0);
+        gc.fillText(label, POINTER_LABEL_LEFT, y);
+        gc.fillOval(dotCenter - POINTER_DOT_RADIUS, y - POINTER_DOT_RADIUS,
+                2 * POINTER_DOT_RADIUS, 2 * POINTER_DOT_RADIUS);
+        gc.strokeLine(dotCenter, y, WIDTH - RIGHT_PADDING, y);
     }
 
-    /**
-     * Stackpane would squeeze everything in the same place, time function is used to list the timeScaleCells.
-     */
-    private void setMargin() {
-        for (int i = 0; i < timeScaleCells.size(); i++) {
-            timeScale.getChildren().add(timeScaleCells.get(i).getRoot());
-            timeScale.setMargin(timeScaleCells.get(i).getRoot(), new Insets(i * 40, 0, 0, 0));
+    private void drawTaskBlock(GraphicsContext gc, TaskBlock block, boolean isClicked) {
+        double top = block.getTop();
+        double height = block.getHeight();
+
+        gc.setFill(isClicked ? TASK_COLOR : TASK_BACKGROUND_COLOR);
+        gc.fillRect(TaskBlock.LEFT, top, TaskBlock.WIDTH, height);
+        gc.setFill(TASK_COLOR);
+        gc.fillRect(TaskBlock.LEFT, top, TASK_BORDER_WIDTH, height);
+
+        // keep the text within the block
+        gc.save();
+        gc.beginPath();
+        gc.rect(TaskBlock.LEFT, top, TaskBlock.WIDTH, height);
+        gc.clip();
+
+        gc.setFill(isClicked ? CLICKED_TASK_TEXT_COLOR : TASK_COLOR);
+        double textLeft = TaskBlock.LEFT + TASK_TEXT_PADDING;
+        String title = block.getTask().getTitle().title;
+        Optional<String> startTime = block.getStartTime();
+        if (startTime.isPresent()) {
+            gc.setTextBaseline(VPos.TOP);
+            gc.setFont(TASK_TIME_FONT);
+            gc.fillText(startTime.get(), textLeft, top);
+            gc.setFont(TASK_TITLE_FONT);
+            gc.fillText(title, textLeft, top + TASK_LINE_HEIGHT);
+        } else {
+            //only shows the title when the duration is less than an hour.
+            gc.setTextBaseline(VPos.CENTER);
+            gc.setFont(TASK_TITLE_FONT);
+            gc.fillText(title, textLeft, top + height / 2);
         }
+        gc.restore();
     }
 
     /**
-     * Places a {@Code Node} in the TimeScale with marginTop being {@Code marginTop}.
-     * @param node node to place
-     * @param marginTop marginTop of the node
+     * Returns true if the label of {@code hour} overlaps the current time pointer.
      */
-    public void placeItem(Node node, double marginTop) {
-        timeScale.getChildren().add(node);
-        timeScale.setMargin(node, new Insets(marginTop, 0, 0, 0));
+    private boolean isHiddenByPointer(int hour) {
+        if (currentTime == null) {
+            return false;
+        }
+        String[] splitTime = currentTime.split(":");
+        int minuteOfDay = Integer.parseInt(splitTime[0]) * 60 + Integer.parseInt(splitTime[1]);
+        return Math.abs(minuteOfDay - hour * 60) <= MINUTES_HIDDEN_BY_POINTER;
     }
 
-    /**
-     * Places the {@Code CurrentTimePointer} with the initial {@Code marginTop}.
-     * @param marginTop initial marginTop
-     */
-    public void placeCurrentTime(CurrentTimePointer currentTimePointer, double marginTop) {
-        placeItem(currentTimePointer.getRoot(), marginTop);
-        this.currentTimePointer = currentTimePointer;
+    private static String getHourLabel(int hour) {
+        if (hour % HOURS_PER_DAY == 0) {
+            return "12 AM";
+        } else if (hour == 12) {
+            return "Noon";
+        } else if (hour < 12) {
+            return hour + " AM";
+        } else {
+            return (hour - 12) + " PM";
+        }
     }
 
-    /**
-     * Updates the position of {@CurrentTimePosition}.
-     * @param newMarginTop
-     */
-    public void updateCurrentTimePosition(double newMarginTop) {
-        timeScale.setMargin(currentTimePointer.getRoot(), new Insets(newMarginTop, 0, 0, 0));
-
+    private static double getTextWidth(String text, Font font) {
+        Text measured = new Text(text);
+        measured.setFont(font);
+        return measured.getLayoutBounds().getWidth();
     }
 
-    /**
-     * Handles the overlap of timeScale and the currentTimePointer
-     * @param time time has to be in the format of HH:mm.
-     */
-    public void handleOverlap(String time) {
-        assert time.matches("^([0-1][0-9]|2[0-3]):[0-5][0-9]$");
-        String[] splitTime = time.split(":");
-        int hour = Integer.valueOf(splitTime[0]);
-        int minute = Integer.valueOf(splitTime[1]);
-
-        // ugly implementation, should try to improve.
-        // a bit violate LoD.
-        if (minute <= 15) {
-            //hour is one-based, and the timeScaleCell starts from 12AM
-            TimeScaleCell overlappedCell = timeScaleCells.get(hour);
-            overlappedCell.hideTime();
-        } else if (minute > 15 && minute < 45) {
-            timeScaleCells.get(hour).recoverTime();
-            timeScaleCells.get(hour + 1).recoverTime();
-        } else if (minute >= 45) {
-            TimeScaleCell overlappedCell = timeScaleCells.get(hour + 1);
-            overlappedCell.hideTime();
-        }
-
+    @Override
+    public void subscribe(Observable news) {
+        news.register(this);
     }
 
-    private void handleListener() {
-        tasks.addListener(taskListener);
+    @Override
+    public void update(Task task) {
+        clickedTask = task;
+        drawClickedTask();
     }
 }
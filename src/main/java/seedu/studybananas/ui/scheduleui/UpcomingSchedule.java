@@ -1,14 +1,9 @@
 package seedu.studybananas.ui.scheduleui;
 
-import static seedu.studybananas.ui.util.ScheduleUiUtil.CURRENT_TIME_POINTER_PADDING;
-import static seedu.studybananas.ui.util.ScheduleUiUtil.getMarginFromTime;
-import static seedu.studybananas.ui.util.ScheduleUiUtil.toAmPmTime;
-
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
-import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
@@ -16,8 +11,11 @@ import javafx.scene.layout.VBox;
 import seedu.studybananas.logic.Logic;
 import seedu.studybananas.ui.UiPart;
 import seedu.studybananas.ui.util.GlobalState;
+import seedu.studybananas.ui.util.Observable;
+import seedu.studybananas.ui.util.Observer;
+import seedu.studybananas.ui.util.UiClock;
 
-public class UpcomingSchedule extends UiPart<Region> {
+public class UpcomingSchedule extends UiPart<Region> implements Observer<LocalDateTime> {
     private static final String FXML = "UpcomingSchedule.fxml";
 
     private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
@@ -34,7 +32,6 @@ public class UpcomingSchedule extends UiPart<Region> {
     @FXML
     private Label day;
 
-    private CurrentTimePointer currentTimePointer;
     private TimeScale timeScale;
 
     private Logic logic;
@@ -50,57 +47,20 @@ public class UpcomingSchedule extends UiPart<Region> {
     }
 
     private void fillInner() {
-        LocalDate today = LocalDate.now();
-
         timeScale = new TimeScale(logic.getUpcomingTaskList());
 
         schedule.getChildren().add(timeScale.getRoot());
 
-        // Fill the label for today.
-        fillTopLabelForToday();
-
-        // Add the currentTimePointer to the TimeScale
-        String currentTime = getCurrentTime();
-        double marginTop = getMarginFromTime(currentTime) - CURRENT_TIME_POINTER_PADDING;
-        currentTimePointer = new CurrentTimePointer(toAmPmTime(currentTime));
-        // The sequence matters, tasks must be on top.
-        timeScale.placeCurrentTime(currentTimePointer, marginTop);
-        timeScale.addInitialTasksToTimeScale();
-        timeScale.handleOverlap(currentTime);
-
-        // Open a new thread to handle the position of the currentTimePointer
-        Thread timerThread = new Thread(() -> {
-            while (true) {
-                try {
-                    Thread.sleep(1000 * 60); // a minute
-                } catch (InterruptedException e) {
-                    e.printStackTrace();
-                }
-                Platform.runLater(() -> {
-                    String newCurrentTime = getCurrentTime();
-                    //update the position of the currentTimePointer
-                    currentTimePointer.updateTime(toAmPmTime(newCurrentTime));
-                    timeScale.updateCurrentTimePosition(getMarginFromTime(newCurrentTime)
-                            - CURRENT_TIME_POINTER_PADDING);
-                    timeScale.handleOverlap(newCurrentTime);
-                    // update the today label
-                    fillTopLabelForToday();
-                });
-            }
-        });
-
-        timerThread.start();
-
+        // Fill today's tasks and the label for today, and point the TimeScale at the current time
+        update(LocalDateTime.now());
 
+        // Keep the currentTimePointer and the day up to date
+        subscribe(UiClock.getInstance());
     }
 
-    private void fillTopLabelForToday() {
-        if (LocalDate.now().equals(today)) {
-            return;
-        }
-
+    private void fillTopLabelForToday(LocalDate today) {
         // Fill the label with date of "TODAY"
-        today = LocalDate.now();
+        this.today = today;
         year.setText(String.valueOf(today.getYear()));
         date.setText(getDateString(today));
         day.setText(getDayString(today));
@@ -118,12 +78,21 @@ public class UpcomingSchedule extends UiPart<Region> {
         return dayString.substring(0, 1) + dayString.substring(1).toLowerCase();
     }
 
-    /**
-     * Returns time in the format of "HH:mm"
-     */
-    private String getCurrentTime() {
-        LocalDateTime now = LocalDateTime.now();
-        return TIME_FORMATTER.format(now);
+    @Override
+    public void subscribe(Observable news) {
+        news.register(this);
+    }
+
+    @Override
+    public void update(LocalDateTime now) {
+        LocalDate nowDate = now.toLocalDate();
+        if (!nowDate.equals(today)) {
+            // Refills today's tasks for the date of the tick, which may come slightly before the wall clock's
+            logic.updateUpcomingTaskList(nowDate);
+            fillTopLabelForToday(nowDate);
+        }
+        //update the position of the currentTimePointer
+        timeScale.setCurrentTime(TIME_FORMATTER.format(now));
     }
 
 
@@ -0,0 +1,93 @@
+package seedu.studybananas.ui.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.studybananas.ui.util.ScheduleUiUtil.getQuizDescriptionText;
+import static seedu.studybananas.ui.util.ScheduleUiUtil.parseQuizStartCommand;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.studybananas.logic.Logic;
+import seedu.studybananas.logic.commands.quizcommands.StartCommand;
+import seedu.studybananas.logic.parser.exceptions.ParseException;
+
+/**
+ * Remembers which task descriptions link to a quiz, so that the schedule does not parse a description and look
+ * up its flashcard set every time the description is shown.
+ *
+ * A description links to a quiz if it is a {@code StartCommand} of an existing flashcard set. Descriptions
+ * that do not are remembered too, so ordinary descriptions are only parsed once. Whether a description links
+ * to a quiz depends on the flashcard sets, so everything remembered is forgotten as soon as the flashcard bank
+ * changes (see {@link Logic#getFlashcardBankVersion()}), e.g. when a set is added, renamed or deleted.
+ */
+public class QuizLinkCache {
+
+    // Enough for the descriptions of a full schedule; the least recently used ones are forgotten beyond that
+    static final int CAPACITY = 1024;
+
+    private final Logic logic;
+    private final Map<String, Optional<QuizLink>> quizLinksByDescription = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Optional<QuizLink>> eldest) {
+            return size() > CAPACITY;
+        }
+    };
+    private long flashcardBankVersion;
+
+    /**
+     * Creates a {@code QuizLinkCache} resolving descriptions with {@code logic}.
+     */
+    public QuizLinkCache(Logic logic) {
+        requireNonNull(logic);
+        this.logic = logic;
+        this.flashcardBankVersion = logic.getFlashcardBankVersion();
+    }
+
+    /**
+     * Returns the quiz {@code description} links to, or an empty {@code Optional} if it does not link to one.
+     */
+    public Optional<QuizLink> getQuizLink(String description) {
+        requireNonNull(description);
+        long currentVersion = logic.getFlashcardBankVersion();
+        if (currentVersion != flashcardBankVersion) {
+            quizLinksByDescription.clear();
+            flashcardBankVersion = currentVersion;
+        }
+        return quizLinksByDescription.computeIfAbsent(description, this::resolve);
+    }
+
+    private Optional<QuizLink> resolve(String description) {
+        // Only descriptions starting with the command word can parse into a StartCommand
+        if (!description.trim().toLowerCase().startsWith(StartCommand.COMMAND_WORD)) {
+            return Optional.empty();
+        }
+        try {
+            StartCommand quizStartCommand = parseQuizStartCommand(description, logic);
+            return Optional.of(new QuizLink(quizStartCommand, getQuizDescriptionText(quizStartCommand, logic)));
+        } catch (ParseException | IndexOutOfBoundsException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * The quiz a description links to, and the text shown in place of the description.
+     */
+    public static class QuizLink {
+        private final StartCommand quizStartCommand;
+        private final String text;
+
+        QuizLink(StartCommand quizStartCommand, String text) {
+            this.quizStartCommand = quizStartCommand;
+            this.text = text;
+        }
+
+        public StartCommand getQuizStartCommand() {
+            return quizStartCommand;
+        }
+
+        public String getText() {
+            return text;
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package seedu.studybananas.ui.util;
 
+import java.time.LocalDate;
+
 import javafx.scene.Node;
 import javafx.scene.layout.Pane;
 import seedu.studybananas.logic.Logic;
@@ -12,11 +14,10 @@ import seedu.studybananas.ui.scheduleui.QuizDescription;
 
 public class ScheduleUiUtil {
 
-    // This part needs to synchronize with TimeScaleCell
+    // The layout of the TimeScale
     public static final double INITIAL_PADDING = 9.0; //The paddingTop is set to 10, but 9 is more accurate.
     public static final double MARGIN_PER_HOUR = 40.0;
     public static final double MARGIN_PER_MINUTE = MARGIN_PER_HOUR / 60.0;
-    public static final double CURRENT_TIME_POINTER_PADDING = 5.0;
 
 
     /**
@@ -74,14 +75,20 @@ public class ScheduleUiUtil {
      * Still need to check if it is accurate.
      */
     public static double getMarginFromDateTime(DateTime time) {
-        if (!time.isToday()) {
+        return getMarginFromEpochMinute(time.getEpochMinute());
+    }
+
+    /**
+     * Calculates the margin of a time given in minutes since 1970-01-01 00:00, see {@link DateTime#getEpochMinute()}.
+     * Times that are not today are placed at the top.
+     */
+    public static double getMarginFromEpochMinute(long epochMinute) {
+        long todayStart = DateTime.toEpochMinute(LocalDate.now());
+        long minuteOfToday = epochMinute - todayStart;
+        if (minuteOfToday < 0 || minuteOfToday >= DateTime.MINUTES_PER_DAY) {
             return INITIAL_PADDING;
         }
-
-        int hour = time.dateTime.getHour();
-        int minute = time.dateTime.getMinute();
-        return INITIAL_PADDING + hour * MARGIN_PER_HOUR + minute * MARGIN_PER_MINUTE;
-
+        return INITIAL_PADDING + minuteOfToday * MARGIN_PER_MINUTE;
     }
 
     /**
@@ -106,26 +113,43 @@ public class ScheduleUiUtil {
      */
     public static QuizDescription constructQuizDescription(String description, Logic logic)
             throws ParseException, IndexOutOfBoundsException {
+        StartCommand quizStartCommand = parseQuizStartCommand(description, logic);
+        return new QuizDescription(getQuizDescriptionText(quizStartCommand, logic), quizStartCommand, logic);
+    }
+
+    /**
+     * Parses the description into the {@code StartCommand} it holds.
+     * @throws ParseException if the description is not a valid start command.
+     */
+    public static StartCommand parseQuizStartCommand(String description, Logic logic) throws ParseException {
         Command command = logic.parse(description.trim());
         if (!(command instanceof StartCommand)) {
             throw new ParseException("Not a start command.");
         }
+        return (StartCommand) command;
+    }
 
-        StartCommand quizStartCommand = (StartCommand) command;
+    /**
+     * Returns the text shown in place of a description holding {@code quizStartCommand}.
+     * @throws IndexOutOfBoundsException if the flashcardSet index or name is not valid;
+     */
+    public static String getQuizDescriptionText(StartCommand quizStartCommand, Logic logic)
+            throws IndexOutOfBoundsException {
         try {
             FlashcardSet flashcardSet = logic.getFlashcardSetFromIndex(quizStartCommand.getQuizIndex());
-            String text = "Quiz: " + flashcardSet.getFlashcardSetName();
-            return new QuizDescription(text, quizStartCommand, logic);
+            return "Quiz: " + flashcardSet.getFlashcardSetName();
 
         } catch (IndexOutOfBoundsException e) { // handles case where quiz is stored by name
+            if (quizStartCommand.getFlashcardSetName() == null) { // if flashcard set index is invalid
+                throw e;
+            }
             FlashcardSet flashcardSet = logic.getFlashcardSetFromName(quizStartCommand.getFlashcardSetName());
 
             if (flashcardSet == null) { // if flashcard set name is invalid
                 throw new IndexOutOfBoundsException("Flashcard set is non-existent.");
             }
 
-            String text = "Quiz: " + flashcardSet.getFlashcardSetName();
-            return new QuizDescription(text, quizStartCommand, logic);
+            return "Quiz: " + flashcardSet.getFlashcardSetName();
         }
     }
 
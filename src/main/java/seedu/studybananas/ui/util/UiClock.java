@@ -0,0 +1,118 @@
+package seedu.studybananas.ui.util;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javafx.application.Platform;
+
+/**
+ * A clock telling its observers the time at the start of every minute of the wall clock, on the JavaFX
+ * application thread, e.g. to move the current time pointer and to move on to the next day at midnight.
+ *
+ * Every tick is scheduled for the start of the next minute from the time it actually runs, so the clock does
+ * not drift from the wall clock. The clock runs on a daemon thread, and must be stopped with {@link #stop()}
+ * when the app stops.
+ */
+public class UiClock implements Observable {
+    private static UiClock instance;
+
+    private final ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "StudyBananas UI clock");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Only used on the JavaFX application thread
+    private List<Observer> observers = new ArrayList<>();
+    private LocalDateTime currentMinute;
+
+    // Guarded by this
+    private boolean isStarted;
+
+    private UiClock() {
+        currentMinute = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+    }
+
+    public static synchronized UiClock getInstance() {
+        if (instance == null) {
+            instance = new UiClock();
+        }
+        return instance;
+    }
+
+    @Override
+    public void register(Observer observer) {
+        observers.add(observer);
+    }
+
+    @Override
+    public void unregister(Observer observer) {
+        observers.remove(observer);
+    }
+
+    @Override
+    public void inform() {
+        for (Observer observer : observers) {
+            observer.update(currentMinute);
+        }
+    }
+
+    /**
+     * Starts ticking at the start of the next minute. Does nothing if the clock has been started or stopped.
+     */
+    public synchronized void start() {
+        if (isStarted || ticker.isShutdown()) {
+            return;
+        }
+        isStarted = true;
+        LocalDateTime now = LocalDateTime.now();
+        scheduleTick(now, now.truncatedTo(ChronoUnit.MINUTES).plusMinutes(1));
+    }
+
+    /**
+     * Stops the clock for good. Ticks that are due are dropped.
+     */
+    public synchronized void stop() {
+        ticker.shutdownNow();
+    }
+
+    private synchronized void scheduleTick(LocalDateTime now, LocalDateTime minute) {
+        if (ticker.isShutdown()) {
+            return;
+        }
+        ticker.schedule(() -> tick(minute), getDelayMillis(now, minute), TimeUnit.MILLISECONDS);
+    }
+
+    private void tick(LocalDateTime scheduledMinute) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime minute = getTickMinute(now, scheduledMinute);
+        Platform.runLater(() -> {
+            currentMinute = minute;
+            inform();
+        });
+        scheduleTick(now, minute.plusMinutes(1));
+    }
+
+    /**
+     * Returns the minute a tick scheduled for {@code scheduledMinute} and running at {@code now} tells the time
+     * of. A tick may run slightly before the minute it was scheduled for, or long after it if the computer
+     * was asleep.
+     */
+    static LocalDateTime getTickMinute(LocalDateTime now, LocalDateTime scheduledMinute) {
+        LocalDateTime nowMinute = now.truncatedTo(ChronoUnit.MINUTES);
+        return nowMinute.isAfter(scheduledMinute) ? nowMinute : scheduledMinute;
+    }
+
+    /**
+     * Returns the number of milliseconds from {@code now} to the start of {@code minute}, or 0 if it has started.
+     */
+    static long getDelayMillis(LocalDateTime now, LocalDateTime minute) {
+        return Math.max(0, Duration.between(now, minute).toMillis());
+    }
+}
@@ -11,7 +11,10 @@ public class ConfigTest {
     @Test
     public void toString_defaultObject_stringReturned() {
         String defaultConfigAsString = "Current log level : INFO\n"
-                + "Preference file Location : preferences.json";
+                + "Preference file Location : preferences.json\n"
+                + "Write-behind saving : true\n"
+                + "Backup generations : 1\n"
+                + "Compact JSON : false";
 
         assertEquals(defaultConfigAsString, new Config().toString());
     }
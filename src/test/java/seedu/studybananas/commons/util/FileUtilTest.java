@@ -1,13 +1,23 @@
 package seedu.studybananas.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.studybananas.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +30,58 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFileAtomically_existingFile_replacedWithoutLeftovers() throws IOException {
+        Path file = testFolder.resolve("data").resolve("file.json");
+        FileUtil.writeToFileAtomically(file, "old");
+        FileUtil.writeToFileAtomically(file, "new");
+
+        assertEquals("new", FileUtil.readFromFile(file));
+        assertEquals(1, Files.list(file.getParent()).count());
+    }
+
+    @Test
+    public void rotateBackups_multipleSaves_generationsShifted() throws IOException {
+        Path file = testFolder.resolve("file.json");
+
+        // missing file -> no backup
+        FileUtil.rotateBackups(file, 2);
+        assertFalse(Files.exists(FileUtil.getBackupFilePath(file, 1)));
+
+        for (String content : new String[] {"first", "second", "third"}) {
+            FileUtil.rotateBackups(file, 2);
+            FileUtil.writeToFileAtomically(file, content);
+        }
+
+        assertEquals("third", FileUtil.readFromFile(file));
+        assertEquals("second", FileUtil.readFromFile(FileUtil.getBackupFilePath(file, 1)));
+        assertEquals("first", FileUtil.readFromFile(FileUtil.getBackupFilePath(file, 2)));
+        assertFalse(Files.exists(FileUtil.getBackupFilePath(file, 3)));
+    }
+
+    @Test
+    public void rotateBackups_noBackups_nothingCopied() throws IOException {
+        Path file = testFolder.resolve("file.json");
+        FileUtil.writeToFileAtomically(file, "content");
+        FileUtil.rotateBackups(file, 0);
+        assertFalse(Files.exists(FileUtil.getBackupFilePath(file, 1)));
+    }
+
+    @Test
+    public void isNewerThan() throws IOException {
+        Path older = testFolder.resolve("older.json");
+        Path newer = testFolder.resolve("newer.bin");
+        FileUtil.writeToFile(older, "older");
+        FileUtil.writeToFile(newer, "newer");
+        Files.setLastModifiedTime(older, FileTime.fromMillis(1000));
+        Files.setLastModifiedTime(newer, FileTime.fromMillis(2000));
+
+        assertTrue(FileUtil.isNewerThan(newer, older));
+        assertFalse(FileUtil.isNewerThan(older, newer));
+
+        // missing files
+        assertTrue(FileUtil.isNewerThan(older, testFolder.resolve("missing.bin")));
+        assertFalse(FileUtil.isNewerThan(testFolder.resolve("missing.json"), older));
+    }
+
 }
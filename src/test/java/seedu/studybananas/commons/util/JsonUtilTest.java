@@ -39,6 +39,25 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void serializeObjectToJsonFile_compactOutput_singleLineWrittenAndReadBack() throws IOException {
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+
+        try {
+            JsonUtil.setCompactOutput(true);
+            JsonUtil.serializeObjectToJsonFile(SERIALIZATION_FILE, serializableTestClass);
+        } finally {
+            JsonUtil.setCompactOutput(false);
+        }
+
+        assertEquals(JsonUtil.toCompactJsonString(serializableTestClass), FileUtil.readFromFile(SERIALIZATION_FILE));
+        SerializableTestClass readBack = JsonUtil
+                .deserializeObjectFromJsonFile(SERIALIZATION_FILE, SerializableTestClass.class);
+        assertEquals(serializableTestClass.getName(), readBack.getName());
+        assertEquals(serializableTestClass.getListOfLocalDateTimes(), readBack.getListOfLocalDateTimes());
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
@@ -1,10 +1,13 @@
 package seedu.studybananas.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.studybananas.testutil.Assert.assertThrows;
 
 import java.io.FileNotFoundException;
+import java.util.Arrays;
+import java.util.HashSet;
 
 import org.junit.jupiter.api.Test;
 
@@ -123,6 +126,24 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for getLowerCaseWords --------------------------------------
+
+    @Test
+    public void getLowerCaseWords_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.getLowerCaseWords(null));
+    }
+
+    @Test
+    public void getLowerCaseWords_validInputs_correctResult() {
+        // no words
+        assertTrue(StringUtil.getLowerCaseWords("").isEmpty());
+        assertTrue(StringUtil.getLowerCaseWords(" ?! ").isEmpty());
+
+        // words separated by whitespace and punctuation, repeated words listed once
+        assertEquals(new HashSet<>(Arrays.asList("newton", "s", "2nd", "law")),
+                StringUtil.getLowerCaseWords("Newton's  2nd LAW, law"));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
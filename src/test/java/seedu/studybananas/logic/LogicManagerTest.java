@@ -1,6 +1,7 @@
 package seedu.studybananas.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static seedu.studybananas.commons.core.Messages.MESSAGE_INVALID_FLASHCARDSET_DISPLAYED_INDEX;
 import static seedu.studybananas.commons.core.Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX;
@@ -19,6 +20,7 @@ import static seedu.studybananas.testutil.Assert.assertThrows;
 import static seedu.studybananas.testutil.TypicalFlashcardSets.PHYSICS;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -26,6 +28,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.studybananas.commons.core.index.Index;
+import seedu.studybananas.logic.PersistenceMetrics.Store;
 import seedu.studybananas.logic.commands.Command;
 import seedu.studybananas.logic.commands.commandresults.CommandResult;
 import seedu.studybananas.logic.commands.exceptions.CommandException;
@@ -118,6 +121,37 @@ public class LogicManagerTest {
         assertCommandObjectException(startQuizCommand, StartCommand.MESSAGE_FLASHCARD_SET_NONEXISTENT);
     }
 
+    @Test
+    public void execute_unchangedStores_savesSkipped() throws Exception {
+        PersistenceMetrics metrics = new PersistenceMetrics();
+        Path scheduleFilePath = temporaryFolder.resolve("dirtySchedule.json");
+        StorageManager storage = new StorageManager(new JsonScheduleStorage(scheduleFilePath),
+                new JsonFlashcardBankStorage(temporaryFolder.resolve("dirtyFlashcardBank.json")),
+                new JsonQuizRecordsStorage(temporaryFolder.resolve("dirtyQuizRecords.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("dirtyUserPrefs.json")));
+        logic = new LogicManager(model, storage, metrics);
+
+        // first command saves every store
+        logic.execute(ScheduleListCommand.COMMAND_WORD);
+        assertEquals(1, metrics.getPerformedSaveCount(Store.SCHEDULE));
+        assertEquals(1, metrics.getPerformedSaveCount(Store.FLASHCARD_BANK));
+        assertEquals(1, metrics.getPerformedSaveCount(Store.QUIZ_RECORDS));
+
+        // read-only command -> nothing saved
+        Files.delete(scheduleFilePath);
+        logic.execute(ScheduleListCommand.COMMAND_WORD);
+        assertFalse(Files.exists(scheduleFilePath));
+        assertEquals(1, metrics.getSkippedSaveCount(Store.SCHEDULE));
+        assertEquals(1, metrics.getSkippedSaveCount(Store.FLASHCARD_BANK));
+        assertEquals(1, metrics.getSkippedSaveCount(Store.QUIZ_RECORDS));
+
+        // only the modified store is saved
+        logic.execute(AddFlashcardSetCommand.COMMAND_WORD + NAME_DESC_PHYSICS);
+        assertEquals(1, metrics.getPerformedSaveCount(Store.SCHEDULE));
+        assertEquals(2, metrics.getPerformedSaveCount(Store.FLASHCARD_BANK));
+        assertEquals(2, metrics.getSkippedSaveCount(Store.QUIZ_RECORDS));
+    }
+
     @Test
     public void getFilteredTaskList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredTaskList().remove(0));
@@ -207,6 +241,29 @@ public class LogicManagerTest {
         assertCommandFailure(addFlashcardSetCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_backgroundSaveFailed_changesSavedBeforeThrowingCommandException() throws Exception {
+        Path scheduleFilePath = temporaryFolder.resolve("backgroundFailureSchedule.json");
+        StorageManager storage = new StorageManager(new JsonScheduleStorage(scheduleFilePath),
+                new JsonFlashcardBankStorage(temporaryFolder.resolve("backgroundFailureFlashcardBank.json")),
+                new JsonQuizRecordsStorage(temporaryFolder.resolve("backgroundFailureQuizRecords.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("backgroundFailureUserPrefs.json"))) {
+            @Override
+            public void checkBackgroundSaveFailure() throws IOException {
+                throw DUMMY_IO_EXCEPTION;
+            }
+        };
+        logic = new LogicManager(model, storage);
+
+        String addTaskCommand = ScheduleAddCommand.COMMAND_WORD + TITLE_DESC_CS2103T
+                + DESCRIPTION_DESC_CS2103T + DATETIME_DESC_CS2103T + DURATION;
+        assertThrows(CommandException.class, LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION, () ->
+                logic.execute(addTaskCommand));
+
+        // the task added is saved even though an earlier save failed
+        assertEquals(model.getSchedule().getTaskList(), storage.readSchedule(scheduleFilePath).get().getTaskList());
+    }
+
     /**
      * Executes the command and confirms that
      * - no exceptions are thrown <br>
@@ -9,6 +9,7 @@ import static seedu.studybananas.testutil.Assert.assertThrows;
 import static seedu.studybananas.testutil.TypicalIndexes.INDEX_FIRST;
 import static seedu.studybananas.testutil.TypicalIndexes.INDEX_SECOND;
 
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -21,6 +22,7 @@ import seedu.studybananas.logic.commands.commandresults.CommandResult;
 import seedu.studybananas.logic.commands.exceptions.CommandException;
 import seedu.studybananas.model.FlashcardModel;
 import seedu.studybananas.model.flashcard.Flashcard;
+import seedu.studybananas.model.flashcard.FlashcardSearchResult;
 import seedu.studybananas.model.flashcard.FlashcardSet;
 import seedu.studybananas.model.flashcard.FlashcardSetName;
 import seedu.studybananas.model.systemlevelmodel.FlashcardBank;
@@ -204,6 +206,11 @@ public class AddFlashcardCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<FlashcardSearchResult> searchFlashcards(List<String> keywords, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addFlashcard(FlashcardSet flashcardSet, Flashcard flashcard) {
             throw new AssertionError("This method should not be called.");
@@ -21,6 +21,7 @@ import seedu.studybananas.logic.commands.commandresults.CommandResult;
 import seedu.studybananas.logic.commands.exceptions.CommandException;
 import seedu.studybananas.model.FlashcardModel;
 import seedu.studybananas.model.flashcard.Flashcard;
+import seedu.studybananas.model.flashcard.FlashcardSearchResult;
 import seedu.studybananas.model.flashcard.FlashcardSet;
 import seedu.studybananas.model.flashcard.FlashcardSetName;
 import seedu.studybananas.model.systemlevelmodel.ReadOnlyFlashcardBank;
@@ -149,6 +150,11 @@ public class AddFlashcardSetCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<FlashcardSearchResult> searchFlashcards(List<String> keywords, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addFlashcard(FlashcardSet flashcardSet, Flashcard flashcard) {
             throw new AssertionError("This method should not be called.");
@@ -0,0 +1,54 @@
+package seedu.studybananas.logic.commands.flashcardcommands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.studybananas.logic.commands.commandtestutils.FlashcardBankCommandTestUtil.assertCommandSuccess;
+import static seedu.studybananas.testutil.TypicalFlashcardSets.getTypicalFlashcardBank;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.studybananas.model.FlashcardModel;
+import seedu.studybananas.model.FlashcardModelManager;
+
+public class SearchFlashcardCommandTest {
+    private FlashcardModel model;
+    private FlashcardModel expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new FlashcardModelManager(getTypicalFlashcardBank());
+        expectedModel = new FlashcardModelManager(model.getFlashcardBank());
+    }
+
+    @Test
+    public void execute_matchingKeywords_listsMatchesAcrossSets() {
+        String expectedMessage = String.format(SearchFlashcardCommand.MESSAGE_SUCCESS, 3)
+                + "\n1. Physics #3: Decay constant"
+                + "\n2. Economics #1: Define the idea of opportunity cost"
+                + "\n3. Icebreaker jokes #3: Define procrastination";
+        assertCommandSuccess(new SearchFlashcardCommand(Arrays.asList("define", "decay")), model,
+                expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noMatchingKeywords_noResultsFound() {
+        assertCommandSuccess(new SearchFlashcardCommand(Collections.singletonList("pterodactyl")), model,
+                SearchFlashcardCommand.MESSAGE_NO_RESULTS, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        SearchFlashcardCommand searchForce = new SearchFlashcardCommand(Collections.singletonList("force"));
+        SearchFlashcardCommand searchLaw = new SearchFlashcardCommand(Collections.singletonList("law"));
+
+        assertTrue(searchForce.equals(searchForce));
+        assertTrue(searchForce.equals(new SearchFlashcardCommand(Collections.singletonList("force"))));
+        assertFalse(searchForce.equals(null));
+        assertFalse(searchForce.equals(1));
+        assertFalse(searchForce.equals(searchLaw));
+    }
+}
@@ -7,6 +7,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.studybananas.commons.core.Messages.MESSAGE_OVERLAP_TASK;
 import static seedu.studybananas.testutil.Assert.assertThrows;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -190,9 +191,29 @@ public class ScheduleAddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateUpcomingTaskList(LocalDate today) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredTaskList(Predicate<Task> predicate) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public void updateFilteredTaskList(LocalDate startDate, LocalDate endDate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredTaskListByRelevance(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void searchTasks(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 }
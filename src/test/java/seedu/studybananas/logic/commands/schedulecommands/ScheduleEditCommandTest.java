@@ -14,6 +14,7 @@ import static seedu.studybananas.testutil.SampleTasks.getSampleSchedule;
 import static seedu.studybananas.testutil.TypicalIndexes.INDEX_FIRST;
 import static seedu.studybananas.testutil.TypicalIndexes.INDEX_SECOND;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -204,9 +205,29 @@ public class ScheduleEditCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateUpcomingTaskList(LocalDate today) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredTaskList(Predicate<Task> predicate) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public void updateFilteredTaskList(LocalDate startDate, LocalDate endDate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredTaskListByRelevance(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void searchTasks(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 }
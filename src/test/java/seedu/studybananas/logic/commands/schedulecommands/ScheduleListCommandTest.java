@@ -1,15 +1,25 @@
 package seedu.studybananas.logic.commands.schedulecommands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static seedu.studybananas.logic.commands.commandtestutils.ScheduleCommandTestUtil.assertCommandSuccess;
 import static seedu.studybananas.logic.commands.commandtestutils.ScheduleCommandTestUtil.showTaskAtIndex;
+import static seedu.studybananas.testutil.SampleTasks.CS2100_TUTORIAL_HOMEWORK;
+import static seedu.studybananas.testutil.SampleTasks.ST2334_ASSIGNMENT;
 import static seedu.studybananas.testutil.SampleTasks.getSampleSchedule;
 import static seedu.studybananas.testutil.TypicalIndexes.INDEX_FIRST;
 
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import seedu.studybananas.model.ScheduleModel;
 import seedu.studybananas.model.ScheduleModelManager;
+import seedu.studybananas.model.task.Task;
+import seedu.studybananas.testutil.TaskBuilder;
 
 public class ScheduleListCommandTest {
     private ScheduleModel model;
@@ -31,4 +41,44 @@ public class ScheduleListCommandTest {
         showTaskAtIndex(model, INDEX_FIRST);
         assertCommandSuccess(new ScheduleListCommand(), model, ScheduleListCommand.MESSAGE_SUCCESS, expectedModel);
     }
+
+    @Test
+    public void execute_dateRange_showsTasksInRange() {
+        LocalDate startDate = LocalDate.of(2020, 10, 1);
+        LocalDate endDate = LocalDate.of(2020, 10, 4);
+        expectedModel.updateFilteredTaskList(task -> task.equals(ST2334_ASSIGNMENT)
+                || task.equals(CS2100_TUTORIAL_HOMEWORK));
+        assertCommandSuccess(new ScheduleListCommand(startDate, endDate), model,
+                String.format(ScheduleListCommand.MESSAGE_RANGE_SUCCESS, startDate, endDate), expectedModel);
+        assertEquals(Arrays.asList(CS2100_TUTORIAL_HOMEWORK, ST2334_ASSIGNMENT), model.getFilteredTaskList());
+    }
+
+    @Test
+    public void execute_dateRangeThenTaskMovedIntoRange_movedTaskShown() {
+        LocalDate date = LocalDate.of(2020, 10, 1);
+        new ScheduleListCommand(date, date).execute(model);
+        Task movedTask = new TaskBuilder(CS2100_TUTORIAL_HOMEWORK).withDateTime("2020-10-01 10:00").build();
+        model.setTask(CS2100_TUTORIAL_HOMEWORK, movedTask);
+        assertEquals(Arrays.asList(movedTask, ST2334_ASSIGNMENT), model.getFilteredTaskList());
+    }
+
+    @Test
+    public void execute_dateRangeThenTaskMovedOutOfRange_movedTaskHidden() {
+        LocalDate date = LocalDate.of(2020, 10, 1);
+        new ScheduleListCommand(date, date).execute(model);
+        Task movedTask = new TaskBuilder(ST2334_ASSIGNMENT).withDateTime("2020-10-05 10:00").build();
+        model.setTask(ST2334_ASSIGNMENT, movedTask);
+        assertEquals(Collections.emptyList(), model.getFilteredTaskList());
+    }
+
+    @Test
+    public void equals() {
+        LocalDate date = LocalDate.of(2020, 10, 1);
+        ScheduleListCommand listRangeCommand = new ScheduleListCommand(date, date);
+
+        assertEquals(new ScheduleListCommand(), new ScheduleListCommand());
+        assertEquals(listRangeCommand, new ScheduleListCommand(date, date));
+        assertFalse(listRangeCommand.equals(new ScheduleListCommand()));
+        assertFalse(listRangeCommand.equals(new ScheduleListCommand(date, date.plusDays(1))));
+    }
 }
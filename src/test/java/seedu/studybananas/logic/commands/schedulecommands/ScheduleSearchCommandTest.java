@@ -7,6 +7,7 @@ import static seedu.studybananas.commons.core.Messages.MESSAGE_TASKS_LISTED_OVER
 import static seedu.studybananas.logic.commands.commandtestutils.ScheduleCommandTestUtil.assertCommandSuccess;
 import static seedu.studybananas.testutil.SampleTasks.CS2100_FINAL;
 import static seedu.studybananas.testutil.SampleTasks.CS2100_TUTORIAL_HOMEWORK;
+import static seedu.studybananas.testutil.SampleTasks.CS2103T_WEEK8_QUIZ;
 import static seedu.studybananas.testutil.SampleTasks.ST2334_ASSIGNMENT;
 import static seedu.studybananas.testutil.SampleTasks.getSampleSchedule;
 
@@ -18,6 +19,8 @@ import org.junit.jupiter.api.Test;
 import seedu.studybananas.model.ScheduleModel;
 import seedu.studybananas.model.ScheduleModelManager;
 import seedu.studybananas.model.task.InfoContainsKeywordsPredicate;
+import seedu.studybananas.model.task.Task;
+import seedu.studybananas.testutil.TaskBuilder;
 
 public class ScheduleSearchCommandTest {
     private ScheduleModel model = new ScheduleModelManager(getSampleSchedule());
@@ -47,6 +50,9 @@ public class ScheduleSearchCommandTest {
         // null -> returns false
         assertFalse(findFirstCommand.equals(null));
 
+        // different search mode -> returns false
+        assertFalse(findFirstCommand.equals(new ScheduleSearchCommand(firstPredicate, true)));
+
         // different person -> returns false
         assertFalse(findFirstCommand.equals(findSecondCommand));
     }
@@ -111,6 +117,42 @@ public class ScheduleSearchCommandTest {
         assertEquals(Collections.emptyList(), model.getFilteredTaskList());
     }
 
+    @Test
+    public void execute_fuzzyKeywords_tasksFoundBestMatchFirst() {
+        String expectedMessage = String.format(MESSAGE_TASKS_LISTED_OVERVIEW, 3);
+        InfoContainsKeywordsPredicate predicate = preparePredicate("pipe quizz");
+        ScheduleSearchCommand command = new ScheduleSearchCommand(predicate, true);
+        expectedModel.updateFilteredTaskListByRelevance(predicate.getKeywords());
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        // "pipe" starts a word of the description of CS2100_TUTORIAL_HOMEWORK, "quizz" is one edit from "quiz"
+        assertEquals(Arrays.asList(CS2100_TUTORIAL_HOMEWORK, CS2103T_WEEK8_QUIZ, ST2334_ASSIGNMENT),
+                model.getFilteredTaskList());
+    }
+
+    @Test
+    public void execute_searchAfterFuzzySearch_scheduleOrderRestored() {
+        model.updateFilteredTaskListByRelevance(Arrays.asList("pipe", "quizz"));
+        new ScheduleSearchCommand(preparePredicate("Quiz")).execute(model);
+        assertEquals(Arrays.asList(CS2103T_WEEK8_QUIZ, ST2334_ASSIGNMENT), model.getFilteredTaskList());
+    }
+
+    @Test
+    public void execute_matchingTaskEdited_editedTaskShown() {
+        new ScheduleSearchCommand(preparePredicate("Pipeline")).execute(model);
+        Task editedTask = new TaskBuilder(CS2100_TUTORIAL_HOMEWORK).withDateTime("2020-10-05 10:00").build();
+        model.setTask(CS2100_TUTORIAL_HOMEWORK, editedTask);
+        assertEquals(Collections.singletonList(editedTask), model.getFilteredTaskList());
+    }
+
+    @Test
+    public void execute_fuzzyMatchingTaskEdited_editedTaskShown() {
+        new ScheduleSearchCommand(preparePredicate("pipe quizz"), true).execute(model);
+        Task editedTask = new TaskBuilder(ST2334_ASSIGNMENT).withDescription("Chapter 3 Quiz").build();
+        model.setTask(ST2334_ASSIGNMENT, editedTask);
+        assertEquals(Arrays.asList(CS2100_TUTORIAL_HOMEWORK, CS2103T_WEEK8_QUIZ, editedTask),
+                model.getFilteredTaskList());
+    }
+
     /**
      * Parses {@code userInput} into a {@code TitleContainsKeywordsPredicate}.
      */
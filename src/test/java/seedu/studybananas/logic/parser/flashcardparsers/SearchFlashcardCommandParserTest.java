@@ -0,0 +1,30 @@
+package seedu.studybananas.logic.parser.flashcardparsers;
+
+import static seedu.studybananas.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.studybananas.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.studybananas.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.studybananas.logic.commands.flashcardcommands.SearchFlashcardCommand;
+
+public class SearchFlashcardCommandParserTest {
+    private final SearchFlashcardCommandParser parser = new SearchFlashcardCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchFlashcardCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsSearchFlashcardCommand() {
+        SearchFlashcardCommand expectedCommand = new SearchFlashcardCommand(Arrays.asList("force", "law"));
+        assertParseSuccess(parser, "force law", expectedCommand);
+
+        // multiple whitespaces between keywords
+        assertParseSuccess(parser, " \n force \n \t law  \t", expectedCommand);
+    }
+}
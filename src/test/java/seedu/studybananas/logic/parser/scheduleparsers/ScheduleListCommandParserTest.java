@@ -0,0 +1,58 @@
+package seedu.studybananas.logic.parser.scheduleparsers;
+
+import static seedu.studybananas.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.studybananas.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.studybananas.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.studybananas.logic.commands.schedulecommands.ScheduleListCommand;
+import seedu.studybananas.model.task.DateTime;
+
+public class ScheduleListCommandParserTest {
+
+    private final ScheduleListCommandParser parser = new ScheduleListCommandParser();
+
+    @Test
+    public void parse_noArgs_returnsListAllCommand() {
+        assertParseSuccess(parser, "", new ScheduleListCommand());
+        assertParseSuccess(parser, "   ", new ScheduleListCommand());
+    }
+
+    @Test
+    public void parse_today_returnsTodayRange() {
+        LocalDate today = LocalDate.now();
+        assertParseSuccess(parser, " today", new ScheduleListCommand(today, today));
+        assertParseSuccess(parser, " TODAY ", new ScheduleListCommand(today, today));
+    }
+
+    @Test
+    public void parse_week_returnsMondayToSunday() {
+        LocalDate today = LocalDate.now();
+        LocalDate monday = today.minusDays(today.getDayOfWeek().getValue() - DayOfWeek.MONDAY.getValue());
+        assertParseSuccess(parser, " week", new ScheduleListCommand(monday, monday.plusDays(6)));
+    }
+
+    @Test
+    public void parse_dateRange_returnsRange() {
+        assertParseSuccess(parser, " from:2020-11-02 to:2020-11-04",
+                new ScheduleListCommand(LocalDate.of(2020, 11, 2), LocalDate.of(2020, 11, 4)));
+        // times are ignored
+        assertParseSuccess(parser, " from:2020-11-02 23:00 to:Wednesday, Nov 04 2020",
+                new ScheduleListCommand(LocalDate.of(2020, 11, 2), LocalDate.of(2020, 11, 4)));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String invalidFormat = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ScheduleListCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " yesterday", invalidFormat);
+        assertParseFailure(parser, " from:2020-11-02", invalidFormat);
+        assertParseFailure(parser, " to:2020-11-02", invalidFormat);
+        assertParseFailure(parser, " from:2020-11-32 to:2020-12-01", DateTime.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " from:2020-11-04 to:2020-11-02",
+                ScheduleListCommandParser.MESSAGE_END_BEFORE_START);
+    }
+}
@@ -31,4 +31,16 @@ public class ScheduleSearchCommandParserTest {
         // multiple whitespaces between keywords
         assertParseSuccess(parser, " \n CS2101 \n \t CS2103T  \t", expectedSearchCommand);
     }
+
+    @Test
+    public void parse_fuzzyPrefix_returnsFuzzySearchCommand() {
+        ScheduleSearchCommand expectedSearchCommand = new ScheduleSearchCommand(
+                new InfoContainsKeywordsPredicate(Arrays.asList("algo", "strcture")), true);
+        assertParseSuccess(parser, "fuzzy: algo strcture", expectedSearchCommand);
+        assertParseSuccess(parser, " fuzzy:algo \t strcture ", expectedSearchCommand);
+
+        // no keywords after the prefix
+        assertParseFailure(parser, "fuzzy:  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                ScheduleSearchCommand.MESSAGE_USAGE));
+    }
 }
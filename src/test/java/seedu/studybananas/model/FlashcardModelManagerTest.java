@@ -0,0 +1,62 @@
+package seedu.studybananas.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.studybananas.testutil.TypicalFlashcardSets.PHYSICS;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.studybananas.model.flashcard.Flashcard;
+import seedu.studybananas.model.flashcard.FlashcardSet;
+import seedu.studybananas.model.flashcard.FlashcardSetName;
+import seedu.studybananas.model.flashcard.FlashcardSetPage;
+import seedu.studybananas.model.systemlevelmodel.FlashcardBank;
+
+public class FlashcardModelManagerTest {
+
+    @Test
+    public void setFlashcardSetToView_pagedOutSets_leastRecentlyOpenedEvicted() {
+        FlashcardBank flashcardBank = new FlashcardBank();
+        for (int i = 0; i <= FlashcardModelManager.DECODED_FLASHCARD_SET_CAPACITY; i++) {
+            flashcardBank.addFlashcardSet(new FlashcardSet(new FlashcardSetName("Set " + i), new StubPage()));
+        }
+        FlashcardModelManager flashcardModelManager = new FlashcardModelManager(flashcardBank);
+        List<FlashcardSet> flashcardSets = new ArrayList<>(flashcardModelManager.getFilteredFlashcardSetList());
+
+        for (FlashcardSet flashcardSet : flashcardSets) {
+            assertFalse(flashcardSet.isDecoded());
+        }
+
+        // open all but the last set, then reopen the first so that the second is the least recently opened
+        for (int i = 0; i < FlashcardModelManager.DECODED_FLASHCARD_SET_CAPACITY; i++) {
+            flashcardModelManager.setFlashcardSetToView(flashcardSets.get(i));
+        }
+        flashcardModelManager.setFlashcardSetToView(flashcardSets.get(0));
+        flashcardModelManager.setFlashcardSetToView(flashcardSets.get(FlashcardModelManager
+                .DECODED_FLASHCARD_SET_CAPACITY));
+
+        assertTrue(flashcardSets.get(0).isDecoded());
+        assertFalse(flashcardSets.get(1).isDecoded());
+        assertTrue(flashcardSets.get(FlashcardModelManager.DECODED_FLASHCARD_SET_CAPACITY).isDecoded());
+        assertEquals(PHYSICS.getFlashcards(), flashcardModelManager.getFlashcardSetToView());
+    }
+
+    /**
+     * A page with the flashcards of the typical physics flashcard set.
+     */
+    private static class StubPage implements FlashcardSetPage {
+        @Override
+        public int getSize() {
+            return PHYSICS.getSize();
+        }
+
+        @Override
+        public Flashcard getFlashcard(int index) {
+            return PHYSICS.getFlashcard(index);
+        }
+    }
+}
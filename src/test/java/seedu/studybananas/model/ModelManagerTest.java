@@ -2,18 +2,28 @@ package seedu.studybananas.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.studybananas.testutil.Assert.assertThrows;
+import static seedu.studybananas.testutil.SampleTasks.CS2101_OP2;
+import static seedu.studybananas.testutil.TypicalFlashcards.HOOKES_LAW;
 
 import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.studybananas.commons.core.GuiSettings;
+import seedu.studybananas.model.flashcard.FlashcardSet;
 import seedu.studybananas.model.systemlevelmodel.FlashcardBank;
 import seedu.studybananas.model.systemlevelmodel.QuizRecords;
 import seedu.studybananas.model.systemlevelmodel.Schedule;
 import seedu.studybananas.model.systemlevelmodel.UserPrefs;
+import seedu.studybananas.model.task.Task;
+import seedu.studybananas.testutil.FlashcardSetBuilder;
+import seedu.studybananas.testutil.QuizBuilder;
+import seedu.studybananas.testutil.TaskBuilder;
 
 public class ModelManagerTest {
 
@@ -56,6 +66,57 @@ public class ModelManagerTest {
         assertEquals(guiSettings, modelManager.getGuiSettings());
     }
 
+    @Test
+    public void getVersions_storeModified_onlyModifiedStoreVersionChanges() {
+        long scheduleVersion = modelManager.getScheduleVersion();
+        long flashcardBankVersion = modelManager.getFlashcardBankVersion();
+        long quizRecordsVersion = modelManager.getQuizRecordsVersion();
+
+        // read-only operations -> no version changes
+        modelManager.getFilteredTaskList();
+        modelManager.hasTask(CS2101_OP2);
+        assertEquals(scheduleVersion, modelManager.getScheduleVersion());
+
+        modelManager.addTask(CS2101_OP2);
+        assertNotEquals(scheduleVersion, modelManager.getScheduleVersion());
+        assertEquals(flashcardBankVersion, modelManager.getFlashcardBankVersion());
+        assertEquals(quizRecordsVersion, modelManager.getQuizRecordsVersion());
+
+        FlashcardSet flashcardSet = new FlashcardSetBuilder().build();
+        modelManager.addFlashcardSet(flashcardSet);
+        assertNotEquals(flashcardBankVersion, modelManager.getFlashcardBankVersion());
+
+        // flashcard-level changes also count as changes to the flashcard bank
+        flashcardBankVersion = modelManager.getFlashcardBankVersion();
+        modelManager.addFlashcard(flashcardSet, HOOKES_LAW);
+        assertNotEquals(flashcardBankVersion, modelManager.getFlashcardBankVersion());
+        assertEquals(quizRecordsVersion, modelManager.getQuizRecordsVersion());
+
+        modelManager.start(new QuizBuilder().buildDefaultQuiz());
+        modelManager.stopQuiz();
+        assertNotEquals(quizRecordsVersion, modelManager.getQuizRecordsVersion());
+    }
+
+    @Test
+    public void updateUpcomingTaskList_nullDate_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modelManager.updateUpcomingTaskList(null));
+    }
+
+    @Test
+    public void updateUpcomingTaskList_date_tasksHappeningOnDateShown() {
+        Task overnight = new TaskBuilder().withTitle("Overnight").withDateTime("2020-10-09 23:00")
+                .withDuration("120").build();
+        Task later = new TaskBuilder().withTitle("Later").withDateTime("2020-10-11 09:00").build();
+        modelManager.addTask(overnight);
+        modelManager.addTask(later);
+
+        modelManager.updateUpcomingTaskList(LocalDate.of(2020, 10, 10));
+        assertEquals(Collections.singletonList(overnight), modelManager.getUpcomingTaskList());
+
+        modelManager.updateUpcomingTaskList(LocalDate.of(2020, 10, 11));
+        assertEquals(Collections.singletonList(later), modelManager.getUpcomingTaskList());
+    }
+
     @Test
     public void equals() {
         Schedule schedule = new Schedule();
@@ -0,0 +1,157 @@
+package seedu.studybananas.model.flashcard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.studybananas.model.flashcard.FlashcardSearchIndex.ANSWER_WORD_SCORE;
+import static seedu.studybananas.model.flashcard.FlashcardSearchIndex.QUESTION_WORD_SCORE;
+import static seedu.studybananas.testutil.Assert.assertThrows;
+import static seedu.studybananas.testutil.TypicalFlashcards.CHICKEN_JOKE;
+import static seedu.studybananas.testutil.TypicalFlashcards.DECAY_CONSTANT;
+import static seedu.studybananas.testutil.TypicalFlashcards.HOOKES_LAW;
+import static seedu.studybananas.testutil.TypicalFlashcards.NEWTONS_SECOND_LAW;
+import static seedu.studybananas.testutil.TypicalFlashcards.OPPORTUNITY_COST;
+import static seedu.studybananas.testutil.TypicalFlashcards.PROCRASTINATION_JOKE;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.studybananas.commons.core.index.Index;
+import seedu.studybananas.testutil.FlashcardBuilder;
+import seedu.studybananas.testutil.FlashcardSetBuilder;
+
+public class FlashcardSearchIndexTest {
+
+    private FlashcardSet physics;
+    private FlashcardSet jokes;
+    private FlashcardSearchIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        physics = new FlashcardSetBuilder().withFlashcardSetName("Physics")
+                .withFlashcards(Arrays.asList(NEWTONS_SECOND_LAW, HOOKES_LAW, DECAY_CONSTANT)).build();
+        jokes = new FlashcardSetBuilder().withFlashcardSetName("Jokes")
+                .withFlashcards(Arrays.asList(CHICKEN_JOKE, PROCRASTINATION_JOKE)).build();
+        index = new FlashcardSearchIndex();
+        index.setFlashcardSets(Arrays.asList(physics, jokes));
+    }
+
+    @Test
+    public void search_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.search(null, 1));
+    }
+
+    @Test
+    public void search_noMatch_returnsEmptyList() {
+        assertTrue(index.search(Collections.singletonList("pterodactyl"), 10).isEmpty());
+        assertTrue(index.search(Collections.emptyList(), 10).isEmpty());
+    }
+
+    @Test
+    public void search_questionMatchesRankedAboveAnswerMatches() {
+        // "decay" is in the question of DECAY_CONSTANT, "force" in the answers of both laws
+        List<FlashcardSearchResult> expected = Arrays.asList(
+                new FlashcardSearchResult(physics, Index.fromOneBased(3), DECAY_CONSTANT, QUESTION_WORD_SCORE),
+                new FlashcardSearchResult(physics, Index.fromOneBased(1), NEWTONS_SECOND_LAW, ANSWER_WORD_SCORE),
+                new FlashcardSearchResult(physics, Index.fromOneBased(2), HOOKES_LAW, ANSWER_WORD_SCORE));
+        assertEquals(expected, index.search(Arrays.asList("FORCE", "decay"), 10));
+    }
+
+    @Test
+    public void search_scoresAddUpAcrossKeywords() {
+        List<FlashcardSearchResult> results = index.search(Arrays.asList("law", "momentum"), 10);
+        assertEquals(NEWTONS_SECOND_LAW, results.get(0).getFlashcard());
+        assertEquals(QUESTION_WORD_SCORE + ANSWER_WORD_SCORE, results.get(0).getScore());
+        assertEquals(HOOKES_LAW, results.get(1).getFlashcard());
+        assertEquals(QUESTION_WORD_SCORE, results.get(1).getScore());
+    }
+
+    @Test
+    public void search_acrossSets_returnsSetOfEachMatch() {
+        List<FlashcardSearchResult> results = index.search(Arrays.asList("define", "decay"), 10);
+        assertEquals(2, results.size());
+        assertEquals(physics, results.get(0).getFlashcardSet());
+        assertEquals(jokes, results.get(1).getFlashcardSet());
+        assertEquals(Index.fromOneBased(2), results.get(1).getFlashcardIndex());
+    }
+
+    @Test
+    public void search_limit_returnsBestMatchesOnly() {
+        List<FlashcardSearchResult> results = index.search(Arrays.asList("force", "decay"), 2);
+        assertEquals(Arrays.asList(DECAY_CONSTANT, NEWTONS_SECOND_LAW),
+                Arrays.asList(results.get(0).getFlashcard(), results.get(1).getFlashcard()));
+        assertTrue(index.search(Collections.singletonList("force"), 0).isEmpty());
+    }
+
+    @Test
+    public void removeFlashcard_flashcardNoLongerFound() {
+        physics.deleteFlashcard(Index.fromOneBased(1));
+        index.removeFlashcard(physics, Index.fromOneBased(1));
+        List<FlashcardSearchResult> results = index.search(Collections.singletonList("force"), 10);
+        assertEquals(Collections.singletonList(
+                new FlashcardSearchResult(physics, Index.fromOneBased(1), HOOKES_LAW, ANSWER_WORD_SCORE)), results);
+    }
+
+    @Test
+    public void setFlashcard_editedFlashcard_replacesWords() {
+        Flashcard edited = new FlashcardBuilder(CHICKEN_JOKE).withAnswer("Pterodactyl").build();
+        jokes.setFlashcard(CHICKEN_JOKE, edited);
+        index.setFlashcard(jokes, Index.fromOneBased(1), edited);
+        assertTrue(index.search(Collections.singletonList("side"), 10).isEmpty());
+        assertEquals(Collections.singletonList(
+                new FlashcardSearchResult(jokes, Index.fromOneBased(1), edited, ANSWER_WORD_SCORE)),
+                index.search(Collections.singletonList("pterodactyl"), 10));
+    }
+
+    @Test
+    public void removeFlashcardSet_flashcardsOfSetNoLongerFound() {
+        index.removeFlashcardSet(physics);
+        assertTrue(index.search(Arrays.asList("force", "decay"), 10).isEmpty());
+        assertEquals(1, index.search(Collections.singletonList("road"), 10).size());
+    }
+
+    @Test
+    public void addFlashcardSet_sameFlashcardInAnotherSet_foundInBoth() {
+        FlashcardSet economics = new FlashcardSetBuilder().withFlashcardSetName("Economics")
+                .withFlashcards(Arrays.asList(OPPORTUNITY_COST, DECAY_CONSTANT)).build();
+        index.addFlashcardSet(economics);
+        List<FlashcardSearchResult> results = index.search(Collections.singletonList("decay"), 10);
+        assertEquals(Arrays.asList(
+                new FlashcardSearchResult(physics, Index.fromOneBased(3), DECAY_CONSTANT, QUESTION_WORD_SCORE),
+                new FlashcardSearchResult(economics, Index.fromOneBased(2), DECAY_CONSTANT, QUESTION_WORD_SCORE)),
+                results);
+    }
+
+    @Test
+    public void search_pagedOutSet_onlyResultsDecoded() {
+        List<Flashcard> stored = Arrays.asList(NEWTONS_SECOND_LAW, HOOKES_LAW, DECAY_CONSTANT, OPPORTUNITY_COST);
+        List<Integer> decodedIndexes = new ArrayList<>();
+        FlashcardSet pagedOut = new FlashcardSet(new FlashcardSetName("Paged"), new FlashcardSetPage() {
+            @Override
+            public int getSize() {
+                return stored.size();
+            }
+
+            @Override
+            public Flashcard getFlashcard(int index) {
+                decodedIndexes.add(index);
+                return stored.get(index);
+            }
+        });
+        index.setFlashcardSets(Collections.singletonList(pagedOut));
+        assertFalse(pagedOut.isDecoded());
+        decodedIndexes.clear();
+
+        List<FlashcardSearchResult> results = index.search(Collections.singletonList("decay"), 10);
+        assertEquals(Collections.singletonList(
+                new FlashcardSearchResult(pagedOut, Index.fromOneBased(3), DECAY_CONSTANT, QUESTION_WORD_SCORE)),
+                results);
+        assertEquals(Collections.singletonList(2), decodedIndexes);
+        assertFalse(pagedOut.isDecoded());
+    }
+}
@@ -7,12 +7,15 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.studybananas.testutil.Assert.assertThrows;
 import static seedu.studybananas.testutil.TypicalFlashcardSets.ECONOMICS;
 import static seedu.studybananas.testutil.TypicalFlashcardSets.PHYSICS;
+import static seedu.studybananas.testutil.TypicalFlashcards.CHICKEN_JOKE;
 import static seedu.studybananas.testutil.TypicalFlashcards.DECAY_CONSTANT;
 import static seedu.studybananas.testutil.TypicalFlashcards.HOOKES_LAW;
 import static seedu.studybananas.testutil.TypicalFlashcards.NEWTONS_SECOND_LAW;
 import static seedu.studybananas.testutil.TypicalFlashcards.OPPORTUNITY_COST;
 import static seedu.studybananas.testutil.TypicalIndexes.INDEX_FIRST;
 
+import java.util.Arrays;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.studybananas.commons.core.index.Index;
@@ -134,4 +137,135 @@ public class FlashcardSetTest {
         assertEquals(expectedPhysics, physics);
     }
 
+    @Test
+    public void indexOf_afterEveryChange_followsFlashcards() {
+        FlashcardSet physics = new FlashcardSetBuilder(PHYSICS).build();
+        assertEquals(1, physics.indexOf(HOOKES_LAW));
+        assertEquals(-1, physics.indexOf(OPPORTUNITY_COST));
+
+        physics.addFlashcard(OPPORTUNITY_COST);
+        assertEquals(3, physics.indexOf(OPPORTUNITY_COST));
+
+        physics.setFlashcard(HOOKES_LAW, CHICKEN_JOKE);
+        assertEquals(-1, physics.indexOf(HOOKES_LAW));
+        assertEquals(1, physics.indexOf(CHICKEN_JOKE));
+
+        physics.deleteFlashcard(INDEX_FIRST);
+        assertEquals(-1, physics.indexOf(NEWTONS_SECOND_LAW));
+        assertEquals(0, physics.indexOf(CHICKEN_JOKE));
+        assertEquals(1, physics.indexOf(DECAY_CONSTANT));
+        assertEquals(2, physics.indexOf(OPPORTUNITY_COST));
+    }
+
+    @Test
+    public void indexOf_duplicateFlashcardsFromStorage_firstPosition() {
+        FlashcardSet flashcardSet = new FlashcardSet(PHYSICS.getFlashcardSetName(),
+                Arrays.asList(HOOKES_LAW, DECAY_CONSTANT, HOOKES_LAW));
+        assertEquals(0, flashcardSet.indexOf(HOOKES_LAW));
+
+        flashcardSet.setFlashcard(HOOKES_LAW, CHICKEN_JOKE);
+        assertEquals(2, flashcardSet.indexOf(HOOKES_LAW));
+
+        flashcardSet.deleteFlashcard(INDEX_FIRST);
+        assertEquals(1, flashcardSet.indexOf(HOOKES_LAW));
+        assertTrue(flashcardSet.hasFlashcard(DECAY_CONSTANT));
+    }
+
+    @Test
+    public void getFlashcards_modifyList_throwsUnsupportedOperationException() {
+        FlashcardSet physics = new FlashcardSetBuilder(PHYSICS).build();
+        assertThrows(UnsupportedOperationException.class, () -> physics.getFlashcards().remove(0));
+    }
+
+    @Test
+    public void pagedOutSet_readAccess_notDecoded() {
+        CountingFlashcardSetPage page = new CountingFlashcardSetPage(PHYSICS);
+        FlashcardSet physics = new FlashcardSet(PHYSICS.getFlashcardSetName(), page);
+
+        assertEquals(3, physics.getSize());
+        assertEquals(HOOKES_LAW, physics.getFlashcard(1));
+        assertEquals(PHYSICS.getFlashcards(), physics.getFlashcards());
+        assertFalse(physics.isDecoded());
+    }
+
+    @Test
+    public void pagedOutSet_hashCode_noFlashcardDecoded() {
+        CountingFlashcardSetPage page = new CountingFlashcardSetPage(PHYSICS);
+        FlashcardSet physics = new FlashcardSet(PHYSICS.getFlashcardSetName(), page);
+
+        assertEquals(PHYSICS.hashCode(), physics.hashCode());
+        assertEquals(0, page.decodeCount);
+    }
+
+    @Test
+    public void pagedOutSet_indexOf_searchedEveryTime() {
+        CountingFlashcardSetPage page = new CountingFlashcardSetPage(PHYSICS);
+        FlashcardSet physics = new FlashcardSet(PHYSICS.getFlashcardSetName(), page);
+
+        // No positions are kept, which would hold on to every flashcard of the set
+        assertEquals(1, physics.indexOf(HOOKES_LAW));
+        assertEquals(1, physics.indexOf(HOOKES_LAW));
+        assertEquals(4, page.decodeCount);
+        assertEquals(-1, physics.indexOf(OPPORTUNITY_COST));
+        assertFalse(physics.isDecoded());
+    }
+
+    @Test
+    public void decode_thenEvict_pagedOutAgain() {
+        CountingFlashcardSetPage page = new CountingFlashcardSetPage(PHYSICS);
+        FlashcardSet physics = new FlashcardSet(PHYSICS.getFlashcardSetName(), page);
+
+        physics.decode();
+        int decodeCount = page.decodeCount;
+        assertEquals(PHYSICS.getFlashcards(), physics.getFlashcards());
+        assertEquals(decodeCount, page.decodeCount); // served from memory
+
+        physics.evict();
+        assertFalse(physics.isDecoded());
+        assertEquals(PHYSICS.getFlashcards(), physics.getFlashcards());
+    }
+
+    @Test
+    public void evict_modifiedSet_keptDecoded() {
+        FlashcardSet physics = new FlashcardSet(PHYSICS.getFlashcardSetName(), new CountingFlashcardSetPage(PHYSICS));
+        physics.addFlashcard(OPPORTUNITY_COST);
+        physics.evict();
+
+        assertTrue(physics.isDecoded());
+        assertTrue(physics.hasFlashcard(OPPORTUNITY_COST));
+        assertEquals(4, physics.getSize());
+    }
+
+    @Test
+    public void copy_pagedOutSet_sharesPage() {
+        FlashcardSet physics = new FlashcardSet(PHYSICS.getFlashcardSetName(), new CountingFlashcardSetPage(PHYSICS));
+        FlashcardSet copy = physics.copy();
+        physics.addFlashcard(OPPORTUNITY_COST);
+
+        assertFalse(copy.isDecoded());
+        assertEquals(PHYSICS.getFlashcards(), copy.getFlashcards());
+    }
+
+    /**
+     * A page over the flashcards of a set that counts how many flashcards have been decoded.
+     */
+    private static class CountingFlashcardSetPage implements FlashcardSetPage {
+        private final FlashcardSet flashcardSet;
+        private int decodeCount;
+
+        private CountingFlashcardSetPage(FlashcardSet flashcardSet) {
+            this.flashcardSet = flashcardSet;
+        }
+
+        @Override
+        public int getSize() {
+            return flashcardSet.getSize();
+        }
+
+        @Override
+        public Flashcard getFlashcard(int index) {
+            decodeCount++;
+            return flashcardSet.getFlashcard(index);
+        }
+    }
 }
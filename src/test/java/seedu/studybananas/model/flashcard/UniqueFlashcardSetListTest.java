@@ -2,6 +2,7 @@ package seedu.studybananas.model.flashcard;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.studybananas.testutil.Assert.assertThrows;
 import static seedu.studybananas.testutil.TypicalFlashcardSets.ECONOMICS;
@@ -10,6 +11,7 @@ import static seedu.studybananas.testutil.TypicalFlashcardSets.PHYSICS;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -44,6 +46,45 @@ public class UniqueFlashcardSetListTest {
         assertTrue(uniqueFlsetList.contains(editedPhysics));
     }
 
+    @Test
+    public void get_nullName_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueFlsetList.get(null));
+    }
+
+    @Test
+    public void get_nameNotInList_returnsEmpty() {
+        uniqueFlsetList.add(ECONOMICS);
+        assertEquals(Optional.empty(), uniqueFlsetList.get(PHYSICS.getName()));
+    }
+
+    @Test
+    public void get_nameInList_returnsFlashcardSet() {
+        uniqueFlsetList.add(PHYSICS);
+        uniqueFlsetList.add(ECONOMICS);
+        assertSame(ECONOMICS, uniqueFlsetList.get(new FlashcardSetName("Economics")).get());
+    }
+
+    @Test
+    public void get_afterEveryChange_followsList() {
+        FlashcardSet renamedPhysics = new FlashcardSetBuilder(PHYSICS).withFlashcardSetName("Mechanics").build();
+        uniqueFlsetList.add(PHYSICS);
+        uniqueFlsetList.setFlashcardSet(PHYSICS, renamedPhysics);
+        assertEquals(Optional.empty(), uniqueFlsetList.get(PHYSICS.getName()));
+        assertSame(renamedPhysics, uniqueFlsetList.get(renamedPhysics.getName()).get());
+
+        uniqueFlsetList.remove(renamedPhysics);
+        assertFalse(uniqueFlsetList.contains(renamedPhysics));
+
+        uniqueFlsetList.setFlashcardSets(Arrays.asList(PHYSICS, ECONOMICS));
+        assertSame(PHYSICS, uniqueFlsetList.get(PHYSICS.getName()).get());
+
+        UniqueFlashcardSetList replacement = new UniqueFlashcardSetList();
+        replacement.add(ECONOMICS);
+        uniqueFlsetList.setFlashcardSets(replacement);
+        assertEquals(Optional.empty(), uniqueFlsetList.get(PHYSICS.getName()));
+        assertSame(ECONOMICS, uniqueFlsetList.get(ECONOMICS.getName()).get());
+    }
+
     @Test
     public void add_nullFlashcardSet_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueFlsetList.add(null));
@@ -0,0 +1,107 @@
+package seedu.studybananas.model.systemlevelmodel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.studybananas.testutil.Assert.assertThrows;
+import static seedu.studybananas.testutil.SampleTasks.CS2100_TUTORIAL_HOMEWORK;
+import static seedu.studybananas.testutil.SampleTasks.CS2101_OP2;
+import static seedu.studybananas.testutil.SampleTasks.CS2103T_WEEK8_QUIZ;
+import static seedu.studybananas.testutil.SampleTasks.ST2334_ASSIGNMENT;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.studybananas.model.task.Task;
+import seedu.studybananas.testutil.TaskBuilder;
+
+public class ScheduleHistoryTest {
+
+    @Test
+    public void getChangesSince_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new Schedule().getHistoryMark().get().getChangesSince(null));
+    }
+
+    @Test
+    public void getChangesSince_sameSchedule_changesInOrderMade() {
+        Schedule schedule = new Schedule();
+        schedule.addTask(CS2100_TUTORIAL_HOMEWORK);
+        ScheduleHistory.Mark before = mark(schedule);
+
+        Task edited = new TaskBuilder(CS2100_TUTORIAL_HOMEWORK).withDescription("Cache homework").build();
+        schedule.addTask(CS2101_OP2);
+        schedule.setTask(CS2100_TUTORIAL_HOMEWORK, edited);
+        schedule.removeTask(CS2101_OP2);
+
+        assertEquals(Optional.of(Arrays.asList(ScheduleChange.ofAdd(CS2101_OP2),
+                ScheduleChange.ofEdit(CS2100_TUTORIAL_HOMEWORK, edited), ScheduleChange.ofDelete(CS2101_OP2))),
+                mark(schedule).getChangesSince(before));
+        assertEquals(Optional.of(Collections.emptyList()), mark(schedule).getChangesSince(mark(schedule)));
+    }
+
+    @Test
+    public void getChangesSince_laterMark_empty() {
+        Schedule schedule = new Schedule();
+        ScheduleHistory.Mark before = mark(schedule);
+        schedule.addTask(CS2101_OP2);
+        assertFalse(before.getChangesSince(mark(schedule)).isPresent());
+    }
+
+    @Test
+    public void getChangesSince_tasksReplaced_empty() {
+        Schedule schedule = new Schedule();
+        ScheduleHistory.Mark before = mark(schedule);
+        schedule.setTasks(Collections.singletonList(CS2101_OP2));
+        assertFalse(mark(schedule).getChangesSince(before).isPresent());
+
+        schedule.resetData(new Schedule());
+        assertFalse(mark(schedule).getChangesSince(before).isPresent());
+    }
+
+    @Test
+    public void getChangesSince_tooManyChanges_empty() {
+        Schedule schedule = new Schedule();
+        ScheduleHistory.Mark before = mark(schedule);
+        for (int i = 0; i < ScheduleHistory.MAX_RECORDED_CHANGES; i++) {
+            schedule.addTask(CS2101_OP2);
+            schedule.removeTask(CS2101_OP2);
+        }
+        assertFalse(mark(schedule).getChangesSince(before).isPresent());
+    }
+
+    @Test
+    public void getChangesSince_copies_changesFollowedAcrossCopies() {
+        Schedule original = new Schedule();
+        original.addTask(CS2100_TUTORIAL_HOMEWORK);
+        Schedule firstCopy = new Schedule(original);
+
+        original.addTask(ST2334_ASSIGNMENT);
+        Schedule secondCopy = new Schedule(original);
+        secondCopy.addTask(CS2103T_WEEK8_QUIZ);
+
+        List<ScheduleChange> expected = Arrays.asList(ScheduleChange.ofAdd(ST2334_ASSIGNMENT),
+                ScheduleChange.ofAdd(CS2103T_WEEK8_QUIZ));
+        assertEquals(Optional.of(expected), mark(secondCopy).getChangesSince(mark(firstCopy)));
+
+        // Copies made apart share no history
+        assertFalse(mark(secondCopy).getChangesSince(mark(new Schedule())).isPresent());
+    }
+
+    @Test
+    public void getChangesSince_resetFromOwnCopy_empty() {
+        Schedule schedule = new Schedule();
+        Schedule copy = new Schedule(schedule);
+        schedule.addTask(CS2101_OP2);
+        copy.resetData(schedule);
+        schedule.resetData(copy);
+        // The history leads back to the schedule itself, from before it was reset
+        assertFalse(mark(schedule).getChangesSince(mark(new Schedule())).isPresent());
+    }
+
+    private static ScheduleHistory.Mark mark(Schedule schedule) {
+        return schedule.getHistoryMark().get();
+    }
+}
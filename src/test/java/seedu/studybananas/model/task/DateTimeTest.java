@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.studybananas.testutil.Assert.assertThrows;
 
 import java.time.LocalDate;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -54,6 +55,10 @@ public class DateTimeTest {
 
         // Same value -> returns true
         assertTrue(firstDateTime.equals(new DateTime(sampleValidDateTime1)));
+        assertEquals(firstDateTime.hashCode(), new DateTime(sampleValidDateTime1).hashCode());
+
+        // Same value in a different format -> returns true
+        assertTrue(firstDateTime.equals(new DateTime("Friday, Nov 06 2020 16:00")));
 
         // Different objects -> returns false
         assertFalse(firstDateTime.equals(secondDateTime));
@@ -65,6 +70,27 @@ public class DateTimeTest {
         assertFalse(firstDateTime.equals(null));
     }
 
+    @Test
+    public void constructor_timeWithSeconds_truncatedToMinute() {
+        DateTime dateTime = new DateTime("today 12:00:30");
+        assertEquals(LocalDate.now().atTime(12, 0), dateTime.dateTime);
+        assertEquals(new DateTime("today 12:00"), dateTime);
+        assertEquals(Optional.of(dateTime), DateTime.parse("today 12:00:59"));
+    }
+
+    @Test
+    public void formattedStrings() {
+        DateTime dateTime = new DateTime("2020-11-06 16:05");
+        assertEquals("2020-11-06 16:05", dateTime.toString());
+        assertEquals("Friday, Nov 06 2020", dateTime.getUiFormatDate());
+        assertEquals("Friday  Nov 06 2020", dateTime.getUiFormatDateNoPunctuation());
+        assertEquals("16:05", dateTime.getStandardFormatTime());
+
+        // cached strings are reused
+        assertTrue(dateTime.toString() == dateTime.toString());
+        assertTrue(dateTime.getUiFormatDate() == dateTime.getUiFormatDate());
+    }
+
     @Test
     public void getToday() {
         DateTime todayDateTime = DateTime.getToday(12, 30);
@@ -83,6 +109,25 @@ public class DateTimeTest {
         assertEquals(expectedYesterdayDateTime, yesterdayDateTime);
     }
 
+    @Test
+    public void getEpochMinute() {
+        assertEquals(0, new DateTime("1970-01-01 00:00").getEpochMinute());
+        assertEquals(DateTime.MINUTES_PER_DAY + 61, new DateTime("1970-01-02 01:01").getEpochMinute());
+        assertEquals(-DateTime.MINUTES_PER_DAY, new DateTime("1969-12-31 00:00").getEpochMinute());
+        assertEquals(DateTime.toEpochMinute(LocalDate.of(2020, 11, 6)) + 16 * 60,
+                new DateTime("2020-11-06 16:00").getEpochMinute());
+    }
+
+    @Test
+    public void parse() {
+        // invalid date times
+        assertFalse(DateTime.parse("").isPresent());
+        assertFalse(DateTime.parse("2020-02-30").isPresent());
+
+        // valid date time
+        assertEquals(Optional.of(new DateTime("2020-11-10 09:00")), DateTime.parse("2020-11-10 09:00"));
+    }
+
     @Test
     public void isToday_todayDate_returnsTrue() {
         String todayDateString = LocalDate.now().toString();
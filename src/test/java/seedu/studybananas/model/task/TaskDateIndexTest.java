@@ -0,0 +1,81 @@
+package seedu.studybananas.model.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.studybananas.testutil.Assert.assertThrows;
+import static seedu.studybananas.testutil.SampleTasks.CS2100_TUTORIAL_HOMEWORK;
+import static seedu.studybananas.testutil.SampleTasks.CS2101_FEEDBACK;
+import static seedu.studybananas.testutil.SampleTasks.CS2103T_WEEK8_QUIZ;
+import static seedu.studybananas.testutil.SampleTasks.ST2334_ASSIGNMENT;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.studybananas.testutil.TaskBuilder;
+
+public class TaskDateIndexTest {
+
+    private static final LocalDate OCT_01 = LocalDate.of(2020, 10, 1);
+    private static final LocalDate OCT_02 = LocalDate.of(2020, 10, 2);
+    private static final LocalDate OCT_04 = LocalDate.of(2020, 10, 4);
+
+    private final TaskDateIndex index = new TaskDateIndex();
+
+    @Test
+    public void add_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.add(null));
+    }
+
+    @Test
+    public void add_taskWithoutDateTime_notIndexed() {
+        index.add(CS2101_FEEDBACK);
+        assertEquals(Collections.emptyList(), index.getTasksBetween(LocalDate.MIN, LocalDate.MAX));
+        assertFalse(index.remove(CS2101_FEEDBACK));
+    }
+
+    @Test
+    public void add_taskPastMidnight_foundOnBothDays() {
+        // runs from 2020-10-01 23:50 to 2020-10-02 00:20
+        Task pastMidnight = new TaskBuilder(CS2100_TUTORIAL_HOMEWORK).withDateTime("2020-10-01 23:50")
+                .withDuration("30").build();
+        index.add(pastMidnight);
+        index.add(ST2334_ASSIGNMENT);
+
+        assertEquals(Arrays.asList(ST2334_ASSIGNMENT, pastMidnight), index.getTasksOn(OCT_01));
+        assertEquals(Collections.singletonList(pastMidnight), index.getTasksOn(OCT_02));
+        assertEquals(Collections.emptyList(), index.getTasksOn(OCT_04));
+
+        // listed once even though it is stored under both dates
+        assertEquals(Arrays.asList(ST2334_ASSIGNMENT, pastMidnight), index.getTasksBetween(OCT_01, OCT_02));
+    }
+
+    @Test
+    public void getTasksBetween_tasksAcrossDates_orderedByDate() {
+        index.setTasks(Arrays.asList(CS2100_TUTORIAL_HOMEWORK, CS2103T_WEEK8_QUIZ, ST2334_ASSIGNMENT,
+                CS2101_FEEDBACK));
+
+        assertEquals(Arrays.asList(ST2334_ASSIGNMENT, CS2100_TUTORIAL_HOMEWORK), index.getTasksBetween(OCT_01, OCT_04));
+        assertEquals(Collections.singletonList(CS2100_TUTORIAL_HOMEWORK), index.getTasksBetween(OCT_02, OCT_04));
+
+        // end before start -> nothing
+        assertEquals(Collections.emptyList(), index.getTasksBetween(OCT_04, OCT_01));
+    }
+
+    @Test
+    public void remove_indexedTask_removedFromAllDates() {
+        Task pastMidnight = new TaskBuilder(CS2100_TUTORIAL_HOMEWORK).withDateTime("2020-10-01 23:50")
+                .withDuration("30").build();
+        index.add(pastMidnight);
+        index.add(ST2334_ASSIGNMENT);
+
+        // removal is by equality
+        assertTrue(index.remove(new TaskBuilder(pastMidnight).build()));
+        assertEquals(Collections.singletonList(ST2334_ASSIGNMENT), index.getTasksOn(OCT_01));
+        assertEquals(Collections.emptyList(), index.getTasksOn(OCT_02));
+        assertFalse(index.remove(pastMidnight));
+    }
+}
@@ -0,0 +1,48 @@
+package seedu.studybananas.model.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.studybananas.testutil.SampleTasks.CS2100_TUTORIAL_HOMEWORK;
+import static seedu.studybananas.testutil.SampleTasks.CS2101_FEEDBACK;
+import static seedu.studybananas.testutil.SampleTasks.CS2103T_WEEK8_QUIZ;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.studybananas.testutil.TaskBuilder;
+
+public class TaskIdentityTest {
+
+    @Test
+    public void equals_sameTaskDifferentCase_returnsTrue() {
+        Task editedCs2103T = new TaskBuilder(CS2103T_WEEK8_QUIZ).withTitle("cs2103t")
+                .withDescription("WEEK 8 QUIZ").build();
+        assertTrue(CS2103T_WEEK8_QUIZ.isSameTask(editedCs2103T));
+        assertEquals(CS2103T_WEEK8_QUIZ.getIdentity(), editedCs2103T.getIdentity());
+        assertEquals(CS2103T_WEEK8_QUIZ.getIdentity().hashCode(), editedCs2103T.getIdentity().hashCode());
+    }
+
+    @Test
+    public void equals_differentTask_returnsFalse() {
+        assertNotEquals(CS2103T_WEEK8_QUIZ.getIdentity(), CS2100_TUTORIAL_HOMEWORK.getIdentity());
+
+        // different duration -> returns false
+        Task editedCs2103T = new TaskBuilder(CS2103T_WEEK8_QUIZ).withDuration("200").build();
+        assertFalse(CS2103T_WEEK8_QUIZ.isSameTask(editedCs2103T));
+        assertNotEquals(CS2103T_WEEK8_QUIZ.getIdentity(), editedCs2103T.getIdentity());
+
+        // missing date time -> returns false
+        Task editedCs2101 = new TaskBuilder(CS2101_FEEDBACK).withDateTime("2020-10-10 10:00").build();
+        assertFalse(CS2101_FEEDBACK.isSameTask(editedCs2101));
+        assertNotEquals(CS2101_FEEDBACK.getIdentity(), editedCs2101.getIdentity());
+    }
+
+    @Test
+    public void equals_longDurations_consistentWithIsSameTask() {
+        Task longTask = new TaskBuilder().withDuration("300").build();
+        Task sameLongTask = new TaskBuilder().withDuration("300").build();
+        assertTrue(longTask.isSameTask(sameLongTask));
+        assertEquals(longTask.getIdentity(), sameLongTask.getIdentity());
+    }
+}
@@ -0,0 +1,100 @@
+package seedu.studybananas.model.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.studybananas.testutil.SampleTasks.CS2100_TUTORIAL_HOMEWORK;
+import static seedu.studybananas.testutil.SampleTasks.CS2101_FEEDBACK;
+import static seedu.studybananas.testutil.SampleTasks.CS2103T_WEEK8_QUIZ;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.studybananas.testutil.TaskBuilder;
+
+public class TaskIntervalTreeTest {
+
+    private final TaskIntervalTree intervalTree = new TaskIntervalTree();
+
+    @Test
+    public void insert_taskWithoutDateTime_notStored() {
+        intervalTree.insert(CS2101_FEEDBACK);
+        assertEquals(0, intervalTree.size());
+        assertFalse(intervalTree.hasOverlap(CS2101_FEEDBACK, null));
+    }
+
+    @Test
+    public void hasOverlap_overlappingTask_returnsTrue() {
+        intervalTree.insert(CS2103T_WEEK8_QUIZ);
+        Task overlapping = new TaskBuilder().withDateTime("2020-09-27 12:20").withDuration("30").build();
+        assertTrue(intervalTree.hasOverlap(overlapping, null));
+    }
+
+    @Test
+    public void hasOverlap_adjacentTask_returnsFalse() {
+        intervalTree.insert(CS2103T_WEEK8_QUIZ);
+        Task adjacent = new TaskBuilder().withDateTime("2020-09-27 12:30").withDuration("30").build();
+        assertFalse(intervalTree.hasOverlap(adjacent, null));
+    }
+
+    @Test
+    public void hasOverlap_exceptionTask_ignored() {
+        intervalTree.insert(CS2103T_WEEK8_QUIZ);
+        assertTrue(intervalTree.hasOverlap(CS2103T_WEEK8_QUIZ, null));
+        assertFalse(intervalTree.hasOverlap(CS2103T_WEEK8_QUIZ, CS2103T_WEEK8_QUIZ));
+    }
+
+    @Test
+    public void remove_storedTask_removesTask() {
+        intervalTree.insert(CS2103T_WEEK8_QUIZ);
+        intervalTree.insert(CS2100_TUTORIAL_HOMEWORK);
+        assertTrue(intervalTree.remove(CS2103T_WEEK8_QUIZ));
+        assertFalse(intervalTree.remove(CS2103T_WEEK8_QUIZ));
+        assertEquals(1, intervalTree.size());
+        assertFalse(intervalTree.hasOverlap(CS2103T_WEEK8_QUIZ, null));
+    }
+
+    @Test
+    public void rebuild_list_replacesContents() {
+        intervalTree.insert(CS2103T_WEEK8_QUIZ);
+        intervalTree.rebuild(Arrays.asList(CS2100_TUTORIAL_HOMEWORK, CS2101_FEEDBACK));
+        assertEquals(1, intervalTree.size());
+        assertFalse(intervalTree.hasOverlap(CS2103T_WEEK8_QUIZ, null));
+        assertTrue(intervalTree.hasOverlap(CS2100_TUTORIAL_HOMEWORK, null));
+    }
+
+    @Test
+    public void hasOverlap_randomOperations_matchesLinearScan() {
+        Random random = new Random(2103);
+        List<Task> stored = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            Task task = randomTask(random, i);
+            if (random.nextInt(4) == 0 && !stored.isEmpty()) {
+                Task removed = stored.remove(random.nextInt(stored.size()));
+                assertTrue(intervalTree.remove(removed));
+            } else {
+                stored.add(task);
+                intervalTree.insert(task);
+            }
+            Task query = randomTask(random, -i);
+            boolean expected = stored.stream().anyMatch(storedTask -> storedTask.isDateTimeOverlapped(query));
+            assertEquals(expected, intervalTree.hasOverlap(query, null));
+            assertEquals(stored.stream().filter(storedTask -> storedTask.isDateTimeOverlapped(query)).count(),
+                    intervalTree.getOverlappingTasks(query).size());
+        }
+        assertEquals(stored.size(), intervalTree.size());
+    }
+
+    private Task randomTask(Random random, int id) {
+        int hour = 10 + random.nextInt(12);
+        int minute = random.nextInt(4) * 15;
+        return new TaskBuilder().withTitle("Task " + id)
+                .withDateTime(String.format("2020-10-%02d %02d:%02d", 1 + random.nextInt(3), hour, minute))
+                .withDuration(String.valueOf(random.nextInt(180)))
+                .build();
+    }
+}
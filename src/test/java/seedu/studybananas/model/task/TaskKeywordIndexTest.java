@@ -0,0 +1,77 @@
+package seedu.studybananas.model.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.studybananas.testutil.SampleTasks.CS2100_FINAL;
+import static seedu.studybananas.testutil.SampleTasks.CS2100_TUTORIAL_HOMEWORK;
+import static seedu.studybananas.testutil.SampleTasks.CS2101_FEEDBACK;
+import static seedu.studybananas.testutil.SampleTasks.ST2334_ASSIGNMENT;
+import static seedu.studybananas.testutil.SampleTasks.getSampleTasks;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.studybananas.testutil.TaskBuilder;
+
+public class TaskKeywordIndexTest {
+
+    private final TaskKeywordIndex index = new TaskKeywordIndex();
+
+    @Test
+    public void search_sampleTasks_sameAsPredicate() {
+        List<Task> tasks = getSampleTasks();
+        index.setTasks(tasks);
+        List<List<String>> searches = Arrays.asList(
+                Collections.emptyList(),
+                Arrays.asList("cs2100"),
+                Arrays.asList("CS2101", "CS2103T"),
+                Arrays.asList("pipeline", "HOMEWORK"),
+                Arrays.asList("Pipeline", "Assignment"),
+                Arrays.asList("quiz"),
+                Arrays.asList("quiz,", "(chapter"),
+                Arrays.asList("2020-10-01", "23:00"),
+                Arrays.asList("2020-10-01", "1:00"),
+                Arrays.asList("Thursday,", "Oct", "2020"),
+                Arrays.asList("nov", "30"),
+                Arrays.asList("2020"));
+        for (List<String> keywords : searches) {
+            InfoContainsKeywordsPredicate predicate = new InfoContainsKeywordsPredicate(keywords);
+            Set<Task> expected = tasks.stream().filter(predicate).collect(Collectors.toSet());
+            assertEquals(expected, index.search(keywords), keywords.toString());
+        }
+    }
+
+    @Test
+    public void search_titleKeywords_matchesAny() {
+        index.setTasks(getSampleTasks());
+        assertEquals(new HashSet<>(Arrays.asList(CS2100_TUTORIAL_HOMEWORK, CS2100_FINAL, CS2101_FEEDBACK)),
+                index.search(Arrays.asList("cs2100", "CS2101", "unknown")));
+    }
+
+    @Test
+    public void search_keywordNotSingleWordWithoutPunctuation_noMatch() {
+        index.setTasks(getSampleTasks());
+        assertEquals(Collections.emptySet(), index.search(Arrays.asList("Chapter,2")));
+        assertEquals(Collections.emptySet(), index.search(Arrays.asList(",")));
+    }
+
+    @Test
+    public void addAndRemove_updatesIndex() {
+        index.add(ST2334_ASSIGNMENT);
+        Task edited = new TaskBuilder(ST2334_ASSIGNMENT).withDescription("Chapter 3 Quiz").build();
+        index.remove(ST2334_ASSIGNMENT);
+        index.add(edited);
+
+        assertEquals(Collections.singleton(edited), index.search(Arrays.asList("chapter", "3")));
+        assertEquals(Collections.emptySet(), index.search(Arrays.asList("chapter", "2")));
+
+        // removal is by equality
+        index.remove(new TaskBuilder(edited).build());
+        assertEquals(Collections.emptySet(), index.search(Arrays.asList("ST2334")));
+    }
+}
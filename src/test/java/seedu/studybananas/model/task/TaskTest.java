@@ -84,6 +84,32 @@ public class TaskTest {
         assertFalse(CS2103T_WEEK8_QUIZ.isDateTimeOverlapped(CS2100_TUTORIAL_HOMEWORK));
     }
 
+    @Test
+    public void getEpochMinutes() {
+        Task task = new TaskBuilder(CS2103T_WEEK8_QUIZ).withDateTime("1970-01-02 01:30").withDuration("45").build();
+        assertEquals(DateTime.MINUTES_PER_DAY + 90, task.getStartEpochMinute());
+        assertEquals(DateTime.MINUTES_PER_DAY + 135, task.getEndEpochMinute());
+
+        // no duration -> ends when it starts
+        task = new TaskBuilder(CS2103T_WEEK8_QUIZ).withDateTime("1970-01-02 01:30").withDuration("").build();
+        assertEquals(task.getStartEpochMinute(), task.getEndEpochMinute());
+    }
+
+    @Test
+    public void happensOn() {
+        LocalDate date = LocalDate.of(2020, 11, 6);
+        Task task = new TaskBuilder(CS2103T_WEEK8_QUIZ).withDateTime("2020-11-06 23:30").withDuration("60").build();
+        assertTrue(task.happensOn(date));
+        // extends into the next day
+        assertTrue(task.happensOn(date.plusDays(1)));
+        assertFalse(task.happensOn(date.minusDays(1)));
+        assertFalse(task.happensOn(date.plusDays(2)));
+
+        // no duration -> returns false
+        task = new TaskBuilder(CS2103T_WEEK8_QUIZ).withDateTime("2020-11-06 12:00").withDuration("").build();
+        assertFalse(task.happensOn(date));
+    }
+
     @Test
     public void isLongerThanAnHour_taskDurationIsLongerThanAnHour_returnsTrue() {
         String todayDateString = LocalDate.now().toString();
@@ -0,0 +1,140 @@
+package seedu.studybananas.model.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.studybananas.model.task.TaskTrigramIndex.EXACT_MATCH_SCORE;
+import static seedu.studybananas.model.task.TaskTrigramIndex.FUZZY_MATCH_SCORE;
+import static seedu.studybananas.model.task.TaskTrigramIndex.PREFIX_MATCH_SCORE;
+import static seedu.studybananas.model.task.TaskTrigramIndex.TITLE_WEIGHT;
+import static seedu.studybananas.testutil.Assert.assertThrows;
+import static seedu.studybananas.testutil.SampleTasks.CS2100_FINAL;
+import static seedu.studybananas.testutil.SampleTasks.CS2100_TUTORIAL_HOMEWORK;
+import static seedu.studybananas.testutil.SampleTasks.CS2101_FEEDBACK;
+import static seedu.studybananas.testutil.SampleTasks.CS2103T_WEEK8_QUIZ;
+import static seedu.studybananas.testutil.SampleTasks.ST2334_ASSIGNMENT;
+import static seedu.studybananas.testutil.SampleTasks.getSampleTasks;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.studybananas.testutil.TaskBuilder;
+
+public class TaskTrigramIndexTest {
+
+    private static final Task ALGORITHMS = new TaskBuilder().withTitle("Algorithms")
+            .withDescription("Dynamic programming").withDateTime("2020-10-05 09:00").withDuration("60")
+            .build();
+
+    private TaskTrigramIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new TaskTrigramIndex();
+        List<Task> tasks = getSampleTasks();
+        tasks.add(ALGORITHMS);
+        index.setTasks(tasks);
+    }
+
+    @Test
+    public void search_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.search(null));
+    }
+
+    @Test
+    public void search_noMatch_returnsEmptyMap() {
+        assertTrue(index.search(Collections.emptyList()).isEmpty());
+        assertTrue(index.search(Collections.singletonList("pterodactyl")).isEmpty());
+        assertTrue(index.search(Collections.singletonList("?!")).isEmpty());
+    }
+
+    @Test
+    public void search_exactWord_scoresExactMatch() {
+        assertEquals(Collections.singletonMap(CS2100_TUTORIAL_HOMEWORK, EXACT_MATCH_SCORE),
+                index.search(Collections.singletonList("HOMEWORK")));
+    }
+
+    @Test
+    public void search_startOfWord_scoresPrefixMatch() {
+        assertEquals(Collections.singletonMap(ALGORITHMS, PREFIX_MATCH_SCORE * TITLE_WEIGHT),
+                index.search(Collections.singletonList("algo")));
+
+        Map<Task, Integer> expected = new HashMap<>();
+        expected.put(CS2100_TUTORIAL_HOMEWORK, PREFIX_MATCH_SCORE * TITLE_WEIGHT);
+        expected.put(CS2100_FINAL, PREFIX_MATCH_SCORE * TITLE_WEIGHT);
+        expected.put(CS2101_FEEDBACK, PREFIX_MATCH_SCORE * TITLE_WEIGHT);
+        expected.put(CS2103T_WEEK8_QUIZ, PREFIX_MATCH_SCORE * TITLE_WEIGHT);
+        assertEquals(expected, index.search(Collections.singletonList("cs21")));
+    }
+
+    @Test
+    public void search_misspeltWord_scoresFuzzyMatch() {
+        // missing letter
+        assertEquals(Collections.singletonMap(ALGORITHMS, FUZZY_MATCH_SCORE * TITLE_WEIGHT),
+                index.search(Collections.singletonList("algoritms")));
+        // wrong letter, of an incomplete word
+        assertEquals(Collections.singletonMap(ALGORITHMS, FUZZY_MATCH_SCORE),
+                index.search(Collections.singletonList("prugram")));
+        // too many edits
+        assertTrue(index.search(Collections.singletonList("axxoxithms")).isEmpty());
+        // short keywords must match exactly
+        assertTrue(index.search(Collections.singletonList("dnm")).isEmpty());
+    }
+
+    @Test
+    public void search_multipleKeywords_scoresAddUp() {
+        Map<Task, Integer> expected = new HashMap<>();
+        expected.put(CS2103T_WEEK8_QUIZ, EXACT_MATCH_SCORE + EXACT_MATCH_SCORE);
+        expected.put(ST2334_ASSIGNMENT, EXACT_MATCH_SCORE);
+        assertEquals(expected, index.search(Arrays.asList("quiz", "week")));
+    }
+
+    @Test
+    public void search_keywordInTitleAndDescription_scoresBestMatch() {
+        Task task = new TaskBuilder().withTitle("Quiz").withDescription("Quizzes").build();
+        index.add(task);
+        assertEquals(EXACT_MATCH_SCORE * TITLE_WEIGHT, index.search(Collections.singletonList("quiz")).get(task));
+    }
+
+    @Test
+    public void remove_task_noLongerFound() {
+        index.remove(ALGORITHMS);
+        assertTrue(index.search(Collections.singletonList("algo")).isEmpty());
+
+        // words shared with other tasks are still found
+        index.remove(CS2103T_WEEK8_QUIZ);
+        assertEquals(Collections.singletonMap(ST2334_ASSIGNMENT, EXACT_MATCH_SCORE),
+                index.search(Collections.singletonList("quiz")));
+    }
+
+    @Test
+    public void getTrigrams() {
+        assertEquals(new HashSet<>(Arrays.asList("$$a", "$al", "alg", "lgo")), TaskTrigramIndex.getTrigrams("algo"));
+        assertEquals(Collections.singleton("$$a"), TaskTrigramIndex.getTrigrams("a"));
+    }
+
+    @Test
+    public void getPrefixEditDistance() {
+        assertEquals(0, TaskTrigramIndex.getPrefixEditDistance("algo", "algorithms", 1));
+        assertEquals(1, TaskTrigramIndex.getPrefixEditDistance("algoritms", "algorithms", 2));
+        assertEquals(2, TaskTrigramIndex.getPrefixEditDistance("aglorithm", "algorithms", 2));
+
+        // more edits than allowed
+        assertEquals(2, TaskTrigramIndex.getPrefixEditDistance("xlxo", "algorithms", 1));
+        assertEquals(2, TaskTrigramIndex.getPrefixEditDistance("algos", "alg", 1));
+    }
+
+    @Test
+    public void getMaxEditDistance() {
+        assertEquals(0, TaskTrigramIndex.getMaxEditDistance(3));
+        assertEquals(1, TaskTrigramIndex.getMaxEditDistance(4));
+        assertEquals(1, TaskTrigramIndex.getMaxEditDistance(7));
+        assertEquals(2, TaskTrigramIndex.getMaxEditDistance(8));
+    }
+}
@@ -14,6 +14,7 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 
 import seedu.studybananas.model.task.exceptions.DuplicateTaskException;
+import seedu.studybananas.model.task.exceptions.OverlapTaskException;
 import seedu.studybananas.model.task.exceptions.TaskNotFoundException;
 import seedu.studybananas.testutil.TaskBuilder;
 
@@ -57,6 +58,30 @@ public class UniqueTaskListTest {
         assertThrows(DuplicateTaskException.class, () -> uniqueTaskList.add(CS2103T_WEEK8_QUIZ));
     }
 
+    @Test
+    public void add_overlappingTask_throwsOverlapTaskException() {
+        uniqueTaskList.add(CS2103T_WEEK8_QUIZ);
+        Task overlappingTask = new TaskBuilder().withTitle("CS2101")
+                .withDateTime("2020-09-27 12:15").withDuration("60").build();
+        assertThrows(OverlapTaskException.class, () -> uniqueTaskList.add(overlappingTask));
+    }
+
+    @Test
+    public void isTaskOverlapped_afterRemovingTask_returnsFalse() {
+        uniqueTaskList.add(CS2103T_WEEK8_QUIZ);
+        uniqueTaskList.remove(new TaskBuilder(CS2103T_WEEK8_QUIZ).build());
+        assertFalse(uniqueTaskList.isTaskOverlapped(null, CS2103T_WEEK8_QUIZ));
+    }
+
+    @Test
+    public void isTaskOverlapped_afterSetTasks_usesNewTasks() {
+        uniqueTaskList.add(CS2103T_WEEK8_QUIZ);
+        uniqueTaskList.setTasks(Collections.singletonList(CS2100_TUTORIAL_HOMEWORK));
+        assertFalse(uniqueTaskList.isTaskOverlapped(null, CS2103T_WEEK8_QUIZ));
+        assertTrue(uniqueTaskList.isTaskOverlapped(null, CS2100_TUTORIAL_HOMEWORK));
+        assertFalse(uniqueTaskList.isTaskOverlapped(CS2100_TUTORIAL_HOMEWORK, CS2100_TUTORIAL_HOMEWORK));
+    }
+
     @Test
     public void setTask_nullTargetTask_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueTaskList.setTask(null, CS2103T_WEEK8_QUIZ));
@@ -86,6 +111,7 @@ public class UniqueTaskListTest {
         UniqueTaskList expectedUniqueTaskList = new UniqueTaskList();
         expectedUniqueTaskList.add(CS2100_TUTORIAL_HOMEWORK);
         assertEquals(expectedUniqueTaskList, uniqueTaskList);
+        assertFalse(uniqueTaskList.isTaskOverlapped(null, CS2103T_WEEK8_QUIZ));
     }
 
     @Test
@@ -0,0 +1,43 @@
+package seedu.studybananas.model.task.timeformat;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class StandardDateTimeTest {
+
+    private final StandardDateTime standardDateTime = new StandardDateTime();
+
+    @Test
+    public void parse_standardFormat_success() {
+        assertEquals(Optional.of(LocalDateTime.of(2020, 11, 10, 9, 5)), standardDateTime.parse("2020-11-10 09:05"));
+        assertEquals(Optional.of(LocalDateTime.of(2020, 2, 29, 23, 59)), standardDateTime.parse("2020-02-29 23:59"));
+    }
+
+    @Test
+    public void parse_otherFormats_emptyResult() {
+        assertFalse(standardDateTime.parse("2020-11-10").isPresent());
+        assertFalse(standardDateTime.parse("today 10:00").isPresent());
+        assertFalse(standardDateTime.parse("2020/11/10 09:05").isPresent());
+        assertFalse(standardDateTime.parse("2020-11-10T09:05").isPresent());
+        assertFalse(standardDateTime.parse("2020-1a-10 09:05").isPresent());
+        assertFalse(standardDateTime.parse("").isPresent());
+    }
+
+    @Test
+    public void parse_sameResultAsIsoDateTime() {
+        IsoDateTime isoDateTime = new IsoDateTime();
+        List<String> dateTimes = List.of("2020-11-10 09:05", "2021-02-29 10:00", "2020-02-29 10:00",
+                "1900-02-29 10:00", "2000-02-29 10:00", "2020-04-31 10:00", "2020-12-31 23:59", "2020-00-10 10:00",
+                "2020-11-00 10:00", "2020-11-10 24:00", "2020-11-10 10:60", "0000-01-01 00:00", "+020-11-10 10:00",
+                "2020-11-10 -1:00");
+        for (String dateTime : dateTimes) {
+            assertEquals(isoDateTime.parse(dateTime), standardDateTime.parse(dateTime), dateTime);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.studybananas.model.task.timeformat;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.studybananas.testutil.Assert.assertThrows;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.studybananas.model.task.exceptions.TimeFormatException;
+
+public class TimeFormatCheckerTest {
+
+    @Test
+    public void parse_validFormats_success() {
+        assertEquals(Optional.of(LocalDateTime.of(2020, 11, 10, 9, 0)), TimeFormatChecker.parse("2020-11-10 09:00"));
+        assertEquals(Optional.of(LocalDateTime.of(2020, 10, 10, 12, 0)), TimeFormatChecker.parse("2020-10-10"));
+        assertEquals(Optional.of(LocalDateTime.of(2020, 10, 29, 8, 0)),
+                TimeFormatChecker.parse("Thursday, Oct 29 2020 08:00"));
+        assertEquals(Optional.of(LocalDateTime.of(2020, 10, 29, 12, 0)),
+                TimeFormatChecker.parse("Thursday, Oct 29 2020"));
+        assertEquals(Optional.of(LocalDateTime.of(LocalDate.now().plusDays(1), LocalTime.of(13, 0))),
+                TimeFormatChecker.parse("tomorrow 13:00"));
+        assertEquals(DayOfWeek.WEDNESDAY, TimeFormatChecker.parse("wed 23:00").get().getDayOfWeek());
+    }
+
+    @Test
+    public void parse_invalidDates_emptyResult() {
+        assertFalse(TimeFormatChecker.parse("2020-02-30 10:00").isPresent()); // no such day
+        assertFalse(TimeFormatChecker.parse("2021-02-29").isPresent()); // not a leap year
+        assertFalse(TimeFormatChecker.parse("2020-13-01").isPresent()); // no such month
+        assertFalse(TimeFormatChecker.parse("Monday, Oct 29 2020").isPresent()); // wrong day of week
+        assertFalse(TimeFormatChecker.parse("2020-10-10 24:00").isPresent()); // no such hour
+        assertFalse(TimeFormatChecker.parse("2020-10-10 10:00 12:00").isPresent()); // trailing text
+        assertFalse(TimeFormatChecker.parse("today 25:00").isPresent());
+        assertFalse(TimeFormatChecker.parse("someday").isPresent());
+        assertFalse(TimeFormatChecker.parse("   ").isPresent());
+        assertFalse(TimeFormatChecker.parse("").isPresent());
+    }
+
+    @Test
+    public void mapToLocalDateTime_invalidDate_throwsTimeFormatException() {
+        assertThrows(TimeFormatException.class, () -> TimeFormatChecker.mapToLocalDateTime("2020-02-30"));
+    }
+}
@@ -0,0 +1,162 @@
+package seedu.studybananas.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.studybananas.testutil.Assert.assertThrows;
+import static seedu.studybananas.testutil.SampleTasks.CS2101_OP2;
+import static seedu.studybananas.testutil.SampleTasks.getSampleSchedule;
+import static seedu.studybananas.testutil.TypicalFlashcards.HOOKES_LAW;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.studybananas.model.flashcard.FlashcardSet;
+import seedu.studybananas.model.systemlevelmodel.FlashcardBank;
+import seedu.studybananas.model.systemlevelmodel.ReadOnlySchedule;
+import seedu.studybananas.model.systemlevelmodel.Schedule;
+import seedu.studybananas.storage.flashcardstorage.JsonFlashcardBankStorage;
+import seedu.studybananas.storage.quizstorage.JsonQuizRecordsStorage;
+import seedu.studybananas.storage.schedulestorage.JsonScheduleStorage;
+import seedu.studybananas.testutil.FlashcardSetBuilder;
+
+public class WriteBehindStorageManagerTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private WriteBehindStorageManager createStorageManager(JsonScheduleStorage scheduleStorage) {
+        return new WriteBehindStorageManager(scheduleStorage,
+                new JsonFlashcardBankStorage(testFolder.resolve("flbank")),
+                new JsonQuizRecordsStorage(testFolder.resolve("qzrds")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs")));
+    }
+
+    @Test
+    public void saveSchedule_thenFlush_written() throws Exception {
+        WriteBehindStorageManager storageManager =
+                createStorageManager(new JsonScheduleStorage(testFolder.resolve("sch")));
+        Schedule original = getSampleSchedule();
+        storageManager.saveSchedule(original);
+        storageManager.flush();
+        assertEquals(original, new Schedule(new JsonScheduleStorage(testFolder.resolve("sch")).readSchedule().get()));
+    }
+
+    @Test
+    public void saveFlashcardBank_modifiedAfterSave_snapshotWritten() throws Exception {
+        WriteBehindStorageManager storageManager =
+                createStorageManager(new JsonScheduleStorage(testFolder.resolve("sch")));
+        FlashcardSet flashcardSet = new FlashcardSetBuilder().build();
+        FlashcardBank original = new FlashcardBank();
+        original.addFlashcardSet(flashcardSet);
+        FlashcardBank expected = new FlashcardBank();
+        expected.addFlashcardSet(new FlashcardSetBuilder().build());
+
+        storageManager.saveFlashcardBank(original);
+        original.addFlashcard(flashcardSet, HOOKES_LAW);
+        storageManager.flush();
+
+        assertEquals(expected, new FlashcardBank(storageManager.readFlashcardBank().get()));
+    }
+
+    @Test
+    public void saveSchedule_burstOfSaves_coalesced() throws Exception {
+        CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        CountDownLatch firstWriteReleased = new CountDownLatch(1);
+        BlockingScheduleStorageStub scheduleStorage = new BlockingScheduleStorageStub(
+                testFolder.resolve("sch"), firstWriteStarted, firstWriteReleased);
+        WriteBehindStorageManager storageManager = createStorageManager(scheduleStorage);
+        Schedule schedule = getSampleSchedule();
+
+        storageManager.saveSchedule(schedule);
+        firstWriteStarted.await();
+
+        // Saves made while the writer is busy are merged into one write of the latest schedule
+        storageManager.saveSchedule(schedule);
+        storageManager.saveSchedule(schedule);
+        schedule.addTask(CS2101_OP2);
+        storageManager.saveSchedule(schedule);
+        firstWriteReleased.countDown();
+        storageManager.flush();
+
+        assertEquals(2, scheduleStorage.writeCount.get());
+        assertEquals(schedule, new Schedule(storageManager.readSchedule().get()));
+    }
+
+    @Test
+    public void flush_saveFailed_throwsIoExceptionAndRetries() throws Exception {
+        FailingScheduleStorageStub scheduleStorage = new FailingScheduleStorageStub(testFolder.resolve("sch"));
+        WriteBehindStorageManager storageManager = createStorageManager(scheduleStorage);
+        Schedule original = getSampleSchedule();
+
+        storageManager.saveSchedule(original);
+        assertThrows(IOException.class, storageManager::flush);
+
+        // The failed write is retried on the next flush
+        scheduleStorage.isFailing = false;
+        storageManager.flush();
+        assertEquals(original, new Schedule(storageManager.readSchedule().get()));
+    }
+
+    @Test
+    public void checkBackgroundSaveFailure_saveFailed_throwsOnce() throws Exception {
+        FailingScheduleStorageStub scheduleStorage = new FailingScheduleStorageStub(testFolder.resolve("sch"));
+        WriteBehindStorageManager storageManager = createStorageManager(scheduleStorage);
+        storageManager.saveSchedule(getSampleSchedule());
+        storageManager.readSchedule(); // waits for the failed write
+
+        assertThrows(IOException.class, storageManager::checkBackgroundSaveFailure);
+        storageManager.checkBackgroundSaveFailure();
+    }
+
+    /**
+     * A stub that counts its writes and blocks the first one until released.
+     */
+    private static class BlockingScheduleStorageStub extends JsonScheduleStorage {
+        private final AtomicInteger writeCount = new AtomicInteger();
+        private final CountDownLatch firstWriteStarted;
+        private final CountDownLatch firstWriteReleased;
+
+        private BlockingScheduleStorageStub(Path filePath, CountDownLatch firstWriteStarted,
+                                            CountDownLatch firstWriteReleased) {
+            super(filePath);
+            this.firstWriteStarted = firstWriteStarted;
+            this.firstWriteReleased = firstWriteReleased;
+        }
+
+        @Override
+        public void saveSchedule(ReadOnlySchedule schedule, Path filePath) throws IOException {
+            if (writeCount.getAndIncrement() == 0) {
+                firstWriteStarted.countDown();
+                try {
+                    firstWriteReleased.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+            }
+            super.saveSchedule(schedule, filePath);
+        }
+    }
+
+    /**
+     * A stub that throws an {@code IOException} on save until told otherwise.
+     */
+    private static class FailingScheduleStorageStub extends JsonScheduleStorage {
+        private volatile boolean isFailing = true;
+
+        private FailingScheduleStorageStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveSchedule(ReadOnlySchedule schedule, Path filePath) throws IOException {
+            if (isFailing) {
+                throw new IOException("dummy exception");
+            }
+            super.saveSchedule(schedule, filePath);
+        }
+    }
+}
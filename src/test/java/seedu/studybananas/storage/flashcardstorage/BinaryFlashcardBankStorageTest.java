@@ -0,0 +1,100 @@
+package seedu.studybananas.storage.flashcardstorage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.studybananas.testutil.Assert.assertThrows;
+import static seedu.studybananas.testutil.TypicalFlashcardSets.PHYSICS;
+import static seedu.studybananas.testutil.TypicalFlashcardSets.getTypicalFlashcardBank;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.studybananas.commons.exceptions.DataConversionException;
+import seedu.studybananas.model.systemlevelmodel.FlashcardBank;
+import seedu.studybananas.model.systemlevelmodel.QuizRecords;
+import seedu.studybananas.storage.StorageFormatConverter;
+import seedu.studybananas.storage.quizstorage.BinaryQuizRecordsStorage;
+import seedu.studybananas.testutil.FlashcardSetBuilder;
+
+public class BinaryFlashcardBankStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readFlashcardBank_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryFlashcardBankStorage(testFolder.resolve("flbank.bin")).readFlashcardBank(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryFlashcardBankStorage(testFolder.resolve("NonExistentFile.bin"))
+                .readFlashcardBank().isPresent());
+    }
+
+    @Test
+    public void read_notBinaryFormat_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("flbank.bin");
+        Files.writeString(filePath, "{ \"flashcardSets\": [] }");
+        assertThrows(DataConversionException.class, () -> new BinaryFlashcardBankStorage(filePath)
+                .readFlashcardBank());
+    }
+
+    @Test
+    public void read_quizRecordsSnapshot_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("qzrds.bin");
+        new BinaryQuizRecordsStorage(filePath).saveQuizRecords(new QuizRecords());
+        assertThrows(DataConversionException.class, () -> new BinaryFlashcardBankStorage(filePath)
+                .readFlashcardBank());
+    }
+
+    @Test
+    public void read_truncatedFile_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("flbank.bin");
+        new BinaryFlashcardBankStorage(filePath).saveFlashcardBank(getTypicalFlashcardBank());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 1));
+        assertThrows(DataConversionException.class, () -> new BinaryFlashcardBankStorage(filePath)
+                .readFlashcardBank());
+    }
+
+    @Test
+    public void readAndSaveFlashcardBank_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempFlashcardBank.bin");
+        FlashcardBank original = getTypicalFlashcardBank();
+        BinaryFlashcardBankStorage binaryFlashcardBankStorage = new BinaryFlashcardBankStorage(filePath);
+
+        // Save in new file and read back
+        binaryFlashcardBankStorage.saveFlashcardBank(original, filePath);
+        assertEquals(original, new FlashcardBank(binaryFlashcardBankStorage.readFlashcardBank(filePath).get()));
+
+        // Modify data, overwrite exiting file, and read back
+        original.setFlashcardSet(PHYSICS, new FlashcardSetBuilder().build());
+        binaryFlashcardBankStorage.saveFlashcardBank(original);
+        assertEquals(original, new FlashcardBank(binaryFlashcardBankStorage.readFlashcardBank().get()));
+    }
+
+    @Test
+    public void convertFlashcardBank_jsonToBinaryAndBack_success() throws Exception {
+        FlashcardBank original = getTypicalFlashcardBank();
+        JsonFlashcardBankStorage jsonStorage = new JsonFlashcardBankStorage(testFolder.resolve("flbank.json"));
+        BinaryFlashcardBankStorage binaryStorage = new BinaryFlashcardBankStorage(testFolder.resolve("flbank.bin"));
+        JsonFlashcardBankStorage convertedBackStorage =
+                new JsonFlashcardBankStorage(testFolder.resolve("converted.json"));
+        jsonStorage.saveFlashcardBank(original);
+
+        assertTrue(StorageFormatConverter.convertFlashcardBank(jsonStorage, binaryStorage));
+        assertTrue(StorageFormatConverter.convertFlashcardBank(binaryStorage, convertedBackStorage));
+        assertEquals(original, new FlashcardBank(convertedBackStorage.readFlashcardBank().get()));
+
+        // Missing source file
+        assertFalse(StorageFormatConverter.convertFlashcardBank(
+                new JsonFlashcardBankStorage(testFolder.resolve("missing.json")), binaryStorage));
+    }
+}
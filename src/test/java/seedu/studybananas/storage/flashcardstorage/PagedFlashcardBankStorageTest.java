@@ -0,0 +1,125 @@
+package seedu.studybananas.storage.flashcardstorage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.studybananas.testutil.Assert.assertThrows;
+import static seedu.studybananas.testutil.TypicalFlashcardSets.ECONOMICS;
+import static seedu.studybananas.testutil.TypicalFlashcardSets.getTypicalFlashcardBank;
+import static seedu.studybananas.testutil.TypicalFlashcards.NEWTONS_SECOND_LAW;
+import static seedu.studybananas.testutil.TypicalFlashcards.OPPORTUNITY_COST;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.studybananas.commons.exceptions.DataConversionException;
+import seedu.studybananas.model.flashcard.FlashcardSet;
+import seedu.studybananas.model.flashcard.exceptions.CorruptedFlashcardException;
+import seedu.studybananas.model.systemlevelmodel.FlashcardBank;
+
+public class PagedFlashcardBankStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new PagedFlashcardBankStorage(testFolder.resolve("NonExistentFile.bin"))
+                .readFlashcardBank().isPresent());
+    }
+
+    @Test
+    public void read_notBinaryFormat_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("flbank.bin");
+        Files.writeString(filePath, "{ \"flashcardSets\": [] }");
+        assertThrows(DataConversionException.class, () -> new PagedFlashcardBankStorage(filePath)
+                .readFlashcardBank());
+    }
+
+    @Test
+    public void readFlashcardBank_invalidQuestion_reportedWhenSetDecoded() throws Exception {
+        Path filePath = testFolder.resolve("flbank.bin");
+        new BinaryFlashcardBankStorage(filePath).saveFlashcardBank(getTypicalFlashcardBank());
+
+        // A question starting with a space is corrupted, though its string is intact
+        byte[] snapshot = Files.readAllBytes(filePath);
+        byte[] question = NEWTONS_SECOND_LAW.getQuestion().question.getBytes(StandardCharsets.UTF_8);
+        snapshot[indexOf(snapshot, question)] = ' ';
+        Files.write(filePath, snapshot);
+
+        // Reading the bank does not look at the flashcards, only opening their set does
+        PagedFlashcardBankStorage storage = new PagedFlashcardBankStorage(filePath);
+        FlashcardBank readBack = new FlashcardBank(storage.readFlashcardBank().get());
+        assertThrows(CorruptedFlashcardException.class, () -> readBack.getFlashcardSetList().get(0).decode());
+        readBack.getFlashcardSetList().get(1).decode();
+        assertEquals(ECONOMICS.getFlashcards(), readBack.getFlashcardSetList().get(1).getFlashcards());
+
+        // The corrupted snapshot is not replaced by a save
+        assertThrows(IOException.class, () -> storage.saveFlashcardBank(readBack));
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+    }
+
+    @Test
+    public void readFlashcardBank_fileDeletedAfterRead_setsReadable() throws Exception {
+        Path filePath = testFolder.resolve("flbank.bin");
+        new BinaryFlashcardBankStorage(filePath).saveFlashcardBank(getTypicalFlashcardBank());
+
+        FlashcardBank readBack = new FlashcardBank(new PagedFlashcardBankStorage(filePath).readFlashcardBank().get());
+        Files.delete(filePath);
+        assertEquals(getTypicalFlashcardBank().getFlashcardSetList().get(0).getFlashcards(),
+                readBack.getFlashcardSetList().get(0).getFlashcards());
+    }
+
+    @Test
+    public void readFlashcardBank_binarySnapshot_setsPagedOut() throws Exception {
+        Path filePath = testFolder.resolve("flbank.bin");
+        FlashcardBank original = getTypicalFlashcardBank();
+        new BinaryFlashcardBankStorage(filePath).saveFlashcardBank(original);
+
+        FlashcardBank readBack = new FlashcardBank(new PagedFlashcardBankStorage(filePath).readFlashcardBank().get());
+        assertEquals(original, readBack);
+        for (int i = 0; i < original.getFlashcardSetList().size(); i++) {
+            FlashcardSet flashcardSet = readBack.getFlashcardSetList().get(i);
+            assertFalse(flashcardSet.isDecoded());
+            assertEquals(original.getFlashcardSetList().get(i).getFlashcards(), flashcardSet.getFlashcards());
+        }
+    }
+
+    @Test
+    public void saveFlashcardBank_modifiedPagedBank_success() throws Exception {
+        Path filePath = testFolder.resolve("flbank.bin");
+        PagedFlashcardBankStorage storage = new PagedFlashcardBankStorage(filePath);
+        storage.saveFlashcardBank(getTypicalFlashcardBank());
+
+        // Replacing the file keeps the sets read before it readable
+        FlashcardBank pagedBank = new FlashcardBank(storage.readFlashcardBank().get());
+        pagedBank.addFlashcard(pagedBank.getFlashcardSetList().get(0), OPPORTUNITY_COST);
+        storage.saveFlashcardBank(pagedBank);
+        assertEquals(getTypicalFlashcardBank().getFlashcardSetList().get(1).getFlashcards(),
+                pagedBank.getFlashcardSetList().get(1).getFlashcards());
+
+        FlashcardBank readBack = new FlashcardBank(storage.readFlashcardBank().get());
+        for (int i = 0; i < pagedBank.getFlashcardSetList().size(); i++) {
+            assertEquals(pagedBank.getFlashcardSetList().get(i).getFlashcards(),
+                    readBack.getFlashcardSetList().get(i).getFlashcards());
+        }
+    }
+
+    /**
+     * Returns the position of the first occurrence of {@code bytes} in {@code snapshot}.
+     */
+    private static int indexOf(byte[] snapshot, byte[] bytes) {
+        for (int i = 0; i + bytes.length <= snapshot.length; i++) {
+            if (Arrays.equals(snapshot, i, i + bytes.length, bytes, 0, bytes.length)) {
+                return i;
+            }
+        }
+        throw new AssertionError("Bytes not found in snapshot");
+    }
+}
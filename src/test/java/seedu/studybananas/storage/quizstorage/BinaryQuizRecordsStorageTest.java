@@ -0,0 +1,82 @@
+package seedu.studybananas.storage.quizstorage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.studybananas.testutil.Assert.assertThrows;
+import static seedu.studybananas.testutil.TypicalQuizzes.QUIZ_PHYSICS;
+import static seedu.studybananas.testutil.TypicalQuizzes.getTypicalQuizRecords;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.studybananas.commons.exceptions.DataConversionException;
+import seedu.studybananas.model.quiz.Quiz;
+import seedu.studybananas.model.systemlevelmodel.FlashcardBank;
+import seedu.studybananas.model.systemlevelmodel.QuizRecords;
+import seedu.studybananas.storage.StorageFormatConverter;
+import seedu.studybananas.storage.flashcardstorage.BinaryFlashcardBankStorage;
+
+public class BinaryQuizRecordsStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryQuizRecordsStorage(testFolder.resolve("NonExistentFile.bin"))
+                .readQuizRecords().isPresent());
+    }
+
+    @Test
+    public void read_flashcardBankSnapshot_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("flbank.bin");
+        new BinaryFlashcardBankStorage(filePath).saveFlashcardBank(new FlashcardBank());
+        assertThrows(DataConversionException.class, () -> new BinaryQuizRecordsStorage(filePath)
+                .readQuizRecords());
+    }
+
+    @Test
+    public void readAndSaveQuizRecords_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempQuizRecords.bin");
+        QuizRecords original = getTypicalQuizRecords();
+        BinaryQuizRecordsStorage binaryQuizRecordsStorage = new BinaryQuizRecordsStorage(filePath);
+
+        // Save in new file and read back
+        binaryQuizRecordsStorage.saveQuizRecords(original, filePath);
+        assertEquals(original, new QuizRecords(binaryQuizRecordsStorage.readQuizRecords(filePath).get()));
+
+        // Modify data, overwrite exiting file, and read back
+        original.removeQuiz(QUIZ_PHYSICS.getFlsetName());
+        binaryQuizRecordsStorage.saveQuizRecords(original);
+        assertEquals(original, new QuizRecords(binaryQuizRecordsStorage.readQuizRecords().get()));
+    }
+
+    @Test
+    public void readAndSaveQuizRecords_quizResults_preserved() throws Exception {
+        Path filePath = testFolder.resolve("TempQuizRecords.bin");
+        BinaryQuizRecordsStorage binaryQuizRecordsStorage = new BinaryQuizRecordsStorage(filePath);
+        binaryQuizRecordsStorage.saveQuizRecords(getTypicalQuizRecords());
+
+        QuizRecords readBack = new QuizRecords(binaryQuizRecordsStorage.readQuizRecords().get());
+        for (Quiz expected : getTypicalQuizRecords().getQuizRecordsMap().values()) {
+            Quiz actual = readBack.getQuizRecordsMap().get(expected.getFlsetName());
+            assertEquals(expected.getFlashcardSet(), actual.getFlashcardSet());
+            assertEquals(expected.getPointsScored(), actual.getPointsScored());
+            assertEquals(expected.getTotalScore(), actual.getTotalScore());
+        }
+    }
+
+    @Test
+    public void convertQuizRecords_jsonToBinary_success() throws Exception {
+        QuizRecords original = getTypicalQuizRecords();
+        JsonQuizRecordsStorage jsonStorage = new JsonQuizRecordsStorage(testFolder.resolve("qzrds.json"));
+        BinaryQuizRecordsStorage binaryStorage = new BinaryQuizRecordsStorage(testFolder.resolve("qzrds.bin"));
+        jsonStorage.saveQuizRecords(original);
+
+        assertTrue(StorageFormatConverter.convertQuizRecords(jsonStorage, binaryStorage));
+        assertEquals(original, new QuizRecords(binaryStorage.readQuizRecords().get()));
+    }
+}
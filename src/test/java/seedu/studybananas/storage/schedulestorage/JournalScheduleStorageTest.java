@@ -0,0 +1,256 @@
+package seedu.studybananas.storage.schedulestorage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.studybananas.testutil.Assert.assertThrows;
+import static seedu.studybananas.testutil.SampleTasks.CS2100_TUTORIAL_HOMEWORK;
+import static seedu.studybananas.testutil.SampleTasks.CS2101_OP2;
+import static seedu.studybananas.testutil.SampleTasks.CS2103T_WEEK8_QUIZ;
+import static seedu.studybananas.testutil.SampleTasks.getSampleSchedule;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.studybananas.commons.exceptions.DataConversionException;
+import seedu.studybananas.commons.util.FileUtil;
+import seedu.studybananas.model.systemlevelmodel.ReadOnlySchedule;
+import seedu.studybananas.model.systemlevelmodel.Schedule;
+import seedu.studybananas.model.task.Task;
+import seedu.studybananas.testutil.TaskBuilder;
+
+public class JournalScheduleStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readSchedule_nullFilePath_throwsNullPointerException() {
+        JournalScheduleStorage storage = new JournalScheduleStorage(testFolder.resolve("schedule.json"));
+        assertThrows(NullPointerException.class, () -> storage.readSchedule(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        JournalScheduleStorage storage = new JournalScheduleStorage(testFolder.resolve("NonExistentFile.json"));
+        assertFalse(storage.readSchedule().isPresent());
+    }
+
+    @Test
+    public void saveSchedule_mutations_appendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("schedule.json");
+        Path journalFilePath = JournalScheduleStorage.getJournalFilePath(filePath);
+        JournalScheduleStorage storage = new JournalScheduleStorage(filePath);
+        Schedule original = getSampleSchedule();
+
+        // First save writes a snapshot only
+        storage.saveSchedule(original);
+        assertTrue(Files.exists(filePath));
+        assertFalse(Files.exists(journalFilePath));
+
+        // Later saves append one record per mutation, leaving the snapshot untouched
+        String snapshot = FileUtil.readFromFile(filePath);
+        Task editedTask = new TaskBuilder(CS2103T_WEEK8_QUIZ).withDescription("Week 8 Quiz retake").build();
+        original.setTask(CS2103T_WEEK8_QUIZ, editedTask);
+        original.removeTask(CS2100_TUTORIAL_HOMEWORK);
+        original.addTask(CS2101_OP2);
+        storage.saveSchedule(original);
+        assertEquals(snapshot, FileUtil.readFromFile(filePath));
+        assertEquals(3, Files.readAllLines(journalFilePath).size());
+
+        // Saving without changes does not write anything
+        storage.saveSchedule(original);
+        assertEquals(3, Files.readAllLines(journalFilePath).size());
+
+        ReadOnlySchedule readBack = new JournalScheduleStorage(filePath).readSchedule().get();
+        assertEquals(original, new Schedule(readBack));
+    }
+
+    @Test
+    public void saveSchedule_copiesOfSchedule_appendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("schedule.json");
+        Path journalFilePath = JournalScheduleStorage.getJournalFilePath(filePath);
+        JournalScheduleStorage storage = new JournalScheduleStorage(filePath);
+        Schedule original = getSampleSchedule();
+        storage.saveSchedule(new Schedule(original));
+
+        // Copies share the same immutable tasks, so changes between them can still be journaled
+        original.removeTask(CS2100_TUTORIAL_HOMEWORK);
+        original.addTask(CS2101_OP2);
+        storage.saveSchedule(new Schedule(original));
+        assertEquals(2, Files.readAllLines(journalFilePath).size());
+
+        ReadOnlySchedule readBack = new JournalScheduleStorage(filePath).readSchedule().get();
+        assertEquals(original, new Schedule(readBack));
+    }
+
+    @Test
+    public void saveSchedule_editsMergedIntoOneSave_replayedInOrderMade() throws Exception {
+        Path filePath = testFolder.resolve("schedule.json");
+        JournalScheduleStorage storage = new JournalScheduleStorage(filePath);
+        Task first = new TaskBuilder().withTitle("First").withDateTime("2020-10-10 10:00").withDuration("60").build();
+        Task second = new TaskBuilder().withTitle("Second").withDateTime("2020-10-10 12:00").withDuration("60")
+                .build();
+        Schedule original = new Schedule();
+        original.addTask(first);
+        original.addTask(second);
+        storage.saveSchedule(original);
+
+        // The first task moves into the slot freed by the second, which comes after it in the list
+        Task movedSecond = new TaskBuilder(second).withDateTime("2020-10-10 15:00").build();
+        Task movedFirst = new TaskBuilder(first).withDateTime("2020-10-10 12:00").build();
+        original.setTask(second, movedSecond);
+        original.setTask(first, movedFirst);
+        storage.saveSchedule(original);
+        assertEquals(2, Files.readAllLines(JournalScheduleStorage.getJournalFilePath(filePath)).size());
+
+        assertEquals(original, new Schedule(new JournalScheduleStorage(filePath).readSchedule().get()));
+    }
+
+    @Test
+    public void saveSchedule_firstSaveAfterRead_appendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("schedule.json");
+        Path journalFilePath = JournalScheduleStorage.getJournalFilePath(filePath);
+        JournalScheduleStorage storage = new JournalScheduleStorage(filePath);
+        Schedule original = getSampleSchedule();
+        storage.saveSchedule(original);
+        original.removeTask(CS2100_TUTORIAL_HOMEWORK);
+        storage.saveSchedule(original);
+        String snapshot = FileUtil.readFromFile(filePath);
+
+        // As on startup, the schedule read is copied into the model
+        JournalScheduleStorage reopened = new JournalScheduleStorage(filePath);
+        Schedule model = new Schedule(reopened.readSchedule().get());
+        model.addTask(CS2101_OP2);
+        reopened.saveSchedule(model);
+        assertEquals(snapshot, FileUtil.readFromFile(filePath));
+        assertEquals(2, Files.readAllLines(journalFilePath).size());
+        assertEquals(model, new Schedule(new JournalScheduleStorage(filePath).readSchedule().get()));
+    }
+
+    @Test
+    public void saveSchedule_firstSaveAfterIncompleteLastRecord_writesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("schedule.json");
+        Path journalFilePath = JournalScheduleStorage.getJournalFilePath(filePath);
+        JournalScheduleStorage storage = new JournalScheduleStorage(filePath);
+        Schedule original = getSampleSchedule();
+        storage.saveSchedule(original);
+        original.removeTask(CS2100_TUTORIAL_HOMEWORK);
+        storage.saveSchedule(original);
+        FileUtil.appendToFile(journalFilePath, "{\"type\":\"DEL");
+
+        // Records appended after the incomplete one would be unreadable
+        JournalScheduleStorage reopened = new JournalScheduleStorage(filePath);
+        Schedule model = new Schedule(reopened.readSchedule().get());
+        model.addTask(CS2101_OP2);
+        reopened.saveSchedule(model);
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(model, new Schedule(new JournalScheduleStorage(filePath).readSchedule().get()));
+    }
+
+    @Test
+    public void saveSchedule_journalExceedsThreshold_compacted() throws Exception {
+        Path filePath = testFolder.resolve("schedule.json");
+        Path journalFilePath = JournalScheduleStorage.getJournalFilePath(filePath);
+        JournalScheduleStorage storage = new JournalScheduleStorage(filePath, 1);
+        Schedule original = getSampleSchedule();
+        storage.saveSchedule(original);
+
+        original.addTask(CS2101_OP2);
+        storage.saveSchedule(original);
+        assertTrue(Files.exists(journalFilePath));
+
+        original.removeTask(CS2100_TUTORIAL_HOMEWORK);
+        storage.saveSchedule(original);
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(original, new Schedule(new JsonScheduleStorage(filePath).readSchedule().get()));
+    }
+
+    @Test
+    public void saveSchedule_resetData_writesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("schedule.json");
+        JournalScheduleStorage storage = new JournalScheduleStorage(filePath);
+        Schedule original = getSampleSchedule();
+        storage.saveSchedule(original);
+
+        original.resetData(new Schedule());
+        original.addTask(CS2101_OP2);
+        storage.saveSchedule(original);
+        assertEquals(original, new Schedule(new JournalScheduleStorage(filePath).readSchedule().get()));
+    }
+
+    @Test
+    public void readSchedule_incompleteLastRecord_ignored() throws Exception {
+        Path filePath = testFolder.resolve("schedule.json");
+        JournalScheduleStorage storage = new JournalScheduleStorage(filePath);
+        Schedule original = getSampleSchedule();
+        storage.saveSchedule(original);
+        original.addTask(CS2101_OP2);
+        storage.saveSchedule(original);
+
+        FileUtil.appendToFile(JournalScheduleStorage.getJournalFilePath(filePath), "{\"type\":\"DEL");
+        assertEquals(original, new Schedule(new JournalScheduleStorage(filePath).readSchedule().get()));
+    }
+
+    @Test
+    public void readSchedule_corruptedRecord_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("schedule.json");
+        JournalScheduleStorage storage = new JournalScheduleStorage(filePath);
+        storage.saveSchedule(getSampleSchedule());
+
+        Path journalFilePath = JournalScheduleStorage.getJournalFilePath(filePath);
+        FileUtil.appendToFile(journalFilePath, "not a record\n");
+        FileUtil.appendToFile(journalFilePath, "{\"type\":\"DELETE\"}\n");
+        assertThrows(DataConversionException.class, () -> new JournalScheduleStorage(filePath).readSchedule());
+    }
+
+    @Test
+    public void readScheduleUpToCorruption_corruptedRecord_recordsBeforeReplayed() throws Exception {
+        Path filePath = testFolder.resolve("schedule.json");
+        Path journalFilePath = JournalScheduleStorage.getJournalFilePath(filePath);
+        JournalScheduleStorage storage = new JournalScheduleStorage(filePath);
+        Schedule original = getSampleSchedule();
+        storage.saveSchedule(original);
+        original.addTask(CS2101_OP2);
+        storage.saveSchedule(original);
+        Schedule beforeCorruption = new Schedule(original);
+
+        FileUtil.appendToFile(journalFilePath, "not a record\n");
+        original.removeTask(CS2101_OP2);
+        storage.saveSchedule(original);
+
+        JournalScheduleStorage reopened = new JournalScheduleStorage(filePath);
+        assertThrows(DataConversionException.class, reopened::readSchedule);
+        ReadOnlySchedule salvaged = reopened.readScheduleUpToCorruption().get();
+        assertEquals(beforeCorruption, new Schedule(salvaged));
+
+        // the next save starts afresh from a snapshot
+        reopened.saveSchedule(salvaged);
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(beforeCorruption, new Schedule(new JournalScheduleStorage(filePath).readSchedule().get()));
+    }
+
+    @Test
+    public void readScheduleUpToCorruption_corruptedSnapshot_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("schedule.json");
+        FileUtil.writeToFile(filePath, "not a schedule");
+        FileUtil.appendToFile(JournalScheduleStorage.getJournalFilePath(filePath), "");
+        assertThrows(DataConversionException.class, () ->
+                new JournalScheduleStorage(filePath).readScheduleUpToCorruption());
+    }
+
+    @Test
+    public void saveSchedule_otherFilePath_writesSnapshotOnly() throws Exception {
+        Path filePath = testFolder.resolve("schedule.json");
+        Path otherFilePath = testFolder.resolve("other.json");
+        JournalScheduleStorage storage = new JournalScheduleStorage(filePath);
+        Schedule original = getSampleSchedule();
+        storage.saveSchedule(original, otherFilePath);
+
+        assertFalse(Files.exists(JournalScheduleStorage.getJournalFilePath(otherFilePath)));
+        assertEquals(original, new Schedule(storage.readSchedule(otherFilePath).get()));
+    }
+}
@@ -15,6 +15,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.studybananas.commons.exceptions.DataConversionException;
+import seedu.studybananas.commons.util.FileUtil;
 import seedu.studybananas.model.systemlevelmodel.ReadOnlySchedule;
 import seedu.studybananas.model.systemlevelmodel.Schedule;
 
@@ -85,6 +86,41 @@ public class JsonScheduleStorageTest {
 
     }
 
+    @Test
+    public void saveSchedule_withBackups_scheduleOfPreviousSessionReadableFromBackup() throws Exception {
+        Path filePath = testFolder.resolve("TempSchedule.json");
+        Schedule original = getSampleSchedule();
+        new JsonScheduleStorage(filePath, 1).saveSchedule(original);
+        Schedule previous = new Schedule(original);
+
+        // Only the first save of a session backs the file up
+        JsonScheduleStorage jsonScheduleStorage = new JsonScheduleStorage(filePath, 1);
+        original.addTask(CS2101_OP2);
+        jsonScheduleStorage.saveSchedule(original);
+        original.removeTask(CS2101_OP2);
+        jsonScheduleStorage.saveSchedule(original);
+        original.addTask(CS2101_OP2);
+        jsonScheduleStorage.saveSchedule(original);
+
+        ReadOnlySchedule backup = jsonScheduleStorage.readSchedule(FileUtil.getBackupFilePath(filePath, 1)).get();
+        assertEquals(previous, new Schedule(backup));
+        assertEquals(original, new Schedule(jsonScheduleStorage.readSchedule().get()));
+    }
+
+    @Test
+    public void saveSchedule_fileFailedToLoad_backupKept() throws Exception {
+        Path filePath = testFolder.resolve("TempSchedule.json");
+        Path backupFilePath = FileUtil.getBackupFilePath(filePath, 1);
+        Schedule original = getSampleSchedule();
+        new JsonScheduleStorage(backupFilePath).saveSchedule(original);
+        FileUtil.writeToFile(filePath, "not json");
+
+        JsonScheduleStorage jsonScheduleStorage = new JsonScheduleStorage(filePath, 1);
+        assertThrows(DataConversionException.class, () -> jsonScheduleStorage.readSchedule());
+        jsonScheduleStorage.saveSchedule(new Schedule());
+        assertEquals(original, new Schedule(jsonScheduleStorage.readSchedule(backupFilePath).get()));
+    }
+
     @Test
     public void saveSchedule_nullSchedule_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveSchedule(null, "SomeFile.json"));
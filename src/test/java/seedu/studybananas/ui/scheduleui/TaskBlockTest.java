@@ -0,0 +1,62 @@
+package seedu.studybananas.ui.scheduleui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.studybananas.ui.util.ScheduleUiUtil.INITIAL_PADDING;
+import static seedu.studybananas.ui.util.ScheduleUiUtil.MARGIN_PER_HOUR;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.studybananas.model.task.Task;
+import seedu.studybananas.testutil.TaskBuilder;
+
+public class TaskBlockTest {
+    private static final String TODAY = LocalDate.now().toString();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new TaskBlock(null));
+    }
+
+    @Test
+    public void constructor_longTask_spansDuration() {
+        Task task = new TaskBuilder().withDateTime(TODAY + " 10:00").withDuration("90").build();
+        TaskBlock block = new TaskBlock(task);
+        assertEquals(INITIAL_PADDING + 10 * MARGIN_PER_HOUR, block.getTop(), 1e-9);
+        assertEquals(1.5 * MARGIN_PER_HOUR, block.getHeight(), 1e-9);
+        assertEquals(Optional.of("10:00 AM"), block.getStartTime());
+    }
+
+    @Test
+    public void constructor_shortTask_titleHeightAndNoStartTime() {
+        Task task = new TaskBuilder().withDateTime(TODAY + " 13:30").withDuration("5").build();
+        TaskBlock block = new TaskBlock(task);
+        assertEquals(INITIAL_PADDING + 13.5 * MARGIN_PER_HOUR, block.getTop(), 1e-9);
+        assertEquals(TaskBlock.MINIMUM_HEIGHT, block.getHeight(), 1e-9);
+        assertEquals(Optional.empty(), block.getStartTime());
+    }
+
+    @Test
+    public void contains() {
+        Task task = new TaskBuilder().withDateTime(TODAY + " 10:00").withDuration("60").build();
+        TaskBlock block = new TaskBlock(task);
+        double top = block.getTop();
+        double bottom = top + block.getHeight();
+
+        // within the block, edges included at the top and left only
+        assertTrue(block.contains(TaskBlock.LEFT, top));
+        assertTrue(block.contains(TaskBlock.LEFT + TaskBlock.WIDTH / 2, bottom - 1));
+        assertFalse(block.contains(TaskBlock.LEFT, bottom));
+        assertFalse(block.contains(TaskBlock.LEFT + TaskBlock.WIDTH, top));
+
+        // above, below and beside the block
+        assertFalse(block.contains(TaskBlock.LEFT, top - 1));
+        assertFalse(block.contains(TaskBlock.LEFT, bottom + 1));
+        assertFalse(block.contains(TaskBlock.LEFT - 1, top));
+    }
+}
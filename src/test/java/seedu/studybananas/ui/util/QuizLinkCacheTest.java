@@ -0,0 +1,130 @@
+package seedu.studybananas.ui.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.studybananas.testutil.TypicalFlashcardSets.ECONOMICS;
+import static seedu.studybananas.testutil.TypicalFlashcardSets.getTypicalFlashcardBank;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.studybananas.logic.LogicManager;
+import seedu.studybananas.logic.commands.Command;
+import seedu.studybananas.logic.parser.exceptions.ParseException;
+import seedu.studybananas.model.Model;
+import seedu.studybananas.model.ModelManager;
+import seedu.studybananas.model.flashcard.FlashcardSet;
+import seedu.studybananas.model.systemlevelmodel.QuizRecords;
+import seedu.studybananas.model.systemlevelmodel.Schedule;
+import seedu.studybananas.model.systemlevelmodel.UserPrefs;
+import seedu.studybananas.testutil.FlashcardSetBuilder;
+import seedu.studybananas.ui.util.QuizLinkCache.QuizLink;
+
+public class QuizLinkCacheTest {
+
+    private Model model;
+    private ParseCountingLogic logic;
+    private QuizLinkCache quizLinks;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(new UserPrefs(), new Schedule(), getTypicalFlashcardBank(), new QuizRecords());
+        logic = new ParseCountingLogic(model);
+        quizLinks = new QuizLinkCache(logic);
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new QuizLinkCache(null));
+    }
+
+    @Test
+    public void getQuizLink_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> quizLinks.getQuizLink(null));
+    }
+
+    @Test
+    public void getQuizLink_quizByIndex_returnsQuizLink() {
+        Optional<QuizLink> quizLink = quizLinks.getQuizLink("quiz flset:2");
+        assertTrue(quizLink.isPresent());
+        assertEquals("Quiz: " + ECONOMICS.getFlashcardSetName(), quizLink.get().getText());
+    }
+
+    @Test
+    public void getQuizLink_quizByName_returnsQuizLink() {
+        Optional<QuizLink> quizLink = quizLinks.getQuizLink("quiz flset:economics");
+        assertTrue(quizLink.isPresent());
+        assertEquals("Quiz: " + ECONOMICS.getFlashcardSetName(), quizLink.get().getText());
+    }
+
+    @Test
+    public void getQuizLink_notQuiz_returnsEmptyWithoutParsing() {
+        assertFalse(quizLinks.getQuizLink("Revise chapter 3").isPresent());
+        assertFalse(quizLinks.getQuizLink("").isPresent());
+        assertEquals(0, logic.parseCount);
+    }
+
+    @Test
+    public void getQuizLink_nonExistentFlashcardSet_returnsEmpty() {
+        assertFalse(quizLinks.getQuizLink("quiz flset:10").isPresent());
+        assertFalse(quizLinks.getQuizLink("quiz flset:chemistry").isPresent());
+    }
+
+    @Test
+    public void getQuizLink_sameDescription_parsedOnce() {
+        quizLinks.getQuizLink("quiz flset:2");
+        quizLinks.getQuizLink("quiz flset:2");
+        quizLinks.getQuizLink("quiz flset:chemistry");
+        quizLinks.getQuizLink("quiz flset:chemistry");
+        assertEquals(2, logic.parseCount);
+    }
+
+    @Test
+    public void getQuizLink_flashcardSetAdded_resolvedAgain() {
+        assertFalse(quizLinks.getQuizLink("quiz flset:chemistry").isPresent());
+
+        model.addFlashcardSet(new FlashcardSetBuilder().withFlashcardSetName("Chemistry").build());
+        Optional<QuizLink> quizLink = quizLinks.getQuizLink("quiz flset:chemistry");
+        assertTrue(quizLink.isPresent());
+        assertEquals("Quiz: Chemistry", quizLink.get().getText());
+    }
+
+    @Test
+    public void getQuizLink_flashcardSetRenamed_resolvedAgain() {
+        assertTrue(quizLinks.getQuizLink("quiz flset:economics").isPresent());
+
+        FlashcardSet renamedSet = new FlashcardSetBuilder(ECONOMICS).withFlashcardSetName("Macroeconomics").build();
+        model.setFlashcardSet(ECONOMICS, renamedSet);
+        assertFalse(quizLinks.getQuizLink("quiz flset:economics").isPresent());
+        assertEquals("Quiz: Macroeconomics", quizLinks.getQuizLink("quiz flset:2").get().getText());
+    }
+
+    @Test
+    public void getQuizLink_flashcardSetDeleted_resolvedAgain() {
+        assertTrue(quizLinks.getQuizLink("quiz flset:economics").isPresent());
+
+        model.deleteFlashcardSet(ECONOMICS);
+        assertFalse(quizLinks.getQuizLink("quiz flset:economics").isPresent());
+    }
+
+    /**
+     * A {@code LogicManager} counting the commands it parses.
+     */
+    private static class ParseCountingLogic extends LogicManager {
+        private int parseCount;
+
+        ParseCountingLogic(Model model) {
+            super(model, null);
+        }
+
+        @Override
+        public Command parse(String commandText) throws ParseException {
+            parseCount++;
+            return super.parse(commandText);
+        }
+    }
+}
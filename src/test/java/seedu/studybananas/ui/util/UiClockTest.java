@@ -0,0 +1,35 @@
+package seedu.studybananas.ui.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+public class UiClockTest {
+    private static final LocalDateTime MINUTE = LocalDateTime.of(2020, 10, 10, 13, 0);
+
+    @Test
+    public void getDelayMillis() {
+        // minute yet to start
+        assertEquals(60_000, UiClock.getDelayMillis(MINUTE.minusMinutes(1), MINUTE));
+        assertEquals(1, UiClock.getDelayMillis(MINUTE.minusNanos(1_000_000), MINUTE));
+
+        // minute started
+        assertEquals(0, UiClock.getDelayMillis(MINUTE, MINUTE));
+        assertEquals(0, UiClock.getDelayMillis(MINUTE.plusSeconds(5), MINUTE));
+    }
+
+    @Test
+    public void getTickMinute() {
+        // on time
+        assertEquals(MINUTE, UiClock.getTickMinute(MINUTE, MINUTE));
+        assertEquals(MINUTE, UiClock.getTickMinute(MINUTE.plusSeconds(59), MINUTE));
+
+        // slightly early
+        assertEquals(MINUTE, UiClock.getTickMinute(MINUTE.minusNanos(1_000_000), MINUTE));
+
+        // late, e.g. after the computer was asleep, across midnight
+        assertEquals(MINUTE.plusDays(1), UiClock.getTickMinute(MINUTE.plusDays(1).plusSeconds(3), MINUTE));
+    }
+}